@@ -17,17 +17,21 @@
 package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -42,7 +46,9 @@ import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.enterprise.inject.spi.InjectionTarget;
 import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Singleton;
 
+import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.environment.ContainerInstance;
 import org.jboss.weld.environment.se.Weld;
@@ -73,6 +79,10 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         return new Weld().disableDiscovery().property(ConfigurationKey.CONCURRENT_DEPLOYMENT.get(), false);
     }
 
+    // the annotations of the members a non-contextual instance is injected through
+    private static final Set<String> INJECTION_ANNOTATIONS = Set.of("jakarta.inject.Inject", "jakarta.annotation.Resource",
+            "jakarta.ejb.EJB", "jakarta.persistence.PersistenceContext", "jakarta.persistence.PersistenceUnit");
+
     protected final Weld weld;
 
     protected final List<ToInject> instancesToInject;
@@ -93,11 +103,48 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
 
     protected volatile WeldContainer container;
 
+    private volatile ContainerHandle containerHandle;
+
+    private volatile ContainerCache containerCache;
+
+    // true if the container was booted by another initiator
+    private volatile boolean attached;
+
+    private volatile boolean contextsActive;
+
+    private final boolean lazy;
+
+    // see AbstractBuilder#fastShutdown()
+    private final boolean fastShutdown;
+
+    // null unless the application scoped beans are warmed up, see AbstractBuilder#warmUpApplicationScoped(Class...)
+    private final Set<Class<?>> warmUpTypes;
+
+    // the deferred initialization of the container, see AbstractBuilder#initializeLazily()
+    private volatile Supplier<WeldContainer> lazyInit;
+
+    // null unless the layered mode is used, see AbstractBuilder#addOverlayBeans(Bean...)
+    private final Set<Bean<?>> overlayBeans;
+
+    // the services added to the Weld instance when the container is booted, they are not part of its configuration; guarded
+    // by the Weld instance
+    private final Set<Service> ownServices = Collections.newSetFromMap(new IdentityHashMap<>());
+
     protected AbstractWeldInitiator(Weld weld, List<Object> instancesToInject,
             Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans,
             Map<String, Object> resources, Function<InjectionPoint, Object> ejbFactory,
             Function<InjectionPoint, Object> persistenceUnitFactory,
             Function<InjectionPoint, Object> persistenceContextFactory) {
+        this(weld, instancesToInject, scopesToActivate, beans, resources, ejbFactory, persistenceUnitFactory,
+                persistenceContextFactory, false, false, null, null);
+    }
+
+    protected AbstractWeldInitiator(Weld weld, List<Object> instancesToInject,
+            Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans,
+            Map<String, Object> resources, Function<InjectionPoint, Object> ejbFactory,
+            Function<InjectionPoint, Object> persistenceUnitFactory,
+            Function<InjectionPoint, Object> persistenceContextFactory, boolean lazy, boolean fastShutdown,
+            Set<Class<?>> warmUpTypes, Set<Bean<?>> overlayBeans) {
         this.instancesToInject = new ArrayList<>();
         for (Object instance : instancesToInject) {
             this.instancesToInject.add(createToInject(instance));
@@ -137,6 +184,10 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         this.ejbFactory = ejbFactory;
         this.persistenceContextFactory = persistenceContextFactory;
         this.persistenceUnitFactory = persistenceUnitFactory;
+        this.lazy = lazy;
+        this.fastShutdown = fastShutdown;
+        this.warmUpTypes = warmUpTypes;
+        this.overlayBeans = overlayBeans;
     }
 
     protected ToInject createToInject(Object instanceToInject) {
@@ -160,6 +211,12 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
      * @return an {@code AutoCloseable} to release the creational context
      */
     public AutoCloseable injectNonContextual(Object target) {
+        if (lazyInit != null && !hasInjectionPoints(target.getClass())) {
+            // there is nothing to inject, the container does not need to be initialized yet
+            return () -> {
+            };
+        }
+        checkContainer();
         ToInject toInject = new ToInject(target);
         toInject.inject();
         return toInject::release;
@@ -251,17 +308,59 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
 
     @Override
     public String getId() {
+        checkContainer();
         return container.getId();
     }
 
     /**
-     * Note that any container-based operation will result in {@link IllegalStateException} after shutdown.
+     * Note that any container-based operation will result in {@link IllegalStateException} after shutdown. If the
+     * initialization was deferred and the container was never used, the container is not booted at all.
      */
     @Override
     public void shutdown() {
+        synchronized (this) {
+            if (lazyInit != null) {
+                // the container was never used
+                lazyInit = null;
+                return;
+            }
+        }
         container.shutdown();
     }
 
+    /**
+     * Destroys all the instances of {@link ApplicationScoped} and {@link Singleton} beans and the instances of the scopes
+     * activated by this initiator. New instances are created when needed, i.e. the running container behaves as if it was
+     * booted again but without the cost of discovery, deployment and validation.
+     *
+     * <p>
+     * Note that a {@link Singleton} bean has no client proxy, a reference obtained before the reset still points to the
+     * destroyed instance. The state of extensions and static fields is not reset either.
+     * </p>
+     *
+     * @throws IllegalStateException if the container is not running
+     */
+    public void softReset() {
+        checkContainer();
+        containerHandle.softReset();
+    }
+
+    /**
+     * Destroys the instances of the scopes activated by this initiator on the current thread, the contexts stay active. This
+     * is a lightweight variant of {@link #softReset()} which does not touch {@link ApplicationScoped} and {@link Singleton}
+     * beans. Nothing happens if the initialization of the container was deferred and the container was not used yet.
+     *
+     * @throws IllegalStateException if the container is not running
+     * @see AbstractBuilder#activate(Class...)
+     */
+    public void resetContexts() {
+        if (isInitializationDeferred()) {
+            return;
+        }
+        checkContainer();
+        containerHandle.resetContexts();
+    }
+
     /**
      *
      * @return <code>true</code> if the container was initialized completely and is not shut down yet, <code>false</code>
@@ -282,6 +381,15 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
     }
 
     private void checkContainer() {
+        if (lazyInit != null) {
+            synchronized (this) {
+                Supplier<WeldContainer> init = lazyInit;
+                if (init != null) {
+                    lazyInit = null;
+                    init.get();
+                }
+            }
+        }
         if (container == null || !container.isRunning()) {
             throw new IllegalStateException("Weld container is not running");
         }
@@ -303,6 +411,52 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         }
     }
 
+    /**
+     *
+     * @return {@code true} if the initialization of the container was deferred until the container is used for the first
+     *         time, {@code false} otherwise
+     * @see AbstractBuilder#initializeLazily()
+     */
+    protected boolean isInitializationDeferred() {
+        return lazyInit != null;
+    }
+
+    private boolean hasInstancesToInjectWithInjectionPoints() {
+        if (instancesToInject != null) {
+            for (ToInject toInject : instancesToInject) {
+                if (hasInjectionPoints(toInject.instance.getClass())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasInjectionPoints(Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (hasInjectionAnnotation(field.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                if (hasInjectionAnnotation(method.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasInjectionAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (INJECTION_ANNOTATIONS.contains(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean hasScopesToActivate() {
         return scopesToActivate != null && !scopesToActivate.isEmpty();
     }
@@ -333,8 +487,10 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
         }
 
         void release() {
-            if (creationalContext != null) {
-                creationalContext.release();
+            CreationalContext<?> ctx = creationalContext;
+            if (ctx != null) {
+                creationalContext = null;
+                ctx.release();
             }
         }
 
@@ -359,6 +515,14 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
 
         private Function<InjectionPoint, Object> persistenceContextFactory;
 
+        private boolean lazy;
+
+        private boolean fastShutdown;
+
+        private Set<Class<?>> warmUpTypes;
+
+        private Set<Bean<?>> overlayBeans;
+
         public AbstractBuilder(Weld weld) {
             this.weld = weld;
             this.instancesToInject = new ArrayList<>();
@@ -396,6 +560,22 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
             return ejbFactory;
         }
 
+        protected boolean isLazy() {
+            return lazy;
+        }
+
+        protected boolean isFastShutdown() {
+            return fastShutdown;
+        }
+
+        protected Set<Class<?>> getWarmUpTypes() {
+            return warmUpTypes != null ? new HashSet<>(warmUpTypes) : null;
+        }
+
+        protected Set<Bean<?>> getOverlayBeans() {
+            return overlayBeans != null ? new LinkedHashSet<>(overlayBeans) : null;
+        }
+
         protected Function<InjectionPoint, Object> getPersistenceContextFactory() {
             return persistenceContextFactory;
         }
@@ -457,6 +637,46 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
             return self();
         }
 
+        /**
+         * Instructs the initiator to use the layered mode and resolve the specified beans in front of the beans of the
+         * deployment. Unlike the beans added via {@link #addBeans(Bean...)}, the overlay beans are not part of the deployment.
+         * Therefore, if a {@code ContainerCache} is used, the base container is booted once and reused by all the initiators
+         * with the same deployment, no matter which overlay beans they add.
+         *
+         * <p>
+         * A field injected by the container is set to an instance of the first overlay bean whose bean types contain the type
+         * of the field and whose qualifiers contain all the qualifiers of the field. A single instance is created per bean and
+         * test, regardless of the scope of the bean, and destroyed once the container is no longer used by this initiator.
+         * Constructor and initializer method parameters, programmatic lookup and the instances created before the container
+         * was handed to this initiator, e.g. {@link ApplicationScoped} beans created by a previous test, are not affected. If
+         * an
+         * overlay instance was injected, the {@link ApplicationScoped} and {@link Singleton} instances are
+         * destroyed when the container is released, so that the overlay does not leak into the next test reusing the
+         * container.
+         * </p>
+         *
+         * <p>
+         * An overlay bean can only replace a bean of the deployment, it cannot add a new one. The base deployment is
+         * validated on its own, therefore every injection point must be satisfied by the beans of the deployment, with or
+         * without the overlay beans.
+         * </p>
+         *
+         * <pre>
+         * WeldInitiator.from(Foo.class, Bar.class).addOverlayBeans(MockBean.of(barMock, Bar.class)).build();
+         * </pre>
+         *
+         * @param beans
+         * @return self
+         * @see MockBean
+         */
+        public T addOverlayBeans(Bean<?>... beans) {
+            if (overlayBeans == null) {
+                overlayBeans = new LinkedHashSet<>();
+            }
+            Collections.addAll(overlayBeans, beans);
+            return self();
+        }
+
         /**
          * Binds a name to an object. This allows to mock {@link Resource} injection points easily, e.g.:
          *
@@ -519,6 +739,73 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
             return self();
         }
 
+        /**
+         * Instructs the initiator to defer the initialization of the container until it is used for the first time, e.g. by
+         * calling {@code select()}, {@code getBeanManager()} or {@code container()} or by resolving a test method parameter.
+         * A test which does not use CDI at all does not need to wait for the container to boot.
+         *
+         * <p>
+         * The container is initialized immediately if there is an instance to inject with an injection point, e.g. a test
+         * class with an {@code @Inject} field.
+         * </p>
+         *
+         * @return self
+         */
+        public T initializeLazily() {
+            this.lazy = true;
+            return self();
+        }
+
+        /**
+         * Instructs the initiator to drop the contextual instances without invoking their destroy callbacks, e.g.
+         * {@code @PreDestroy} methods and disposer methods, when the contexts are deactivated and when the container is shut
+         * down. This speeds up the teardown of large deployments if nothing observable depends on the callbacks.
+         *
+         * <p>
+         * The instances of beans whose class is annotated with {@link NeedsCleanup} and of {@link MockBean}s with a destroy
+         * callback are still destroyed properly. The same applies to dependent instances injected into the test instance and to
+         * {@link AbstractWeldInitiator#softReset()}. The number of skipped callbacks and the estimated time saved are logged.
+         * </p>
+         *
+         * @return self
+         * @see NeedsCleanup
+         */
+        public T fastShutdown() {
+            this.fastShutdown = true;
+            return self();
+        }
+
+        /**
+         * Instructs the initiator to instantiate {@link ApplicationScoped} beans right after the container is initialized and
+         * the contexts are activated, so that the test methods do not pay for their creation. The beans are instantiated in
+         * parallel, a bean is instantiated after the application scoped beans it injects. The warm-up is best-effort, a bean
+         * which cannot be instantiated, e.g. because its {@code @PostConstruct} callback uses a context which is not active,
+         * is skipped and created on first use.
+         *
+         * <p>
+         * If no bean types are specified, all the application scoped beans are instantiated. Otherwise only the beans with one
+         * of the given bean types and the application scoped beans they inject are instantiated. The method may be called
+         * multiple times, the bean types are accumulated.
+         * </p>
+         *
+         * @param beanTypes
+         * @return self
+         */
+        public T warmUpApplicationScoped(Class<?>... beanTypes) {
+            if (warmUpTypes == null) {
+                warmUpTypes = new HashSet<>();
+            } else if (warmUpTypes.isEmpty()) {
+                // all the beans are instantiated already
+                return self();
+            }
+            if (beanTypes.length == 0) {
+                warmUpTypes.clear();
+            } else {
+                Collections.addAll(warmUpTypes, beanTypes);
+            }
+            return self();
+        }
+
         protected abstract T self();
 
         protected abstract I build(Weld weld, List<Object> instancesToInject, Set<Class<? extends Annotation>> scopesToActivate,
@@ -529,7 +816,8 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
          * @return a new initiator instance
          */
         public I build() {
-            return build(weld, instancesToInject.isEmpty() ? Collections.emptyList() : new ArrayList<>(instancesToInject),
+            return build(weld,
+                    instancesToInject.isEmpty() ? Collections.emptyList() : new ArrayList<>(instancesToInject),
                     scopesToActivate.isEmpty() ? Collections.<Class<? extends Annotation>> emptySet()
                             : new HashSet<>(scopesToActivate),
                     beans.isEmpty() ? Collections.<Bean<?>> emptySet() : new HashSet<>(beans));
@@ -538,34 +826,302 @@ public abstract class AbstractWeldInitiator implements Instance<Object>, Contain
     }
 
     protected WeldContainer initWeldContainer(Weld weld) {
-        // Register mock injection services if needed
-        if (!resources.isEmpty()) {
-            weld.addServices(new MockResourceInjectionServices(resources));
+        return initWeldContainer(weld, null);
+    }
+
+    /**
+     * If a {@link ContainerCache} is used, a running container with the same {@link DeploymentFingerprint} is reused if
+     * available. The container is then returned to the cache in {@link #shutdownWeldContainer()}.
+     *
+     * @param weld
+     * @param cache the cache, may be {@code null}
+     * @return the container
+     */
+    protected WeldContainer initWeldContainer(Weld weld, ContainerCache cache) {
+        return initWeldContainer(weld, cache, null);
+    }
+
+    /**
+     * If a {@link ContainerPool} is used and a container with the same {@link DeploymentFingerprint} was warmed up, the
+     * warmed-up container is used instead of booting a new one.
+     *
+     * @param weld
+     * @param cache the cache, may be {@code null}
+     * @param pool the pool, may be {@code null}
+     * @return the container, or {@code null} if the initialization was deferred
+     * @see #initWeldContainer(Weld, ContainerCache)
+     * @see AbstractBuilder#initializeLazily()
+     */
+    protected WeldContainer initWeldContainer(Weld weld, ContainerCache cache, ContainerPool pool) {
+        return initWeldContainer(weld, cache, pool, false);
+    }
+
+    /**
+     * The {@link DeploymentFingerprint} of the deployment is only computed if it is needed, i.e. if a {@link ContainerCache}
+     * or a {@link ContainerPool} is used or if other initiators may attach to the container.
+     *
+     * @param weld
+     * @param cache the cache, may be {@code null}
+     * @param pool the pool, may be {@code null}
+     * @param attachable {@code true} if initiators with the same deployment may attach to the container
+     * @return the container, or {@code null} if the initialization was deferred
+     * @see #hasSameDeployment(Weld, AbstractWeldInitiator)
+     */
+    protected WeldContainer initWeldContainer(Weld weld, ContainerCache cache, ContainerPool pool, boolean attachable) {
+        if (lazy && !hasInstancesToInjectWithInjectionPoints()) {
+            lazyInit = () -> bootWeldContainer(weld, cache, pool, attachable);
+            return null;
         }
-        if (ejbFactory != null) {
-            weld.addServices(new MockEjbInjectionServices(ejbFactory));
+        return bootWeldContainer(weld, cache, pool, attachable);
+    }
+
+    private WeldContainer bootWeldContainer(Weld weld, ContainerCache cache, ContainerPool pool, boolean attachable) {
+        // the fingerprint is computed before the boot because the Weld instance is modified during the boot
+        DeploymentFingerprint fingerprint = cache != null || pool != null || attachable ? getFingerprint(weld) : null;
+        Supplier<ContainerHandle> bootFunction = () -> bootContainer(weld, fingerprint, false);
+        if (pool != null && fingerprint != null) {
+            bootFunction = () -> {
+                ContainerHandle handle = pool.take(fingerprint);
+                return handle != null ? handle : bootContainer(weld, fingerprint, false);
+            };
         }
-        if (persistenceContextFactory != null || persistenceUnitFactory != null) {
-            weld.addServices(new MockJpaInjectionServices(persistenceUnitFactory, persistenceContextFactory));
+        if (cache != null && fingerprint != null) {
+            containerCache = cache;
+            return startContainer(cache.acquire(fingerprint, bootFunction));
         }
-        // Init the container
-        container = weld.initialize();
-        if (extension != null) {
-            extension.activateContexts();
+        return startContainer(bootFunction.get());
+    }
+
+    /**
+     * Boots a container for the given configuration on a background thread of the pool. The container is later used by an
+     * initiator with the same {@link DeploymentFingerprint}, this initiator must not be started.
+     *
+     * @param weld
+     * @param pool
+     * @return {@code true} if the container is being warmed up, {@code false} if the pool is full, the memory ceiling is
+     *         exceeded or the deployment cannot be fingerprinted
+     * @see #initWeldContainer(Weld, ContainerCache, ContainerPool)
+     */
+    protected boolean warmUpWeldContainer(Weld weld, ContainerPool pool) {
+        DeploymentFingerprint fingerprint = getFingerprint(weld);
+        return fingerprint != null && pool.warmUp(fingerprint, () -> bootContainer(weld, fingerprint, true));
+    }
+
+    /**
+     *
+     * @param weld the configuration this initiator would boot the container with
+     * @param initiator
+     * @return {@code true} if the container started by the given initiator is running and has the same
+     *         {@link DeploymentFingerprint}, {@code false} otherwise or if the container was not initialized as attachable
+     * @see #attachWeldContainer(AbstractWeldInitiator)
+     */
+    protected boolean hasSameDeployment(Weld weld, AbstractWeldInitiator initiator) {
+        ContainerHandle handle = initiator.containerHandle;
+        if (handle == null || !handle.isRunning() || handle.getFingerprint() == null) {
+            return false;
+        }
+        return handle.getFingerprint().equals(getFingerprint(weld));
+    }
+
+    /**
+     *
+     * @param weld
+     * @return the fingerprint of the deployment this initiator would boot with the given {@link Weld} instance, or
+     *         {@code null} if the deployment cannot be fingerprinted
+     */
+    protected DeploymentFingerprint getFingerprint(Weld weld) {
+        DeploymentFingerprint.Builder builder = DeploymentFingerprint.builder();
+        // Weld is not thread-safe, the instance may be booted by a warm-up thread at the same time
+        synchronized (weld) {
+            // the services registered in bootContainer() are covered by the components below
+            builder.addWeld(weld, ownServices);
+        }
+        return builder
+                .add("resources", new HashMap<>(resources))
+                .add("ejbFactory", ejbFactory)
+                .add("persistenceUnitFactory", persistenceUnitFactory)
+                .add("persistenceContextFactory", persistenceContextFactory)
+                .add("layered", overlayBeans != null)
+                .build();
+    }
+
+    /**
+     *
+     * @param weld
+     * @param fingerprint
+     * @param warmUp {@code true} if the container is booted ahead of time, such a container is not booted at all if it cannot
+     *        be admitted immediately
+     * @return the handle of the booted container, or {@code null} if the warm-up was not admitted
+     * @see ContainerAdmission#tryAdmit()
+     */
+    private ContainerHandle bootContainer(Weld weld, DeploymentFingerprint fingerprint, boolean warmUp) {
+        // Wait until the container may be booted if the number of running containers is limited
+        ContainerAdmission admission = ContainerAdmission.getGlobal();
+        ContainerAdmission.Ticket ticket = null;
+        if (admission != null) {
+            ticket = warmUp ? admission.tryAdmit() : admission.admit();
+            if (ticket == null) {
+                return null;
+            }
+        }
+        try {
+            WeldContainer weldContainer;
+            OverlayInjectionServices overlay = null;
+            // Weld is not thread-safe, a test booting the instance itself must wait until the warm-up of the same
+            // instance is finished, see ContainerPool
+            synchronized (weld) {
+                // Register mock injection services if needed, the services of a previous boot are replaced
+                ownServices.clear();
+                if (!resources.isEmpty()) {
+                    addOwnService(weld, new MockResourceInjectionServices(resources));
+                }
+                if (ejbFactory != null) {
+                    addOwnService(weld, new MockEjbInjectionServices(ejbFactory));
+                }
+                if (persistenceContextFactory != null || persistenceUnitFactory != null) {
+                    addOwnService(weld, new MockJpaInjectionServices(persistenceUnitFactory, persistenceContextFactory));
+                }
+                if (overlayBeans != null) {
+                    overlay = new OverlayInjectionServices();
+                    addOwnService(weld, overlay);
+                }
+                // Init the container
+                weldContainer = weld.initialize();
+            }
+            if (ticket != null) {
+                ticket.booted(weldContainer);
+            }
+            return new ContainerHandle(weldContainer, extension, fingerprint, overlay, ticket);
+        } catch (RuntimeException | Error e) {
+            if (ticket != null) {
+                ticket.release();
+            }
+            throw e;
+        }
+    }
+
+    private void addOwnService(Weld weld, Service service) {
+        ownServices.add(service);
+        weld.addServices(service);
+    }
+
+    private WeldContainer startContainer(ContainerHandle handle) {
+        containerHandle = handle;
+        container = handle.getContainer();
+        // the container may have been booted by another initiator
+        handle.bindMockBeans(extension);
+        if (!attached) {
+            // an attached initiator keeps the setting of the initiator owning the container
+            handle.setFastShutdown(fastShutdown);
+        }
+        if (overlayBeans != null) {
+            handle.bindOverlay(overlayBeans);
+        }
+        handle.activateContexts();
+        contextsActive = true;
+        if (warmUpTypes != null && !attached) {
+            // the beans may use the contexts activated for the deployment
+            ApplicationScopedWarmUp.warmUp(container.getBeanManager(), warmUpTypes);
         }
         injectInstances();
         return container;
     }
 
-    protected void shutdownWeldContainer() {
+    private void deactivateContexts(ContainerHandle handle) {
+        if (handle != null && contextsActive) {
+            contextsActive = false;
+            handle.deactivateContexts();
+        }
+    }
+
+    /**
+     * Starts using the container booted by the given initiator instead of booting a new one. The contexts of the scopes
+     * activated for the deployment are activated and the instances of this initiator are injected, i.e. the configuration of
+     * this initiator is not taken into account.
+     *
+     * <p>
+     * The container is not shut down in {@link #shutdownWeldContainer()}, this initiator is only detached from it.
+     * </p>
+     *
+     * @param initiator the initiator which booted the container
+     * @return the container
+     * @throws IllegalStateException if the container of the given initiator is not running
+     */
+    protected WeldContainer attachWeldContainer(AbstractWeldInitiator initiator) {
+        ContainerHandle handle = initiator.containerHandle;
+        if (handle == null || !handle.isRunning()) {
+            throw new IllegalStateException("Weld container is not running");
+        }
+        attached = true;
+        return startContainer(handle);
+    }
+
+    /**
+     * Deactivates the contexts of the scopes activated for the deployment and releases the injected instances but keeps the
+     * container running, so that other initiators may attach to it. If this initiator booted the container, it still has to
+     * be shut down using {@link #shutdownWeldContainer()}.
+     *
+     * @see #attachWeldContainer(AbstractWeldInitiator)
+     */
+    protected void detachWeldContainer() {
         try {
-            if (extension != null) {
-                extension.deactivateContexts();
+            deactivateContexts(containerHandle);
+            releaseInstances();
+            if (containerHandle != null && containerHandle.isRunning()) {
+                containerHandle.unbindMockBeans();
+                containerHandle.unbindOverlay();
+            }
+        } finally {
+            if (attached) {
+                attached = false;
+                containerHandle = null;
+                container = null;
             }
+        }
+    }
+
+    protected void shutdownWeldContainer() {
+        shutdownWeldContainer(null);
+    }
+
+    /**
+     * If an {@link AsyncContainerShutdown} is used, the contexts are deactivated and the injected instances are released on the
+     * current thread but the container itself is shut down in the background.
+     *
+     * @param asyncShutdown the asynchronous shutdown, may be {@code null}
+     * @see #shutdownWeldContainer()
+     */
+    protected void shutdownWeldContainer(AsyncContainerShutdown asyncShutdown) {
+        // the container was never used
+        lazyInit = null;
+        if (attached) {
+            detachWeldContainer();
+            return;
+        }
+        ContainerHandle handle = containerHandle;
+        ContainerCache cache = containerCache;
+        containerHandle = null;
+        containerCache = null;
+        try {
+            deactivateContexts(handle);
             releaseInstances();
         } finally {
-            if (container != null && container.isRunning()) {
-                container.shutdown();
+            if (cache != null) {
+                // the container keeps running, but it must not be used through this initiator anymore
+                container = null;
+                try {
+                    if (handle.isRunning()) {
+                        handle.unbindMockBeans();
+                        handle.unbindOverlay();
+                    }
+                } finally {
+                    cache.release(handle);
+                }
+            } else if (asyncShutdown != null && handle != null) {
+                container = null;
+                asyncShutdown.shutdown(handle);
+            } else if (handle != null) {
+                handle.shutdown();
             }
         }
     }
@@ -0,0 +1,188 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+/**
+ * Instantiates {@link ApplicationScoped} beans ahead of time on the {@link ForkJoinPool#commonPool()}, so that the first test
+ * method does not pay for their creation.
+ *
+ * <p>
+ * A bean is instantiated after the application scoped beans it injects. The beans are therefore grouped into levels, the beans
+ * of a level are instantiated in parallel once the previous level is finished. The beans forming a dependency cycle are
+ * instantiated in the last level.
+ * </p>
+ *
+ * <p>
+ * The warm-up is best-effort. The worker threads use the context class loader of the initiator but they do not see the
+ * contexts activated by the initiator on its own thread, e.g. {@link jakarta.enterprise.context.RequestScoped}. A bean
+ * which fails to be instantiated on a worker thread is therefore instantiated once more on the calling thread. If it fails
+ * again, it is skipped and created on first use, as if there was no warm-up.
+ * </p>
+ *
+ * @see AbstractWeldInitiator.AbstractBuilder#warmUpApplicationScoped(Class...)
+ */
+final class ApplicationScopedWarmUp {
+
+    private static final Logger LOGGER = Logger.getLogger(ApplicationScopedWarmUp.class.getName());
+
+    private ApplicationScopedWarmUp() {
+    }
+
+    /**
+     * Must be invoked once the contexts of the initiator are activated on the current thread.
+     *
+     * @param beanManager
+     * @param beanTypes if not empty, only the beans with one of the given bean types and their application scoped
+     *        dependencies are instantiated
+     */
+    static void warmUp(BeanManager beanManager, Set<Class<?>> beanTypes) {
+        long start = System.nanoTime();
+        Map<Bean<?>, Set<Bean<?>>> dependencies = new LinkedHashMap<>();
+        List<Bean<?>> toVisit = new ArrayList<>();
+        for (Bean<?> bean : beanManager.getBeans(Object.class, Any.Literal.INSTANCE)) {
+            if (ApplicationScoped.class.equals(bean.getScope()) && matches(bean, beanTypes)) {
+                toVisit.add(bean);
+            }
+        }
+        while (!toVisit.isEmpty()) {
+            Bean<?> bean = toVisit.remove(toVisit.size() - 1);
+            if (!dependencies.containsKey(bean)) {
+                Set<Bean<?>> beanDependencies = findDependencies(beanManager, bean);
+                dependencies.put(bean, beanDependencies);
+                toVisit.addAll(beanDependencies);
+            }
+        }
+        List<List<Bean<?>>> levels = toLevels(dependencies);
+        Context context = beanManager.getContext(ApplicationScoped.class);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        int skipped = 0;
+        for (List<Bean<?>> level : levels) {
+            List<Bean<?>> failed = new CopyOnWriteArrayList<>();
+            // parallel streams are executed on the common pool
+            ForkJoinPool.commonPool().submit(() -> level.parallelStream().forEach(bean -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader previous = thread.getContextClassLoader();
+                thread.setContextClassLoader(classLoader);
+                try {
+                    instantiate(beanManager, context, bean);
+                } catch (RuntimeException e) {
+                    failed.add(bean);
+                } finally {
+                    thread.setContextClassLoader(previous);
+                }
+            })).join();
+            // the bean may depend on the contexts activated on the calling thread
+            for (Bean<?> bean : failed) {
+                try {
+                    instantiate(beanManager, context, bean);
+                } catch (RuntimeException e) {
+                    skipped++;
+                    LOGGER.log(Level.FINE, "Application scoped bean skipped by the warm-up: " + bean, e);
+                }
+            }
+        }
+        int skippedBeans = skipped;
+        LOGGER.fine(() -> "Application scoped beans warmed up [beans: " + dependencies.size() + ", skipped: " + skippedBeans
+                + ", levels: " + levels.size() + ", time: " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                + " ms]");
+    }
+
+    private static boolean matches(Bean<?> bean, Set<Class<?>> beanTypes) {
+        if (beanTypes.isEmpty()) {
+            return true;
+        }
+        for (Type type : bean.getTypes()) {
+            if (beanTypes.contains(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Bean<?>> findDependencies(BeanManager beanManager, Bean<?> bean) {
+        Set<Bean<?>> dependencies = new LinkedHashSet<>();
+        for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+            Bean<?> dependency;
+            try {
+                dependency = beanManager.resolve(beanManager.getBeans(injectionPoint.getType(),
+                        injectionPoint.getQualifiers().toArray(new Annotation[0])));
+            } catch (RuntimeException e) {
+                // e.g. an ambiguous programmatic lookup, the container would fail to boot otherwise
+                continue;
+            }
+            if (dependency != null && dependency != bean && ApplicationScoped.class.equals(dependency.getScope())) {
+                dependencies.add(dependency);
+            }
+        }
+        return dependencies;
+    }
+
+    private static List<List<Bean<?>>> toLevels(Map<Bean<?>, Set<Bean<?>>> dependencies) {
+        List<List<Bean<?>>> levels = new ArrayList<>();
+        Map<Bean<?>, Set<Bean<?>>> remaining = new HashMap<>();
+        dependencies.forEach((bean, beanDependencies) -> remaining.put(bean, new HashSet<>(beanDependencies)));
+        while (!remaining.isEmpty()) {
+            List<Bean<?>> level = new ArrayList<>();
+            for (Map.Entry<Bean<?>, Set<Bean<?>>> entry : remaining.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    level.add(entry.getKey());
+                }
+            }
+            if (level.isEmpty()) {
+                // dependency cycle, the client proxies break it
+                level.addAll(remaining.keySet());
+            }
+            for (Bean<?> bean : level) {
+                remaining.remove(bean);
+            }
+            for (Set<Bean<?>> beanDependencies : remaining.values()) {
+                beanDependencies.removeAll(level);
+            }
+            levels.add(level);
+        }
+        return levels;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static void instantiate(BeanManager beanManager, Context context, Bean bean) {
+        context.get(bean, beanManager.createCreationalContext(bean));
+    }
+
+}
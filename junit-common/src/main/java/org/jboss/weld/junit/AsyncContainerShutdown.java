@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shuts down containers on a background thread, so that the next test can boot its container while the previous one is
+ * being torn down. The contexts are still deactivated and the injected instances released on the test thread.
+ *
+ * <p>
+ * At most {@code maxPending} containers wait for the shutdown. If the limit is reached, the container is shut down on the
+ * calling thread, i.e. the tests are slowed down instead of keeping more and more containers running. {@link #close()} waits
+ * until all the containers are shut down.
+ * </p>
+ *
+ * <p>
+ * Note that {@code WeldContainer.current()} does not work if more than one container is running.
+ * </p>
+ *
+ * @see AbstractWeldInitiator#shutdownWeldContainer(AsyncContainerShutdown)
+ */
+public class AsyncContainerShutdown implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncContainerShutdown.class.getName());
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     *
+     * @param maxPending the maximum number of containers waiting for the shutdown
+     */
+    public AsyncContainerShutdown(int maxPending) {
+        if (maxPending < 1) {
+            throw new IllegalArgumentException("The maximum number of pending shutdowns must be positive: " + maxPending);
+        }
+        String threadName = "weld-shutdown-" + COUNTER.incrementAndGet();
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(maxPending),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    void shutdown(ContainerHandle handle) {
+        try {
+            executor.execute(() -> shutdownQuietly(handle));
+        } catch (RejectedExecutionException e) {
+            // back-pressure - too many pending shutdowns or already closed
+            handle.shutdown();
+        }
+    }
+
+    /**
+     *
+     * @return the number of containers waiting for the shutdown
+     */
+    public int getPending() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Waits until all the containers are shut down. Containers passed after this method was called are shut down on the
+     * calling thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.fine(() -> "Waiting for " + getPending() + " Weld containers to shut down");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void shutdownQuietly(ContainerHandle handle) {
+        try {
+            handle.shutdown();
+        } catch (RuntimeException e) {
+            // there is no test to report the failure to
+            LOGGER.log(Level.WARNING, "Unable to shut down Weld container " + handle.getContainer().getId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+
+/**
+ * The configuration declared by a single class visited by {@link ClassScanner}, e.g. through annotations like
+ * {@code @AddBeanClasses} or {@code @EnableAlternatives}.
+ *
+ * @see ClassScanningAdapter#collectDirectives(Class, ClassDirectives)
+ */
+public final class ClassDirectives {
+
+    private final List<PackageDirective> packages = new ArrayList<>();
+
+    private final Set<Class<?>> beanClasses = new LinkedHashSet<>();
+
+    private final Set<Class<? extends Extension>> extensions = new LinkedHashSet<>();
+
+    private final Set<Class<?>> interceptors = new LinkedHashSet<>();
+
+    private final Set<Class<?>> decorators = new LinkedHashSet<>();
+
+    private final Set<Class<?>> alternatives = new LinkedHashSet<>();
+
+    private final Set<Class<? extends Annotation>> alternativeStereotypes = new LinkedHashSet<>();
+
+    private final Set<Class<?>> excludedBeanClasses = new LinkedHashSet<>();
+
+    private BeanDiscoveryMode beanDiscoveryMode;
+
+    ClassDirectives() {
+    }
+
+    /**
+     *
+     * @param recursively
+     * @param packageClasses the classes whose packages are added
+     * @return self
+     */
+    public ClassDirectives addPackages(boolean recursively, Class<?>... packageClasses) {
+        for (Class<?> packageClass : packageClasses) {
+            PackageDirective directive = new PackageDirective(packageClass, recursively);
+            if (!packages.contains(directive)) {
+                packages.add(directive);
+            }
+        }
+        return this;
+    }
+
+    /**
+     *
+     * @param classes the bean classes, they are scanned as well
+     * @return self
+     */
+    public ClassDirectives addBeanClasses(Class<?>... classes) {
+        Collections.addAll(beanClasses, classes);
+        return this;
+    }
+
+    /**
+     *
+     * @param classes the extension classes, a new instance is created for every deployment
+     * @return self
+     */
+    @SafeVarargs
+    public final ClassDirectives addExtensions(Class<? extends Extension>... classes) {
+        Collections.addAll(extensions, classes);
+        return this;
+    }
+
+    /**
+     *
+     * @param classes the interceptor classes to enable, they are scanned as well
+     * @return self
+     */
+    public ClassDirectives addEnabledInterceptors(Class<?>... classes) {
+        Collections.addAll(interceptors, classes);
+        return this;
+    }
+
+    /**
+     *
+     * @param classes the decorator classes to enable, they are scanned as well
+     * @return self
+     */
+    public ClassDirectives addEnabledDecorators(Class<?>... classes) {
+        Collections.addAll(decorators, classes);
+        return this;
+    }
+
+    /**
+     *
+     * @param classes the alternatives to select
+     * @return self
+     */
+    public ClassDirectives enableAlternatives(Class<?>... classes) {
+        Collections.addAll(alternatives, classes);
+        return this;
+    }
+
+    /**
+     *
+     * @param stereotypes the alternative stereotypes to select
+     * @return self
+     */
+    @SafeVarargs
+    public final ClassDirectives enableAlternativeStereotypes(Class<? extends Annotation>... stereotypes) {
+        Collections.addAll(alternativeStereotypes, stereotypes);
+        return this;
+    }
+
+    /**
+     *
+     * @param classes the classes which must not become beans
+     * @return self
+     */
+    public ClassDirectives excludeBeanClasses(Class<?>... classes) {
+        Collections.addAll(excludedBeanClasses, classes);
+        return this;
+    }
+
+    /**
+     * The discovery mode is set at most once per deployment, the first visited class declaring it wins.
+     *
+     * @param beanDiscoveryMode
+     * @return self
+     */
+    public ClassDirectives setBeanDiscoveryMode(BeanDiscoveryMode beanDiscoveryMode) {
+        this.beanDiscoveryMode = beanDiscoveryMode;
+        return this;
+    }
+
+    List<PackageDirective> getPackages() {
+        return packages;
+    }
+
+    Set<Class<?>> getBeanClasses() {
+        return beanClasses;
+    }
+
+    Set<Class<? extends Extension>> getExtensions() {
+        return extensions;
+    }
+
+    Set<Class<?>> getInterceptors() {
+        return interceptors;
+    }
+
+    Set<Class<?>> getDecorators() {
+        return decorators;
+    }
+
+    Set<Class<?>> getAlternatives() {
+        return alternatives;
+    }
+
+    Set<Class<? extends Annotation>> getAlternativeStereotypes() {
+        return alternativeStereotypes;
+    }
+
+    Set<Class<?>> getExcludedBeanClasses() {
+        return excludedBeanClasses;
+    }
+
+    BeanDiscoveryMode getBeanDiscoveryMode() {
+        return beanDiscoveryMode;
+    }
+
+    static final class PackageDirective {
+
+        final Class<?> packageClass;
+
+        final boolean recursively;
+
+        PackageDirective(Class<?> packageClass, boolean recursively) {
+            this.packageClass = packageClass;
+            this.recursively = recursively;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PackageDirective)) {
+                return false;
+            }
+            PackageDirective other = (PackageDirective) obj;
+            return packageClass.equals(other.packageClass) && recursively == other.recursively;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * packageClass.hashCode() + Boolean.hashCode(recursively);
+        }
+
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.decorator.Decorator;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.inject.Stereotype;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+
+/**
+ * The reflective metadata of a class needed by {@link ClassScanner}, collected in a single pass and memoized for the lifetime
+ * of the class. The metadata of the superclass and the interfaces is reused, i.e. the hierarchy of a class is only walked
+ * once.
+ */
+final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    // the fields of the class hierarchy, the fields of the superclasses first
+    private final List<Field> fields;
+
+    // the methods of the class hierarchy which are not overridden, the methods of the class first
+    private final List<Method> methods;
+
+    private final List<Field> declaredFields;
+
+    private final List<Method> declaredMethods;
+
+    // the first constructor annotated with @Inject found in the class hierarchy, may be null
+    private final Constructor<?> injectConstructor;
+
+    private final boolean beanDefining;
+
+    private ClassMetadata(Class<?> clazz) {
+        this.declaredFields = nonSynthetic(clazz.getDeclaredFields());
+        this.declaredMethods = nonSynthetic(clazz.getDeclaredMethods());
+        Class<?> superclass = clazz.getSuperclass();
+        ClassMetadata superMetadata = superclass != null && superclass != Object.class ? of(superclass) : null;
+
+        List<Field> allFields = new ArrayList<>();
+        if (superMetadata != null) {
+            allFields.addAll(superMetadata.fields);
+        }
+        allFields.addAll(declaredFields);
+        this.fields = Collections.unmodifiableList(allFields);
+
+        List<Method> allMethods = new ArrayList<>(declaredMethods);
+        if (superMetadata != null) {
+            addNotOverridden(allMethods, superMetadata.methods);
+        }
+        for (Class<?> iface : clazz.getInterfaces()) {
+            addNotOverridden(allMethods, of(iface).methods);
+        }
+        this.methods = Collections.unmodifiableList(allMethods);
+
+        Constructor<?> constructor = null;
+        for (Constructor<?> candidate : clazz.getDeclaredConstructors()) {
+            if (candidate.isAnnotationPresent(Inject.class)) {
+                constructor = candidate;
+                break;
+            }
+        }
+        if (constructor == null && clazz.getSuperclass() != null) {
+            constructor = of(clazz.getSuperclass()).injectConstructor;
+        }
+        this.injectConstructor = constructor;
+
+        this.beanDefining = isAnnotated(clazz, NormalScope.class) || isAnnotated(clazz, Dependent.class)
+                || isAnnotated(clazz, Interceptor.class) || isAnnotated(clazz, Decorator.class)
+                || isAnnotated(clazz, Stereotype.class);
+    }
+
+    static ClassMetadata of(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    List<Field> getFields() {
+        return fields;
+    }
+
+    List<Method> getMethods() {
+        return methods;
+    }
+
+    List<Field> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    List<Method> getDeclaredMethods() {
+        return declaredMethods;
+    }
+
+    Constructor<?> getInjectConstructor() {
+        return injectConstructor;
+    }
+
+    /**
+     *
+     * @return {@code true} if the class has a bean defining annotation, {@code false} otherwise
+     */
+    boolean isBeanDefining() {
+        return beanDefining;
+    }
+
+    /**
+     *
+     * @param element
+     * @param annotationType
+     * @return {@code true} if the annotation is present or meta-present on the given element, {@code false} otherwise
+     */
+    static boolean isAnnotated(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+        if (element.isAnnotationPresent(annotationType)) {
+            return true;
+        }
+        Set<Class<? extends Annotation>> visited = new HashSet<>();
+        for (Annotation annotation : element.getAnnotations()) {
+            if (isMetaAnnotated(annotation.annotationType(), annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMetaAnnotated(Class<? extends Annotation> candidate, Class<? extends Annotation> annotationType,
+            Set<Class<? extends Annotation>> visited) {
+        if (candidate.getName().startsWith("java.lang.annotation") || !visited.add(candidate)) {
+            return false;
+        }
+        if (candidate.isAnnotationPresent(annotationType)) {
+            return true;
+        }
+        for (Annotation annotation : candidate.getAnnotations()) {
+            if (isMetaAnnotated(annotation.annotationType(), annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addNotOverridden(List<Method> methods, List<Method> inherited) {
+        List<Method> local = new ArrayList<>(methods);
+        for (Method method : inherited) {
+            if (!isOverridden(method, local)) {
+                methods.add(method);
+            }
+        }
+    }
+
+    private static boolean isOverridden(Method method, List<Method> local) {
+        for (Method candidate : local) {
+            if (candidate.getName().equals(method.getName())
+                    && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T extends Member> List<T> nonSynthetic(T[] members) {
+        List<T> result = new ArrayList<>(members.length);
+        for (T member : members) {
+            if (!member.isSynthetic()) {
+                result.add(member);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+}
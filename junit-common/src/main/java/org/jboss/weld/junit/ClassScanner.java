@@ -0,0 +1,476 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.se.Weld;
+
+/**
+ * Provides <b>automagic</b> bean class discovery for test classes. Starting with the test classes, the scanner follows the
+ * injection points, producers and test lifecycle method parameters and adds every visited class with a bean defining
+ * annotation to the deployment, along with the configuration collected by the {@link ClassScanningAdapter}.
+ *
+ * <p>
+ * The reflective metadata of a class and the results of the adapter are memoized per class. The result of a scan is
+ * memoized per test class as an immutable {@link ScanPlan}, i.e. the graph is traversed once and the plan is replayed onto
+ * the {@link Weld} instance of every container. The plans may also be persisted between test runs, see {@link ScanCache}, or
+ * generated at build time, see {@link ScanManifest}. A scanner is thread-safe and is supposed to be shared by all the tests
+ * using the same adapter.
+ * </p>
+ */
+public class ClassScanner {
+
+    /**
+     * If set to {@code true}, the class graph is traversed in parallel, see
+     * {@link #ClassScanner(ClassScanningAdapter, boolean)}.
+     */
+    public static final String PARALLEL = "org.jboss.weld.junit.scanning.parallel";
+
+    private final ClassScanningAdapter adapter;
+
+    private final boolean parallel;
+
+    private final ScanCache cache;
+
+    private final boolean manifests;
+
+    private final ClassValue<ScannedClass> scannedClasses = new ClassValue<ScannedClass>() {
+        @Override
+        protected ScannedClass computeValue(Class<?> type) {
+            return new ScannedClass(type, adapter);
+        }
+    };
+
+    // the plans keyed by the innermost test class
+    private final ClassValue<ConcurrentMap<PlanKey, ScanPlan>> plans = new ClassValue<ConcurrentMap<PlanKey, ScanPlan>>() {
+        @Override
+        protected ConcurrentMap<PlanKey, ScanPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     *
+     * @param adapter the framework specific part of the discovery
+     */
+    public ClassScanner(ClassScanningAdapter adapter) {
+        this(adapter, Boolean.getBoolean(PARALLEL), ScanCache.getGlobal(),
+                !Boolean.FALSE.toString().equalsIgnoreCase(System.getProperty(ScanManifest.ENABLED)));
+    }
+
+    /**
+     * In the parallel mode, the classes reachable from the test classes are scanned on the {@link ForkJoinPool#commonPool()}
+     * first. The plan is then computed from the memoized results in the same order as in the serial mode, i.e. the resulting
+     * configuration is identical. The parallel mode pays off for test classes reaching thousands of classes.
+     *
+     * @param adapter the framework specific part of the discovery
+     * @param parallel whether the class graph is traversed in parallel
+     */
+    public ClassScanner(ClassScanningAdapter adapter, boolean parallel) {
+        this(adapter, parallel, null, false);
+    }
+
+    /**
+     * If a cache is set, the plan of a test class is loaded from the cache unless one of the classes which contributed to
+     * the cached plan has changed. A computed plan is stored in the cache.
+     *
+     * @param adapter the framework specific part of the discovery
+     * @param parallel whether the class graph is traversed in parallel
+     * @param cache the persistent cache, may be {@code null}
+     */
+    public ClassScanner(ClassScanningAdapter adapter, boolean parallel, ScanCache cache) {
+        this(adapter, parallel, cache, false);
+    }
+
+    /**
+     * If the scan manifests are enabled, the plan of a test class is read from the manifest generated at build time, unless
+     * the manifest is missing or stale. The manifests take precedence over the cache.
+     *
+     * @param adapter the framework specific part of the discovery
+     * @param parallel whether the class graph is traversed in parallel
+     * @param cache the persistent cache, may be {@code null}
+     * @param manifests whether the scan manifests are used
+     * @see ScanManifest
+     */
+    public ClassScanner(ClassScanningAdapter adapter, boolean parallel, ScanCache cache, boolean manifests) {
+        this.adapter = adapter;
+        this.parallel = parallel;
+        this.cache = cache;
+        this.manifests = manifests;
+    }
+
+    /**
+     * Adds the bean classes required by the given test classes and the configuration declared by the visited classes to the
+     * given {@link Weld} instance.
+     *
+     * @param testClasses
+     * @param weld
+     * @param explicitInjection if set to {@code true}, only the parameters with a qualifier are followed
+     * @see #plan(List, boolean)
+     */
+    public void scan(List<Class<?>> testClasses, Weld weld, boolean explicitInjection) {
+        plan(testClasses, explicitInjection).applyTo(weld);
+    }
+
+    /**
+     * The plan is memoized per test class, i.e. the graph is only traversed once, no matter how many containers are booted
+     * for the test class.
+     *
+     * @param testClasses the test classes, ordered from the outermost to the innermost one
+     * @param explicitInjection if set to {@code true}, only the parameters with a qualifier are followed
+     * @return the plan for the given test classes
+     */
+    public ScanPlan plan(List<Class<?>> testClasses, boolean explicitInjection) {
+        if (testClasses.isEmpty()) {
+            throw new IllegalArgumentException("No test class to scan");
+        }
+        return plans.get(testClasses.get(testClasses.size() - 1))
+                .computeIfAbsent(new PlanKey(testClasses, explicitInjection), key -> loadOrComputePlan(testClasses,
+                        explicitInjection));
+    }
+
+    private ScanPlan loadOrComputePlan(List<Class<?>> testClasses, boolean explicitInjection) {
+        if (manifests) {
+            ScanPlan plan = ScanManifest.load(adapter, testClasses, explicitInjection);
+            if (plan != null) {
+                return plan;
+            }
+        }
+        if (cache == null) {
+            return computePlan(testClasses, explicitInjection, new HashSet<>());
+        }
+        StringBuilder key = new StringBuilder(adapter.getClass().getName()).append(':').append(explicitInjection);
+        for (Class<?> testClass : testClasses) {
+            key.append(':').append(testClass.getName());
+        }
+        ScanPlan plan = cache.load(key.toString(), testClasses.get(testClasses.size() - 1).getClassLoader());
+        if (plan == null) {
+            Set<Class<?>> foundClasses = new LinkedHashSet<>();
+            plan = computePlan(testClasses, explicitInjection, foundClasses);
+            cache.store(key.toString(), foundClasses, plan);
+        }
+        return plan;
+    }
+
+    private ScanPlan computePlan(List<Class<?>> testClasses, boolean explicitInjection, Set<Class<?>> foundClasses) {
+
+        if (parallel) {
+            prefetch(testClasses, explicitInjection);
+        }
+
+        Deque<Class<?>> classesToProcess = new ArrayDeque<>(testClasses);
+
+        Set<Type> excludedBeanTypes = new HashSet<>();
+        Set<Class<?>> excludedBeanClasses = new HashSet<>();
+        BeanDiscoveryMode beanDiscoveryMode = null;
+
+        Set<Class<?>> beanClasses = new LinkedHashSet<>();
+        List<ClassDirectives.PackageDirective> packages = new ArrayList<>();
+        Set<Class<? extends Extension>> extensions = new LinkedHashSet<>();
+        Set<Class<?>> interceptors = new LinkedHashSet<>();
+        Set<Class<?>> decorators = new LinkedHashSet<>();
+        Set<Class<?>> alternatives = new LinkedHashSet<>();
+        Set<Class<? extends Annotation>> alternativeStereotypes = new LinkedHashSet<>();
+
+        Class<?> currClass;
+        while ((currClass = classesToProcess.poll()) != null) {
+
+            if (foundClasses.contains(currClass) ||
+                    excludedBeanTypes.contains(currClass) || excludedBeanClasses.contains(currClass) ||
+                    isIgnored(currClass)) {
+                continue;
+            }
+
+            foundClasses.add(currClass);
+
+            ScannedClass scannedClass = scannedClasses.get(currClass);
+            excludedBeanTypes.addAll(scannedClass.excludedBeanTypes);
+            classesToProcess.addAll(explicitInjection ? scannedClass.explicitDependencies : scannedClass.dependencies);
+
+            ClassDirectives directives = scannedClass.directives;
+            for (ClassDirectives.PackageDirective directive : directives.getPackages()) {
+                if (!packages.contains(directive)) {
+                    packages.add(directive);
+                }
+            }
+            classesToProcess.addAll(directives.getBeanClasses());
+            beanClasses.addAll(directives.getBeanClasses());
+            extensions.addAll(directives.getExtensions());
+            classesToProcess.addAll(directives.getInterceptors());
+            interceptors.addAll(directives.getInterceptors());
+            beanClasses.addAll(directives.getInterceptors());
+            classesToProcess.addAll(directives.getDecorators());
+            decorators.addAll(directives.getDecorators());
+            beanClasses.addAll(directives.getDecorators());
+            alternatives.addAll(directives.getAlternatives());
+            alternativeStereotypes.addAll(directives.getAlternativeStereotypes());
+            excludedBeanClasses.addAll(directives.getExcludedBeanClasses());
+
+            // discovery mode can only be set once; we use the first annotation we find
+            if (beanDiscoveryMode == null) {
+                beanDiscoveryMode = directives.getBeanDiscoveryMode();
+            }
+        }
+
+        for (Class<?> foundClass : foundClasses) {
+            if (ClassMetadata.of(foundClass).isBeanDefining()) {
+                beanClasses.add(foundClass);
+            }
+        }
+
+        return new ScanPlan(beanClasses, packages, extensions, interceptors, decorators, alternatives, alternativeStereotypes,
+                excludedBeanTypes, excludedBeanClasses, beanDiscoveryMode);
+    }
+
+    /**
+     * Scans the classes reachable from the given test classes level by level, i.e. the depth of the class graph does not
+     * affect the depth of the stack. The exclusions are only applied in the serial pass, so a few more classes may be scanned.
+     */
+    private void prefetch(List<Class<?>> testClasses, boolean explicitInjection) {
+        Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+        List<Class<?>> frontier = testClasses;
+        while (!frontier.isEmpty()) {
+            frontier = ForkJoinPool.commonPool().invoke(new ScanTask(frontier, visited, explicitInjection));
+        }
+    }
+
+    private static boolean isIgnored(Class<?> clazz) {
+        return clazz.isPrimitive() || clazz.isSynthetic() ||
+                clazz.getName().startsWith("java") || clazz.getName().startsWith("sun");
+    }
+
+    /**
+     * Scans a part of the current level and returns the classes of the next level.
+     */
+    private final class ScanTask extends RecursiveTask<List<Class<?>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int THRESHOLD = 16;
+
+        private final List<Class<?>> classes;
+
+        private final Set<Class<?>> visited;
+
+        private final boolean explicitInjection;
+
+        private ScanTask(List<Class<?>> classes, Set<Class<?>> visited, boolean explicitInjection) {
+            this.classes = classes;
+            this.visited = visited;
+            this.explicitInjection = explicitInjection;
+        }
+
+        @Override
+        protected List<Class<?>> compute() {
+            if (classes.size() > THRESHOLD) {
+                int middle = classes.size() / 2;
+                ScanTask left = new ScanTask(classes.subList(0, middle), visited, explicitInjection);
+                left.fork();
+                List<Class<?>> next = new ScanTask(classes.subList(middle, classes.size()), visited, explicitInjection)
+                        .compute();
+                next.addAll(left.join());
+                return next;
+            }
+            List<Class<?>> next = new ArrayList<>();
+            for (Class<?> clazz : classes) {
+                if (isIgnored(clazz) || !visited.add(clazz)) {
+                    continue;
+                }
+                ScannedClass scannedClass;
+                try {
+                    scannedClass = scannedClasses.get(clazz);
+                } catch (RuntimeException | LinkageError e) {
+                    // the serial pass reports the problem if the class is not excluded
+                    continue;
+                }
+                next.addAll(explicitInjection ? scannedClass.explicitDependencies : scannedClass.dependencies);
+                next.addAll(scannedClass.directives.getBeanClasses());
+                next.addAll(scannedClass.directives.getInterceptors());
+                next.addAll(scannedClass.directives.getDecorators());
+            }
+            return next;
+        }
+
+    }
+
+    /**
+     * Identifies a plan of the innermost test class.
+     */
+    private static final class PlanKey {
+
+        private final List<Class<?>> testClasses;
+
+        private final boolean explicitInjection;
+
+        private PlanKey(List<Class<?>> testClasses, boolean explicitInjection) {
+            this.testClasses = List.copyOf(testClasses);
+            this.explicitInjection = explicitInjection;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) obj;
+            return explicitInjection == other.explicitInjection && testClasses.equals(other.testClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * testClasses.hashCode() + Boolean.hashCode(explicitInjection);
+        }
+
+    }
+
+    /**
+     * The memoized scan of a single class.
+     */
+    private static final class ScannedClass {
+
+        // the classes to visit next, for implicit and explicit parameter injection
+        private final List<Class<?>> dependencies;
+
+        private final List<Class<?>> explicitDependencies;
+
+        private final Set<Type> excludedBeanTypes;
+
+        private final ClassDirectives directives;
+
+        private ScannedClass(Class<?> clazz, ClassScanningAdapter adapter) {
+            ClassMetadata metadata = ClassMetadata.of(clazz);
+            Class<? extends Annotation> excludeBean = adapter.getExcludeBeanAnnotation();
+            List<Class<?>> implicit = new ArrayList<>();
+            List<Class<?>> explicit = new ArrayList<>();
+
+            Set<Type> excluded = new HashSet<>();
+            for (Field field : metadata.getFields()) {
+                if (ClassMetadata.isAnnotated(field, excludeBean)) {
+                    excluded.add(field.getType());
+                }
+            }
+            for (Method method : metadata.getMethods()) {
+                if (ClassMetadata.isAnnotated(method, excludeBean)) {
+                    excluded.add(method.getReturnType());
+                }
+            }
+            this.excludedBeanTypes = Collections.unmodifiableSet(excluded);
+
+            for (Field field : metadata.getFields()) {
+                if (ClassMetadata.isAnnotated(field, Inject.class)) {
+                    Class<?> type = unwrapInstanceTypeParameter(field);
+                    implicit.add(type);
+                    explicit.add(type);
+                }
+            }
+            for (Method method : metadata.getMethods()) {
+                if (ClassMetadata.isAnnotated(method, Inject.class)) {
+                    addParameterTypes(method, implicit, explicit);
+                }
+            }
+            if (metadata.getInjectConstructor() != null) {
+                addParameterTypes(metadata.getInjectConstructor(), implicit, explicit);
+            }
+            for (Field field : metadata.getDeclaredFields()) {
+                if (ClassMetadata.isAnnotated(field, Produces.class)) {
+                    implicit.add(field.getType());
+                    explicit.add(field.getType());
+                }
+            }
+            for (Method method : metadata.getDeclaredMethods()) {
+                if (ClassMetadata.isAnnotated(method, Produces.class)) {
+                    addParameterTypes(method, implicit, explicit);
+                    implicit.add(method.getReturnType());
+                    explicit.add(method.getReturnType());
+                }
+            }
+            for (Method method : metadata.getMethods()) {
+                if (adapter.isInjectableMethod(method)) {
+                    addParameterTypes(method, implicit, explicit);
+                }
+            }
+            this.dependencies = Collections.unmodifiableList(implicit);
+            this.explicitDependencies = Collections.unmodifiableList(explicit);
+
+            this.directives = new ClassDirectives();
+            adapter.collectDirectives(clazz, directives);
+        }
+
+        private static void addParameterTypes(Executable executable, List<Class<?>> implicit, List<Class<?>> explicit) {
+            Annotation[][] paramAnns = executable.getParameterAnnotations();
+            Class<?>[] paramTypes = executable.getParameterTypes();
+            for (int c = 0; c < paramTypes.length; ++c) {
+                implicit.add(paramTypes[c]);
+                if (isBeanParameter(paramAnns[c])) {
+                    explicit.add(paramTypes[c]);
+                }
+            }
+        }
+
+        private static boolean isBeanParameter(Annotation[] annotations) {
+            for (Annotation annotation : annotations) {
+                if (ClassMetadata.isAnnotated(annotation.annotationType(), Qualifier.class)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Class<?> unwrapInstanceTypeParameter(Field field) {
+            Class<?> type = field.getType();
+            if (type.equals(Instance.class) && field.getGenericType() instanceof ParameterizedType) {
+                Type typeParameter = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+                if (typeParameter instanceof ParameterizedType) {
+                    type = (Class<?>) ((ParameterizedType) typeParameter).getRawType();
+                } else if (typeParameter instanceof Class) {
+                    type = (Class<?>) typeParameter;
+                }
+            }
+            return type;
+        }
+
+    }
+
+}
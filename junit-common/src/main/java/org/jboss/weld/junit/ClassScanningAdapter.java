@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * Supplies the framework specific parts of the <b>automagic</b> bean class discovery performed by {@link ClassScanner}, i.e.
+ * the test lifecycle methods and the configuration annotations of the test framework.
+ *
+ * <p>
+ * The results of the adapter are memoized per class, therefore they must only depend on the given class or method.
+ * </p>
+ */
+public interface ClassScanningAdapter {
+
+    /**
+     *
+     * @return the annotation marking the fields and producer methods whose types are excluded from the deployment
+     */
+    Class<? extends Annotation> getExcludeBeanAnnotation();
+
+    /**
+     *
+     * @param method
+     * @return {@code true} if the parameters of the given method may be resolved by the container, e.g. for a test method,
+     *         {@code false} otherwise
+     */
+    boolean isInjectableMethod(Method method);
+
+    /**
+     * Collects the configuration declared by the given class, e.g. the additional bean classes or the enabled alternatives.
+     *
+     * @param clazz the visited class
+     * @param directives the configuration of the class
+     */
+    void collectDirectives(Class<?> clazz, ClassDirectives directives);
+
+}
@@ -0,0 +1,460 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * Limits the number of containers running at the same time, e.g. if the tests are executed in parallel. A new container is
+ * only booted if fewer than {@code maxContainers} containers admitted by this controller are running and the estimated heap
+ * footprint of all of them, including the new one, does not exceed {@code maxHeap}. Otherwise the test waits until a
+ * container is shut down. The waiting tests are admitted in the order of their arrival. A container booted ahead of time by a
+ * {@link ContainerPool} does not wait, it is not booted at all if there is no capacity.
+ *
+ * <p>
+ * The footprint of a container is estimated as the average growth of the used heap memory while a container was booted. If a
+ * test has to wait, the idle containers kept by a {@link ContainerCache} or a {@link ContainerPool} are shut down first. If a
+ * test waits longer than {@code maxWait} nevertheless, it is admitted anyway so that the running containers can never block
+ * the test run.
+ * </p>
+ *
+ * <p>
+ * The global controller is configured through the system properties {@link #MAX_CONTAINERS}, {@link #MAX_HEAP} and
+ * {@link #MAX_WAIT} and consulted whenever an initiator boots a new container.
+ * </p>
+ *
+ * @see AbstractWeldInitiator#initWeldContainer(org.jboss.weld.environment.se.Weld, ContainerCache, ContainerPool)
+ */
+public class ContainerAdmission {
+
+    /**
+     * The maximum number of running containers.
+     */
+    public static final String MAX_CONTAINERS = "org.jboss.weld.junit.admission.maxContainers";
+
+    /**
+     * The maximum estimated heap footprint of all the running containers, a number of bytes, optionally followed by {@code k},
+     * {@code m} or {@code g}.
+     */
+    public static final String MAX_HEAP = "org.jboss.weld.junit.admission.maxHeap";
+
+    /**
+     * The maximum number of milliseconds a test waits for the admission, 60 seconds by default.
+     */
+    public static final String MAX_WAIT = "org.jboss.weld.junit.admission.maxWait";
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerAdmission.class.getName());
+
+    // waiting tests re-check the running containers periodically, a container may be shut down directly
+    private static final long RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // the caches and pools keeping idle containers, weakly referenced
+    private static final Set<IdleContainers> IDLE_CONTAINERS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static ContainerAdmission global;
+
+    private static boolean globalInitialized;
+
+    private final int maxContainers;
+
+    private final long maxHeap;
+
+    private final long maxWaitNanos;
+
+    // FIFO, only the first waiting test may be admitted
+    private final Deque<Object> queue = new ArrayDeque<>();
+
+    private final Set<Ticket> running = new HashSet<>();
+
+    private long footprintSum;
+
+    private int footprintSamples;
+
+    private int admitted;
+
+    private int queued;
+
+    private int timedOut;
+
+    private int evicted;
+
+    private int rejected;
+
+    private long totalWaitNanos;
+
+    private long maxWaitedNanos;
+
+    /**
+     *
+     * @param maxContainers the maximum number of running containers
+     * @param maxHeap the maximum estimated heap footprint of all the running containers in bytes
+     * @param maxWaitMillis the maximum number of milliseconds a test waits for the admission
+     */
+    public ContainerAdmission(int maxContainers, long maxHeap, long maxWaitMillis) {
+        if (maxContainers < 1) {
+            throw new IllegalArgumentException("The maximum number of containers must be positive: " + maxContainers);
+        }
+        this.maxContainers = maxContainers;
+        this.maxHeap = maxHeap;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    /**
+     *
+     * @return the global controller or {@code null} if neither {@link #MAX_CONTAINERS} nor {@link #MAX_HEAP} is set
+     */
+    public static synchronized ContainerAdmission getGlobal() {
+        if (!globalInitialized) {
+            globalInitialized = true;
+            String maxContainers = System.getProperty(MAX_CONTAINERS);
+            String maxHeap = System.getProperty(MAX_HEAP);
+            if (maxContainers != null || maxHeap != null) {
+                global = new ContainerAdmission(
+                        maxContainers != null ? Integer.parseInt(maxContainers.trim()) : Integer.MAX_VALUE,
+                        maxHeap != null ? parseMemorySize(maxHeap) : Long.MAX_VALUE,
+                        Long.parseLong(System.getProperty(MAX_WAIT, "60000").trim()));
+            }
+        }
+        return global;
+    }
+
+    /**
+     * Replaces the global controller, e.g. with a controller configured programmatically.
+     *
+     * @param admission the new global controller, may be {@code null}
+     */
+    public static synchronized void setGlobal(ContainerAdmission admission) {
+        globalInitialized = true;
+        global = admission;
+    }
+
+    /**
+     *
+     * @param value the number of bytes, optionally followed by {@code k}, {@code m} or {@code g}
+     * @return the number of bytes
+     */
+    public static long parseMemorySize(String value) {
+        String size = value.trim().toLowerCase(Locale.ROOT);
+        long multiplier = 1;
+        switch (size.isEmpty() ? ' ' : size.charAt(size.length() - 1)) {
+            case 'g':
+                multiplier *= 1024;
+                // fall through
+            case 'm':
+                multiplier *= 1024;
+                // fall through
+            case 'k':
+                multiplier *= 1024;
+                size = size.substring(0, size.length() - 1);
+                break;
+            default:
+                break;
+        }
+        return Long.parseLong(size.trim()) * multiplier;
+    }
+
+    /**
+     * Blocks until a new container may be booted. While there is no capacity, the first waiting test shuts down the idle
+     * containers kept by the caches and pools one by one, the least recently used first, before it starts waiting.
+     *
+     * @return the ticket which has to be released once the container is shut down or fails to boot
+     */
+    Ticket admit() {
+        Object position = new Object();
+        long start = System.nanoTime();
+        boolean waiting = false;
+        synchronized (this) {
+            queue.addLast(position);
+        }
+        try {
+            while (true) {
+                boolean first;
+                synchronized (this) {
+                    first = queue.peekFirst() == position;
+                    if (first && hasCapacity()) {
+                        break;
+                    }
+                    if (!waiting) {
+                        waiting = true;
+                        queued++;
+                    }
+                    long remaining = start + maxWaitNanos - System.nanoTime();
+                    if (remaining <= 0) {
+                        timedOut++;
+                        LOGGER.warning(() -> "Weld container admitted after waiting " + TimeUnit.NANOSECONDS
+                                .toMillis(System.nanoTime() - start) + " ms, " + running.size() + " containers running");
+                        break;
+                    }
+                    if (!first) {
+                        TimeUnit.NANOSECONDS.timedWait(this, Math.min(remaining, RECHECK_NANOS));
+                        continue;
+                    }
+                }
+                // shutting down an idle container releases its ticket, the lock must not be held
+                if (evictIdle()) {
+                    synchronized (this) {
+                        evicted++;
+                    }
+                } else {
+                    synchronized (this) {
+                        long remaining = start + maxWaitNanos - System.nanoTime();
+                        if (remaining > 0 && !hasCapacity()) {
+                            TimeUnit.NANOSECONDS.timedWait(this, Math.min(remaining, RECHECK_NANOS));
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // the test is admitted immediately and fails on its own
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            queue.remove(position);
+            // the next waiting test may be admitted now
+            notifyAll();
+            long waited = System.nanoTime() - start;
+            admitted++;
+            totalWaitNanos += waited;
+            maxWaitedNanos = Math.max(maxWaitedNanos, waited);
+            Ticket ticket = new Ticket();
+            running.add(ticket);
+            return ticket;
+        }
+    }
+
+    /**
+     * Registers idle containers which may be shut down to admit a new container. The given instance is weakly referenced, i.e.
+     * it has to be referenced by its owner.
+     *
+     * @param idleContainers
+     */
+    static void register(IdleContainers idleContainers) {
+        synchronized (IDLE_CONTAINERS) {
+            IDLE_CONTAINERS.add(idleContainers);
+        }
+    }
+
+    /**
+     * Admits a container booted ahead of time, see {@link ContainerPool}, only if it can be booted immediately. Such a
+     * container never waits for the admission nor shuts down an idle container, i.e. it neither delays a test nor replaces a
+     * container which may be used.
+     *
+     * @return the ticket which has to be released once the container is shut down or fails to boot, or {@code null} if no
+     *         test is waiting for the admission and there is no capacity
+     */
+    synchronized Ticket tryAdmit() {
+        if (!queue.isEmpty() || !hasCapacity()) {
+            rejected++;
+            return null;
+        }
+        admitted++;
+        Ticket ticket = new Ticket();
+        running.add(ticket);
+        return ticket;
+    }
+
+    private static boolean evictIdle() {
+        List<IdleContainers> candidates;
+        synchronized (IDLE_CONTAINERS) {
+            candidates = new ArrayList<>(IDLE_CONTAINERS);
+        }
+        for (IdleContainers idleContainers : candidates) {
+            if (idleContainers.evictIdle()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasCapacity() {
+        // containers shut down directly, e.g. via WeldContainer.shutdown(), are never released
+        for (Iterator<Ticket> it = running.iterator(); it.hasNext();) {
+            if (it.next().isShutDown()) {
+                it.remove();
+            }
+        }
+        if (running.isEmpty()) {
+            return true;
+        }
+        long footprint = footprintSamples == 0 ? 0 : footprintSum / footprintSamples;
+        return running.size() < maxContainers && footprint * (running.size() + 1) <= maxHeap;
+    }
+
+    private synchronized void recordFootprint(long footprint) {
+        if (footprint > 0) {
+            footprintSum += footprint;
+            footprintSamples++;
+        }
+    }
+
+    private synchronized void release(Ticket ticket) {
+        if (running.remove(ticket)) {
+            notifyAll();
+        }
+    }
+
+    /**
+     *
+     * @return the number of running containers admitted by this controller
+     */
+    public synchronized int getRunning() {
+        return running.size();
+    }
+
+    /**
+     *
+     * @return the number of admitted containers
+     */
+    public synchronized int getAdmitted() {
+        return admitted;
+    }
+
+    /**
+     *
+     * @return the number of containers which had to wait for the admission
+     */
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    /**
+     *
+     * @return the number of containers admitted after waiting longer than the maximum wait time
+     */
+    public synchronized int getTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     *
+     * @return the number of idle containers shut down to admit a new container
+     */
+    public synchronized int getEvicted() {
+        return evicted;
+    }
+
+    /**
+     *
+     * @return the number of containers booted ahead of time which were not admitted
+     * @see #tryAdmit()
+     */
+    public synchronized int getRejected() {
+        return rejected;
+    }
+
+    /**
+     *
+     * @return the total time spent waiting for the admission in milliseconds
+     */
+    public synchronized long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos);
+    }
+
+    /**
+     *
+     * @return the longest time spent waiting for the admission in milliseconds
+     */
+    public synchronized long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitedNanos);
+    }
+
+    /**
+     *
+     * @return the estimated heap footprint of a container in bytes, or {@code 0} if not known yet
+     */
+    public synchronized long getEstimatedFootprint() {
+        return footprintSamples == 0 ? 0 : footprintSum / footprintSamples;
+    }
+
+    /**
+     * Logs the statistics of the controller, e.g. at the end of the test run.
+     */
+    public void report() {
+        LOGGER.info(this::toString);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ContainerAdmission [admitted: " + admitted + ", queued: " + queued + ", evicted: " + evicted
+                + ", rejected: " + rejected + ", timed out: " + timedOut + ", total wait: " + getTotalWaitMillis()
+                + " ms, max wait: " + getMaxWaitMillis()
+                + " ms, estimated footprint: " + getEstimatedFootprint() / 1024 + " kB]";
+    }
+
+    /**
+     * Keeps running containers which are not used by any test.
+     */
+    interface IdleContainers {
+
+        /**
+         * Shuts down the least recently used idle container.
+         *
+         * @return {@code true} if a container was shut down, {@code false} if there is no idle container
+         */
+        boolean evictIdle();
+
+    }
+
+    /**
+     * Represents an admitted container.
+     */
+    final class Ticket {
+
+        private final long usedBefore = usedMemory();
+
+        private volatile WeldContainer container;
+
+        /**
+         * Records the heap footprint of the container.
+         *
+         * @param container the booted container
+         */
+        void booted(WeldContainer container) {
+            this.container = container;
+            recordFootprint(usedMemory() - usedBefore);
+        }
+
+        boolean isShutDown() {
+            WeldContainer current = container;
+            return current != null && !current.isRunning();
+        }
+
+        void release() {
+            ContainerAdmission.this.release(this);
+        }
+
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Keeps running containers which are not used by any test, keyed by their {@link DeploymentFingerprint}, so that the next
+ * initiator with the same deployment does not need to boot Weld again.
+ *
+ * <p>
+ * A container is leased exclusively, i.e. it is never used by two initiators at the same time. If there is no idle
+ * container for the deployment, a new one is booted. At most {@code maxIdle} idle containers are kept, the least recently
+ * used one is shut down when the limit is exceeded. A container whose fingerprint is not
+ * {@link DeploymentFingerprint#isShareable()
+ * shareable} is shut down immediately, because no other initiator could ever reuse it. If a {@link ContainerAdmission}
+ * controller blocks the boot of a new container, the idle containers are shut down first.
+ * </p>
+ *
+ * <p>
+ * Note that a reused container keeps the state of application scoped and singleton beans unless the soft reset is enabled.
+ * Also note that {@code WeldContainer.current()} does not work if more than one container is running.
+ * </p>
+ *
+ * @see DeploymentFingerprint
+ */
+public class ContainerCache implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerCache.class.getName());
+
+    private final int maxIdle;
+
+    private final boolean softReset;
+
+    // access-ordered, i.e. the eldest entry is the least recently used one
+    private final Map<DeploymentFingerprint, ContainerHandle> idle;
+
+    private int hits;
+
+    private int misses;
+
+    private boolean closed;
+
+    // referenced by this cache, the admission controller only keeps a weak reference
+    private final ContainerAdmission.IdleContainers idleContainers = this::evictIdle;
+
+    /**
+     *
+     * @param maxIdle the maximum number of idle containers kept running
+     */
+    public ContainerCache(int maxIdle) {
+        this(maxIdle, false);
+    }
+
+    /**
+     *
+     * @param maxIdle the maximum number of idle containers kept running
+     * @param softReset if set to {@code true}, the application scoped and singleton instances of a container are destroyed
+     *        before the container is reused
+     * @see AbstractWeldInitiator#softReset()
+     */
+    public ContainerCache(int maxIdle, boolean softReset) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("The maximum number of idle containers must not be negative: " + maxIdle);
+        }
+        this.maxIdle = maxIdle;
+        this.softReset = softReset;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+        ContainerAdmission.register(idleContainers);
+    }
+
+    ContainerHandle acquire(DeploymentFingerprint fingerprint, Supplier<ContainerHandle> bootFunction) {
+        ContainerHandle handle;
+        synchronized (this) {
+            handle = idle.remove(fingerprint);
+            if (handle != null && handle.isRunning()) {
+                hits++;
+            } else {
+                handle = null;
+                misses++;
+            }
+        }
+        if (handle == null) {
+            return bootFunction.get();
+        }
+        if (softReset) {
+            handle.softReset();
+        }
+        return handle;
+    }
+
+    void release(ContainerHandle handle) {
+        if (!handle.isRunning()) {
+            return;
+        }
+        List<ContainerHandle> toShutdown = new ArrayList<>();
+        synchronized (this) {
+            if (closed || maxIdle == 0 || !handle.getFingerprint().isShareable()
+                    || idle.containsKey(handle.getFingerprint())) {
+                toShutdown.add(handle);
+            } else {
+                idle.put(handle.getFingerprint(), handle);
+                for (Iterator<ContainerHandle> it = idle.values().iterator(); idle.size() > maxIdle;) {
+                    toShutdown.add(it.next());
+                    it.remove();
+                }
+            }
+        }
+        for (ContainerHandle evicted : toShutdown) {
+            evicted.shutdown();
+        }
+    }
+
+    private boolean evictIdle() {
+        ContainerHandle eldest;
+        synchronized (this) {
+            Iterator<ContainerHandle> it = idle.values().iterator();
+            if (!it.hasNext()) {
+                return false;
+            }
+            eldest = it.next();
+            it.remove();
+        }
+        eldest.shutdown();
+        return true;
+    }
+
+    /**
+     *
+     * @return the number of idle containers
+     */
+    public synchronized int size() {
+        return idle.size();
+    }
+
+    /**
+     * Shuts down all idle containers. Containers released after this method was called are shut down immediately.
+     */
+    @Override
+    public void close() {
+        List<ContainerHandle> toShutdown;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toShutdown = new ArrayList<>(idle.values());
+            idle.clear();
+            LOGGER.fine(() -> "Container cache closed [hits: " + hits + ", misses: " + misses + "]");
+        }
+        for (ContainerHandle handle : toShutdown) {
+            handle.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Singleton;
+
+import org.jboss.weld.contexts.AbstractSharedContext;
+import org.jboss.weld.contexts.PassivatingContextWrapper;
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * A running container together with the extension it was booted with. The extension holds the contexts of the scopes
+ * activated for the deployment, therefore any initiator using the container has to use this extension, not its own one.
+ */
+final class ContainerHandle {
+
+    private final WeldContainer container;
+
+    private final WeldCDIExtension extension;
+
+    private final DeploymentFingerprint fingerprint;
+
+    private final OverlayInjectionServices overlay;
+
+    private final ContainerAdmission.Ticket ticket;
+
+    // set by the initiator using the container
+    private volatile boolean fastShutdown;
+
+    ContainerHandle(WeldContainer container, WeldCDIExtension extension, DeploymentFingerprint fingerprint) {
+        this(container, extension, fingerprint, null, null);
+    }
+
+    ContainerHandle(WeldContainer container, WeldCDIExtension extension, DeploymentFingerprint fingerprint,
+            OverlayInjectionServices overlay, ContainerAdmission.Ticket ticket) {
+        this.container = container;
+        this.extension = extension;
+        this.fingerprint = fingerprint;
+        this.overlay = overlay;
+        this.ticket = ticket;
+    }
+
+    WeldContainer getContainer() {
+        return container;
+    }
+
+    DeploymentFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    boolean isRunning() {
+        return container.isRunning();
+    }
+
+    /**
+     *
+     * @param fastShutdown whether the instances which do not need cleanup are dropped without invoking their destroy
+     *        callbacks
+     * @see FastShutdown
+     */
+    void setFastShutdown(boolean fastShutdown) {
+        this.fastShutdown = fastShutdown;
+    }
+
+    void activateContexts() {
+        if (extension != null) {
+            extension.activateContexts();
+        }
+    }
+
+    void deactivateContexts() {
+        if (extension != null) {
+            if (fastShutdown) {
+                long start = System.nanoTime();
+                FastShutdown.report("the contexts of container " + container.getId(), extension.deactivateContexts(true),
+                        start);
+            } else {
+                extension.deactivateContexts();
+            }
+        }
+    }
+
+    /**
+     * Destroys the instances of the contexts activated for the deployment on the current thread.
+     */
+    void resetContexts() {
+        if (extension != null) {
+            extension.resetContexts();
+        }
+    }
+
+    /**
+     * Makes the swappable mock beans of the deployment use the callbacks of the beans of the given extension.
+     *
+     * @param other the extension of the initiator using the container
+     */
+    void bindMockBeans(WeldCDIExtension other) {
+        if (extension != null && other != null && other != extension) {
+            extension.bindMockBeans(other);
+        }
+    }
+
+    /**
+     * Destroys the contextual instances of the swappable mock beans and resets the mocks they handed out, so that the
+     * container may be used by another initiator.
+     */
+    void unbindMockBeans() {
+        if (extension != null) {
+            extension.unbindMockBeans(container.getBeanManager());
+        }
+    }
+
+    /**
+     * Makes the container resolve the given overlay beans first, see {@link OverlayInjectionServices}.
+     *
+     * @param beans the overlay beans of the initiator using the container
+     */
+    void bindOverlay(Set<Bean<?>> beans) {
+        if (overlay != null) {
+            overlay.bind(beans);
+        }
+    }
+
+    /**
+     * Destroys the instances of the overlay beans, so that the container may be used by another initiator. If an overlay
+     * instance was injected, the {@link ApplicationScoped} and {@link Singleton} instances are destroyed as well, because
+     * any of them may hold a reference to an overlay instance.
+     */
+    void unbindOverlay() {
+        if (overlay != null && overlay.unbind()) {
+            BeanManager beanManager = container.getBeanManager();
+            invalidate(beanManager, ApplicationScoped.class);
+            invalidate(beanManager, Singleton.class);
+        }
+    }
+
+    /**
+     * Destroys the instances of the contexts activated for the deployment on the current thread and all the
+     * {@link ApplicationScoped} and {@link Singleton} instances.
+     */
+    void softReset() {
+        resetContexts();
+        BeanManager beanManager = container.getBeanManager();
+        invalidate(beanManager, ApplicationScoped.class);
+        invalidate(beanManager, Singleton.class);
+    }
+
+    private static void invalidate(BeanManager beanManager, Class<? extends Annotation> scope) {
+        Context context = PassivatingContextWrapper.unwrap(beanManager.getContext(scope));
+        if (context instanceof AbstractSharedContext) {
+            // the instances are destroyed, new ones are created when needed
+            ((AbstractSharedContext) context).invalidate();
+        }
+    }
+
+    void shutdown() {
+        try {
+            if (container.isRunning()) {
+                if (fastShutdown) {
+                    long start = System.nanoTime();
+                    BeanManager beanManager = container.getBeanManager();
+                    int skipped = FastShutdown.dropSharedInstances(beanManager, ApplicationScoped.class)
+                            + FastShutdown.dropSharedInstances(beanManager, Singleton.class);
+                    container.shutdown();
+                    FastShutdown.report("container " + container.getId(), skipped, start);
+                } else {
+                    container.shutdown();
+                }
+            }
+        } finally {
+            if (ticket != null) {
+                // another container may be admitted now
+                ticket.release();
+            }
+        }
+    }
+
+}
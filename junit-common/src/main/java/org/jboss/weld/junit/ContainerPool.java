@@ -0,0 +1,258 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Boots containers on background threads ahead of time, so that a test whose deployment was predicted correctly does not
+ * need to wait for Weld to boot. A warmed-up container is handed out at most once and only to an initiator with the same
+ * {@link DeploymentFingerprint}, i.e. unlike with {@link ContainerCache} the test always gets a fresh container.
+ *
+ * <p>
+ * At most {@code maxSize} containers are warmed up or waiting to be used at the same time. No container is warmed up if the
+ * heap usage exceeds the given memory ceiling. If the pool is full and a test does not find its container, the oldest
+ * container is considered a misprediction and shut down. The oldest warmed-up container is also shut down if a
+ * {@link ContainerAdmission} controller blocks the boot of a container for a test.
+ * </p>
+ *
+ * <p>
+ * The container is booted from the {@code Weld} instance of the predicted initiator. Since {@code Weld} is not thread-safe,
+ * the initiator does not read nor boot the instance while it is being booted by the pool.
+ * </p>
+ *
+ * <p>
+ * Note that {@code WeldContainer.current()} does not work if more than one container is running.
+ * </p>
+ *
+ * @see AbstractWeldInitiator#warmUpWeldContainer(org.jboss.weld.environment.se.Weld, ContainerPool)
+ */
+public class ContainerPool implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerPool.class.getName());
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final int maxSize;
+
+    private final long memoryCeiling;
+
+    private final ExecutorService executor;
+
+    // insertion-ordered, i.e. the first entry is the oldest one
+    private final Map<Future<ContainerHandle>, DeploymentFingerprint> containers;
+
+    private int hits;
+
+    private int misses;
+
+    private int rejected;
+
+    private boolean closed;
+
+    // referenced by this pool, the admission controller only keeps a weak reference
+    private final ContainerAdmission.IdleContainers idleContainers = this::evictIdle;
+
+    /**
+     *
+     * @param maxSize the maximum number of containers warmed up ahead of time
+     * @param memoryCeiling no container is warmed up if the used heap memory in bytes exceeds this value
+     */
+    public ContainerPool(int maxSize, long memoryCeiling) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum number of containers must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.memoryCeiling = memoryCeiling;
+        this.containers = new LinkedHashMap<>();
+        this.executor = Executors.newFixedThreadPool(Math.min(maxSize, Runtime.getRuntime().availableProcessors()),
+                new WarmUpThreadFactory());
+        ContainerAdmission.register(idleContainers);
+    }
+
+    /**
+     *
+     * @return the maximum number of containers warmed up ahead of time
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     *
+     * @return {@code true} if another container may be warmed up, {@code false} otherwise
+     */
+    public synchronized boolean hasCapacity() {
+        return !closed && containers.size() < maxSize;
+    }
+
+    /**
+     *
+     * @return the number of containers warmed up or waiting to be used
+     */
+    public synchronized int size() {
+        return containers.size();
+    }
+
+    boolean warmUp(DeploymentFingerprint fingerprint, Supplier<ContainerHandle> bootFunction) {
+        synchronized (this) {
+            if (closed || containers.size() >= maxSize || usedMemory() > memoryCeiling) {
+                rejected++;
+                return false;
+            }
+            containers.put(executor.submit(bootFunction::get), fingerprint);
+        }
+        return true;
+    }
+
+    ContainerHandle take(DeploymentFingerprint fingerprint) {
+        Future<ContainerHandle> match = null;
+        Future<ContainerHandle> evicted = null;
+        synchronized (this) {
+            for (Iterator<Map.Entry<Future<ContainerHandle>, DeploymentFingerprint>> it = containers.entrySet().iterator(); it
+                    .hasNext();) {
+                Map.Entry<Future<ContainerHandle>, DeploymentFingerprint> entry = it.next();
+                if (entry.getValue().equals(fingerprint)) {
+                    match = entry.getKey();
+                    it.remove();
+                    break;
+                }
+            }
+            if (match != null) {
+                hits++;
+            } else {
+                misses++;
+                if (containers.size() >= maxSize) {
+                    Iterator<Future<ContainerHandle>> it = containers.keySet().iterator();
+                    evicted = it.next();
+                    it.remove();
+                }
+            }
+        }
+        if (evicted != null) {
+            Future<ContainerHandle> mispredicted = evicted;
+            try {
+                executor.execute(() -> shutdown(mispredicted));
+            } catch (RejectedExecutionException e) {
+                // the pool was closed in the meantime
+                shutdown(mispredicted);
+            }
+        }
+        if (match == null) {
+            return null;
+        }
+        ContainerHandle handle = await(match);
+        return handle != null && handle.isRunning() ? handle : null;
+    }
+
+    // the oldest container which is warmed up already is the least likely to be used
+    private boolean evictIdle() {
+        Future<ContainerHandle> evicted = null;
+        synchronized (this) {
+            for (Iterator<Future<ContainerHandle>> it = containers.keySet().iterator(); it.hasNext();) {
+                Future<ContainerHandle> future = it.next();
+                if (future.isDone()) {
+                    evicted = future;
+                    it.remove();
+                    break;
+                }
+            }
+        }
+        if (evicted == null) {
+            return false;
+        }
+        shutdown(evicted);
+        return true;
+    }
+
+    /**
+     * Waits for the containers which are being warmed up and shuts down all the containers which were not used.
+     */
+    @Override
+    public void close() {
+        List<Future<ContainerHandle>> toShutdown;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toShutdown = new ArrayList<>(containers.keySet());
+            containers.clear();
+            LOGGER.fine(() -> "Container pool closed [hits: " + hits + ", misses: " + misses + ", rejected: " + rejected
+                    + ", unused: " + toShutdown.size() + "]");
+        }
+        for (Future<ContainerHandle> future : toShutdown) {
+            shutdown(future);
+        }
+        executor.shutdown();
+    }
+
+    private static void shutdown(Future<ContainerHandle> future) {
+        ContainerHandle handle = await(future);
+        if (handle != null) {
+            handle.shutdown();
+        }
+    }
+
+    private static ContainerHandle await(Future<ContainerHandle> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            // the test boots the container itself and reports the problem if it fails again
+            LOGGER.log(Level.FINE, "Unable to warm up Weld container", e.getCause());
+            return null;
+        }
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class WarmUpThreadFactory implements ThreadFactory {
+
+        private final int poolId = POOL_COUNTER.incrementAndGet();
+
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "weld-warm-pool-" + poolId + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
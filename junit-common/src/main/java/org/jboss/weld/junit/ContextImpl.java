@@ -17,6 +17,8 @@
 package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -42,7 +44,9 @@ class ContextImpl implements Context {
     private final BeanManager beanManager;
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<Map<Contextual<?>, ContextualInstance<?>>> currentContext = new ThreadLocal<>();
+    // The context may be activated again on the same thread, e.g. for a nested test class attached to the container of its
+    // enclosing class, the previous instances are restored once the context is deactivated
+    private final ThreadLocal<Deque<Map<Contextual<?>, ContextualInstance<?>>>> currentContext = new ThreadLocal<>();
 
     ContextImpl(Class<? extends Annotation> scope, BeanManager beanManager) {
         this.scope = scope;
@@ -55,7 +59,7 @@ class ContextImpl implements Context {
 
     @SuppressWarnings("unchecked")
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        Map<Contextual<?>, ContextualInstance<?>> ctx = currentContext.get();
+        Map<Contextual<?>, ContextualInstance<?>> ctx = getCurrentContext();
 
         if (ctx == null) {
             // Thread local not set - context is not active!
@@ -77,11 +81,11 @@ class ContextImpl implements Context {
     }
 
     public boolean isActive() {
-        return currentContext.get() != null;
+        return getCurrentContext() != null;
     }
 
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextualInstance<?>> ctx = currentContext.get();
+        Map<Contextual<?>, ContextualInstance<?>> ctx = getCurrentContext();
         if (ctx == null) {
             return;
         }
@@ -89,25 +93,70 @@ class ContextImpl implements Context {
     }
 
     public void activate() {
-        currentContext.set(new HashMap<Contextual<?>, ContextualInstance<?>>());
+        Deque<Map<Contextual<?>, ContextualInstance<?>>> stack = currentContext.get();
+        if (stack == null) {
+            stack = new ArrayDeque<>();
+            currentContext.set(stack);
+        }
+        stack.push(new HashMap<Contextual<?>, ContextualInstance<?>>());
         beanManager.getEvent().select(Initialized.Literal.of(scope)).fire(new Object());
     }
 
     public void deactivate() {
-        Map<Contextual<?>, ContextualInstance<?>> ctx = currentContext.get();
-        if (ctx == null) {
-            return;
+        deactivate(false);
+    }
+
+    /**
+     *
+     * @param fastShutdown if set to {@code true}, the instances which do not need cleanup are dropped without invoking their
+     *        destroy callbacks
+     * @return the number of skipped destroy callbacks
+     * @see FastShutdown
+     */
+    int deactivate(boolean fastShutdown) {
+        Deque<Map<Contextual<?>, ContextualInstance<?>>> stack = currentContext.get();
+        if (stack == null) {
+            return 0;
+        }
+        Map<Contextual<?>, ContextualInstance<?>> ctx = stack.pop();
+        int skipped = destroyInstances(ctx, fastShutdown);
+        if (stack.isEmpty()) {
+            currentContext.remove();
         }
+        beanManager.getEvent().select(Destroyed.Literal.of(scope)).fire(new Object());
+        return skipped;
+    }
+
+    /**
+     * Destroys all the instances of the current thread, the context remains active.
+     */
+    public void reset() {
+        Map<Contextual<?>, ContextualInstance<?>> ctx = getCurrentContext();
+        if (ctx != null) {
+            destroyInstances(ctx, false);
+        }
+    }
+
+    private int destroyInstances(Map<Contextual<?>, ContextualInstance<?>> ctx, boolean fastShutdown) {
+        int skipped = 0;
         for (ContextualInstance<?> instance : ctx.values()) {
+            if (fastShutdown && !FastShutdown.needsCleanup(instance.getContextual())) {
+                skipped++;
+                continue;
+            }
             try {
-                instance.destroy();
+                FastShutdown.destroy(instance::destroy);
             } catch (Exception e) {
                 LOGGER.warning("Unable to destroy instance" + instance.get() + " for bean: " + instance.getContextual());
             }
         }
         ctx.clear();
-        currentContext.remove();
-        beanManager.getEvent().select(Destroyed.Literal.of(scope)).fire(new Object());
+        return skipped;
+    }
+
+    private Map<Contextual<?>, ContextualInstance<?>> getCurrentContext() {
+        Deque<Map<Contextual<?>, ContextualInstance<?>>> stack = currentContext.get();
+        return stack != null ? stack.peek() : null;
     }
 
     /**
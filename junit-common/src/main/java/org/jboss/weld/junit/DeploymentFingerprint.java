@@ -0,0 +1,310 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.environment.deployment.WeldResourceLoader;
+import org.jboss.weld.environment.se.Weld;
+
+/**
+ * A value object describing the final configuration of a deployment - bean classes, packages, alternatives, interceptors,
+ * decorators, extensions, properties, activated scopes and added beans. Two initiators with equal fingerprints would boot
+ * equivalent containers, hence a running container can be reused for either of them.
+ *
+ * <p>
+ * Components which are re-created for every test (extensions, mock beans, ...) are compared by identity unless they
+ * implement {@link Fingerprintable}. Extensions without any instance state are compared by their class. A fingerprint
+ * with such an identity component is never equal to the fingerprint of another deployment, see {@link #isShareable()}.
+ * </p>
+ *
+ * @see ContainerCache
+ * @see Fingerprintable
+ */
+public final class DeploymentFingerprint {
+
+    private static final Logger LOGGER = Logger.getLogger(DeploymentFingerprint.class.getName());
+
+    // Weld does not expose its configuration, these are the fields read reflectively
+    private static final String[] WELD_FIELDS = { "containerId", "discoveryEnabled", "beanClasses",
+            "extendedBeanDefiningAnnotations", "beanDiscoveryMode", "selectedAlternatives", "selectedAlternativeStereotypes",
+            "enabledInterceptors", "enabledDecorators", "extensions", "buildCompatibleExtensions", "properties", "packages",
+            "containerLifecycleObservers", "resourceLoader", "additionalServices" };
+
+    private static final Map<String, Field> WELD_FIELD_CACHE = findWeldFields();
+
+    // true if the instances of a class are compared by identity
+    private static final ClassValue<Boolean> IDENTITY_EQUALS = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() == Object.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
+    private final Map<String, Object> components;
+
+    private final int hashCode;
+
+    private final boolean shareable;
+
+    private DeploymentFingerprint(Map<String, Object> components) {
+        this.components = components;
+        this.hashCode = components.hashCode();
+        this.shareable = isShareable(components);
+    }
+
+    /**
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DeploymentFingerprint)) {
+            return false;
+        }
+        DeploymentFingerprint other = (DeploymentFingerprint) obj;
+        return hashCode == other.hashCode && components.equals(other.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * A fingerprint containing a component compared by identity, e.g. a mock bean which is not swappable or an extension with
+     * instance state which does not implement {@link Fingerprintable}, is only equal to the fingerprint of the very same
+     * deployment. Keeping the container of such a deployment running for later reuse is pointless.
+     *
+     * @return {@code true} if the fingerprint may be equal to the fingerprint of another deployment, {@code false} otherwise
+     */
+    boolean isShareable() {
+        return shareable;
+    }
+
+    @Override
+    public String toString() {
+        return "DeploymentFingerprint[" + Integer.toHexString(hashCode) + "]";
+    }
+
+    private static boolean isShareable(Object value) {
+        if (value == null || value instanceof Class || value instanceof Enum) {
+            // canonical instances
+            return true;
+        }
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (!isShareable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!isShareable(entry.getKey()) || !isShareable(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return !IDENTITY_EQUALS.get(value.getClass());
+    }
+
+    private static Map<String, Field> findWeldFields() {
+        Map<String, Field> fields = new HashMap<>();
+        for (String name : WELD_FIELDS) {
+            try {
+                Field field = Weld.class.getDeclaredField(name);
+                field.setAccessible(true);
+                fields.put(name, field);
+            } catch (NoSuchFieldException | RuntimeException e) {
+                // Unknown Weld version - deployments cannot be fingerprinted
+                LOGGER.log(Level.FINE, "Unable to read Weld." + name + ", deployment fingerprinting is disabled", e);
+                return null;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * A builder instance should not be reused nor shared.
+     */
+    public static final class Builder {
+
+        private final Map<String, Object> components = new LinkedHashMap<>();
+
+        private boolean supported = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a component compared using its {@code equals()} method.
+         *
+         * @param key
+         * @param value
+         * @return self
+         */
+        public Builder add(String key, Object value) {
+            components.put(key, value);
+            return this;
+        }
+
+        /**
+         * Adds all the configuration of the given {@link Weld} instance.
+         *
+         * @param weld
+         * @return self
+         */
+        public Builder addWeld(Weld weld) {
+            return addWeld(weld, Collections.emptySet());
+        }
+
+        /**
+         * Adds all the configuration of the given {@link Weld} instance except for the given services, e.g. the services
+         * registered by an initiator itself when it boots the container.
+         *
+         * @param weld
+         * @param excludedServices the services compared by identity
+         * @return self
+         */
+        Builder addWeld(Weld weld, Collection<?> excludedServices) {
+            if (WELD_FIELD_CACHE == null) {
+                supported = false;
+                return this;
+            }
+            add("weld", weld.getClass());
+            for (Map.Entry<String, Field> entry : WELD_FIELD_CACHE.entrySet()) {
+                Object value;
+                try {
+                    value = entry.getValue().get(weld);
+                } catch (IllegalAccessException e) {
+                    supported = false;
+                    return this;
+                }
+                if (value instanceof WeldResourceLoader && value.getClass() == WeldResourceLoader.class) {
+                    // the default resource loader is created for each Weld instance but has no configuration
+                    value = WeldResourceLoader.class;
+                }
+                if (value instanceof Map && !excludedServices.isEmpty() && entry.getKey().equals("additionalServices")) {
+                    Map<Object, Object> services = new HashMap<>((Map<?, ?>) value);
+                    services.values().removeIf(service -> excludedServices.stream().anyMatch(excluded -> excluded == service));
+                    value = services;
+                }
+                add("weld." + entry.getKey(), normalize(value));
+            }
+            return this;
+        }
+
+        /**
+         *
+         * @return the fingerprint or {@code null} if the deployment cannot be fingerprinted
+         */
+        public DeploymentFingerprint build() {
+            return supported ? new DeploymentFingerprint(new HashMap<>(components)) : null;
+        }
+
+        private static Object normalize(Object value) {
+            if (value instanceof List) {
+                // ordering matters, e.g. for enabled interceptors
+                List<Object> normalized = new ArrayList<>();
+                for (Object element : (List<?>) value) {
+                    normalized.add(normalize(element));
+                }
+                return normalized;
+            }
+            if (value instanceof Collection) {
+                Set<Object> normalized = new HashSet<>();
+                for (Object element : (Collection<?>) value) {
+                    normalized.add(normalize(element));
+                }
+                return normalized;
+            }
+            if (value instanceof Map) {
+                Map<Object, Object> normalized = new HashMap<>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    normalized.put(entry.getKey(), normalize(entry.getValue()));
+                }
+                return normalized;
+            }
+            if (value instanceof Metadata) {
+                return normalize(((Metadata<?>) value).getValue());
+            }
+            if (value instanceof Extension) {
+                return component(value);
+            }
+            return value;
+        }
+
+    }
+
+    /**
+     *
+     * @param component an extension, a bean or any other component of a deployment
+     * @return the value which should be used to compare the given component
+     */
+    static Object component(Object component) {
+        if (component instanceof Fingerprintable) {
+            Object fingerprint = ((Fingerprintable) component).getFingerprint();
+            return fingerprint != null ? List.of(component.getClass(), fingerprint) : component;
+        }
+        if (component instanceof Extension && isStateless(component.getClass())) {
+            return component.getClass();
+        }
+        return component;
+    }
+
+    private static boolean isStateless(Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
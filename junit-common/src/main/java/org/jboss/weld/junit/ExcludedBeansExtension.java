@@ -1,6 +1,6 @@
 /*
  * JBoss, Home of Professional Open Source
- * Copyright 2022, Red Hat, Inc., and individual contributors
+ * Copyright 2026, Red Hat, Inc., and individual contributors
  * by the @authors tag. See the copyright.txt in the distribution for a
  * full listing of individual contributors.
  *
@@ -14,10 +14,10 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
-package org.jboss.weld.spock.impl;
+package org.jboss.weld.junit;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.enterprise.context.NormalScope;
@@ -29,10 +29,9 @@ import jakarta.inject.Scope;
 
 /**
  * Extension class that ensures selected classes are excluded as beans.
- *
- * @author Björn Kautler
  */
-class ExcludedBeansExtension implements Extension {
+class ExcludedBeansExtension implements Extension, Fingerprintable {
+
     private final Set<Type> excludedBeanTypes;
     private final Set<Class<?>> excludedBeanClasses;
 
@@ -42,6 +41,7 @@ class ExcludedBeansExtension implements Extension {
     }
 
     <T> void excludeBeans(@Observes @WithAnnotations({ Scope.class, NormalScope.class }) ProcessAnnotatedType<T> pat) {
+
         if (excludedBeanClasses.contains(pat.getAnnotatedType().getJavaClass())) {
             pat.veto();
             return;
@@ -55,4 +55,10 @@ class ExcludedBeansExtension implements Extension {
             }
         }
     }
+
+    @Override
+    public Object getFingerprint() {
+        return List.of(excludedBeanTypes, excludedBeanClasses);
+    }
+
 }
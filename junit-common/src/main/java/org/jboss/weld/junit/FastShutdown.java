@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.bean.WrappedContextual;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.AbstractSharedContext;
+import org.jboss.weld.contexts.PassivatingContextWrapper;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.jboss.weld.serialization.spi.helpers.SerializableContextual;
+
+/**
+ * Drops contextual instances without invoking their destroy callbacks, except for the beans which need cleanup.
+ *
+ * <p>
+ * The time saved by skipping a destroy callback cannot be measured, it is estimated as the mean duration of the destroy
+ * callbacks which were invoked in this JVM.
+ * </p>
+ *
+ * @see AbstractWeldInitiator.AbstractBuilder#fastShutdown()
+ */
+final class FastShutdown {
+
+    private static final Logger LOGGER = Logger.getLogger(FastShutdown.class.getName());
+
+    private static final LongAdder DESTROYED = new LongAdder();
+
+    private static final LongAdder DESTROY_NANOS = new LongAdder();
+
+    private FastShutdown() {
+    }
+
+    /**
+     *
+     * @param contextual
+     * @return {@code true} if the instances of the given contextual must be destroyed properly, {@code false} otherwise
+     * @see NeedsCleanup
+     */
+    static boolean needsCleanup(Contextual<?> contextual) {
+        // the instances in a bean store hold serializable wrappers
+        while (contextual instanceof SerializableContextual || contextual instanceof WrappedContextual) {
+            contextual = contextual instanceof SerializableContextual ? ((SerializableContextual<?, ?>) contextual).get()
+                    : ((WrappedContextual<?>) contextual).delegate();
+        }
+        if (contextual instanceof MockBean) {
+            // the destroy callback was set explicitly
+            return ((MockBean<?>) contextual).hasDestroyCallback();
+        }
+        return contextual instanceof Bean && ((Bean<?>) contextual).getBeanClass() != null
+                && ((Bean<?>) contextual).getBeanClass().isAnnotationPresent(NeedsCleanup.class);
+    }
+
+    /**
+     * Invokes the given destroy callback and records its duration.
+     *
+     * @param destroyAction
+     */
+    static void destroy(Runnable destroyAction) {
+        long start = System.nanoTime();
+        try {
+            destroyAction.run();
+        } finally {
+            DESTROY_NANOS.add(System.nanoTime() - start);
+            DESTROYED.increment();
+        }
+    }
+
+    /**
+     * Removes the instances of the given shared scope from the bean store. The instances of the beans which need cleanup are
+     * destroyed.
+     *
+     * @param beanManager
+     * @param scope
+     * @return the number of skipped destroy callbacks
+     */
+    static int dropSharedInstances(BeanManager beanManager, Class<? extends Annotation> scope) {
+        Context context = PassivatingContextWrapper.unwrap(beanManager.getContext(scope));
+        if (!(context instanceof AbstractSharedContext)) {
+            return 0;
+        }
+        AbstractSharedContext sharedContext = (AbstractSharedContext) context;
+        BeanStore beanStore = sharedContext.getBeanStore();
+        List<BeanIdentifier> ids = new ArrayList<>();
+        beanStore.forEach(ids::add);
+        int skipped = 0;
+        for (BeanIdentifier id : ids) {
+            ContextualInstance<?> instance = beanStore.get(id);
+            if (instance == null) {
+                continue;
+            }
+            if (needsCleanup(instance.getContextual())) {
+                destroy(() -> sharedContext.destroy(instance.getContextual()));
+            } else {
+                beanStore.remove(id);
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * Logs the number of skipped destroy callbacks and the estimated saving.
+     *
+     * @param target what was torn down
+     * @param skipped the number of skipped destroy callbacks
+     * @param start the start of the teardown, see {@link System#nanoTime()}
+     */
+    static void report(String target, int skipped, long start) {
+        if (skipped == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        long destroyed = DESTROYED.sum();
+        LOGGER.info(() -> "Fast shutdown of " + target + " skipped " + skipped + " destroy callbacks in "
+                + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms"
+                + (destroyed > 0
+                        ? ", estimated saving: " + TimeUnit.NANOSECONDS.toMillis(skipped * (DESTROY_NANOS.sum() / destroyed))
+                                + " ms"
+                        : ""));
+    }
+
+}
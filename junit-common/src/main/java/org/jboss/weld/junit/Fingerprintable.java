@@ -0,0 +1,36 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+/**
+ * Implemented by extensions and beans which are created anew for every test but describe the same deployment, so that
+ * the {@link DeploymentFingerprint} can compare them by value instead of by identity.
+ *
+ * @see DeploymentFingerprint
+ */
+public interface Fingerprintable {
+
+    /**
+     * The returned value must have meaningful {@code equals()} and {@code hashCode()} methods and must cover all the state
+     * which affects the deployment.
+     *
+     * @return the value identifying this component, or {@code null} if this instance must never be shared with another
+     *         deployment
+     */
+    Object getFingerprint();
+
+}
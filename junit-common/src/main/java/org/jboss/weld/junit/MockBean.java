@@ -17,10 +17,16 @@
 package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -62,7 +68,7 @@ import org.jboss.weld.util.reflection.HierarchyDiscovery;
  *        See also {@code WeldInitiator.Builder#addBean(Bean)} method.
  * @since 1.1
  */
-public class MockBean<T> implements Bean<T>, PassivationCapable {
+public class MockBean<T> implements Bean<T>, PassivationCapable, Fingerprintable {
 
     /**
      * By default, the bean:
@@ -142,10 +148,26 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
 
     private final Class<?> beanClass;
 
+    private final boolean swappable;
+
+    // the bean whose callbacks are used, see bind(MockBean)
+    private volatile MockBean<T> target;
+
+    // the Mockito mocks handed out since the bean was bound
+    private final Set<Object> mocks;
+
     protected MockBean(Class<?> beanClass, Set<Class<? extends Annotation>> stereotypes, boolean alternative,
             boolean selectForSyntheticBeanArchive, String name,
             Set<Annotation> qualifiers, Set<Type> types, Class<? extends Annotation> scope, CreateFunction<T> createCallback,
             DestroyFunction<T> destroyCallback) {
+        this(beanClass, stereotypes, alternative, selectForSyntheticBeanArchive, name, qualifiers, types, scope, createCallback,
+                destroyCallback, false);
+    }
+
+    MockBean(Class<?> beanClass, Set<Class<? extends Annotation>> stereotypes, boolean alternative,
+            boolean selectForSyntheticBeanArchive, String name,
+            Set<Annotation> qualifiers, Set<Type> types, Class<? extends Annotation> scope, CreateFunction<T> createCallback,
+            DestroyFunction<T> destroyCallback, boolean swappable) {
         this.beanClass = beanClass;
         this.stereotypes = stereotypes;
         this.alternative = alternative;
@@ -158,17 +180,27 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
         this.destroyCallback = destroyCallback;
         this.id = new StringBuilder().append(MockBean.class.getName()).append("_").append(SEQUENCE.incrementAndGet())
                 .toString();
+        this.swappable = swappable;
+        this.target = this;
+        this.mocks = swappable ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
     }
 
     @Override
     public T create(CreationalContext<T> creationalContext) {
-        return createCallback.create(creationalContext);
+        T instance = target.createCallback.create(creationalContext);
+        if (swappable && MockitoSupport.isMock(instance)) {
+            synchronized (mocks) {
+                mocks.add(instance);
+            }
+        }
+        return instance;
     }
 
     @Override
     public void destroy(T instance, CreationalContext<T> creationalContext) {
-        if (destroyCallback != null) {
-            destroyCallback.destroy(instance, creationalContext);
+        DestroyFunction<T> callback = target.destroyCallback;
+        if (callback != null) {
+            callback.destroy(instance, creationalContext);
         }
     }
 
@@ -228,6 +260,64 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
         return id;
     }
 
+    /**
+     * A swappable bean is described by its metadata only, i.e. an equivalent swappable bean with different callbacks does not
+     * prevent a container from being reused.
+     *
+     * @see Builder#swappable()
+     */
+    @Override
+    public Object getFingerprint() {
+        if (!swappable) {
+            return null;
+        }
+        return List.of(beanClass, stereotypes, alternative, selectForSyntheticBeanArchive, String.valueOf(name), qualifiers,
+                types, scope);
+    }
+
+    /**
+     *
+     * @return {@code true} if the callbacks of the bean may be replaced by the callbacks of an equivalent bean
+     * @see Builder#swappable()
+     */
+    public boolean isSwappable() {
+        return swappable;
+    }
+
+    /**
+     *
+     * @return {@code true} if a destroy callback is used, {@code false} otherwise
+     */
+    boolean hasDestroyCallback() {
+        return target.destroyCallback != null;
+    }
+
+    /**
+     * Instructs this bean, which is registered in a running container, to use the callbacks of the given bean.
+     *
+     * @param bean the equivalent bean of the initiator using the container
+     */
+    @SuppressWarnings("unchecked")
+    void bind(MockBean<?> bean) {
+        target = (MockBean<T>) bean;
+    }
+
+    /**
+     * Resets all the Mockito mocks handed out by this bean and switches back to the original callbacks. The instances
+     * created by this bean should be destroyed first.
+     */
+    void unbind() {
+        List<Object> toReset;
+        synchronized (mocks) {
+            toReset = new ArrayList<>(mocks);
+            mocks.clear();
+        }
+        for (Object mock : toReset) {
+            MockitoSupport.reset(mock);
+        }
+        target = this;
+    }
+
     private static <T> Builder<T> readInternal(Class<T> beanClass) {
         // Note that we cannot use BeanManager here as the container may not be started yet
         Builder<T> builder = new Builder<T>().beanClass(beanClass);
@@ -345,6 +435,8 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
 
         private DestroyFunction<T> destroyCallback;
 
+        private boolean swappable;
+
         private Builder() {
             this.stereotypes = new HashSet<>();
             this.alternative = false;
@@ -609,6 +701,25 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
             return this;
         }
 
+        /**
+         * The bean does not prevent a running container from being reused by another initiator with an equivalent swappable
+         * bean, e.g. if the {@code ContainerCache} is used. The bean registered in the container then creates and destroys
+         * instances with the callbacks of the bean of the initiator using the container.
+         *
+         * <p>
+         * Two swappable beans are equivalent if they have the same bean class, stereotypes, name, qualifiers, types, scope and
+         * priority and if they are both alternatives or not. When the initiator stops using the container, the
+         * {@link jakarta.enterprise.context.ApplicationScoped} and {@link jakarta.inject.Singleton} instances of the bean are
+         * destroyed and all the Mockito mocks it handed out are reset, so that the next test does not see them.
+         * </p>
+         *
+         * @return self
+         */
+        public Builder<T> swappable() {
+            this.swappable = true;
+            return this;
+        }
+
         /**
          *
          * @return a new {@link MockBean} instance
@@ -638,11 +749,11 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
             if (priority != null) {
                 return new MockBeanWithPriority<>(beanClass, stereotypes, alternative, selectForSyntheticBeanArchive, priority,
                         name, normalizedQualfiers, types, scope, createCallback,
-                        destroyCallback);
+                        destroyCallback, swappable);
             } else {
                 return new MockBean<>(beanClass, stereotypes, alternative, selectForSyntheticBeanArchive, name,
                         normalizedQualfiers, types, scope, createCallback,
-                        destroyCallback);
+                        destroyCallback, swappable);
             }
         }
 
@@ -670,6 +781,57 @@ public class MockBean<T> implements Bean<T>, PassivationCapable {
 
     }
 
+    /**
+     * Mockito is an optional dependency, hence it is only accessed reflectively.
+     */
+    private static final class MockitoSupport {
+
+        private static final MethodHandle MOCKING_DETAILS;
+
+        private static final MethodHandle IS_MOCK;
+
+        private static final MethodHandle RESET;
+
+        static {
+            MethodHandle mockingDetails = null;
+            MethodHandle isMock = null;
+            MethodHandle reset = null;
+            try {
+                Class<?> mockito = Class.forName("org.mockito.Mockito", false, MockBean.class.getClassLoader());
+                Class<?> details = Class.forName("org.mockito.MockingDetails", false, MockBean.class.getClassLoader());
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                mockingDetails = lookup.findStatic(mockito, "mockingDetails", MethodType.methodType(details, Object.class));
+                isMock = lookup.findVirtual(details, "isMock", MethodType.methodType(boolean.class));
+                reset = lookup.findStatic(mockito, "reset", MethodType.methodType(void.class, Object[].class));
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Mockito is not available
+            }
+            MOCKING_DETAILS = mockingDetails;
+            IS_MOCK = isMock;
+            RESET = reset;
+        }
+
+        static boolean isMock(Object instance) {
+            if (instance == null || MOCKING_DETAILS == null) {
+                return false;
+            }
+            try {
+                return (boolean) IS_MOCK.invoke(MOCKING_DETAILS.invoke(instance));
+            } catch (Throwable e) {
+                return false;
+            }
+        }
+
+        static void reset(Object mock) {
+            try {
+                RESET.invoke(new Object[] { mock });
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to reset the mock: " + mock, e);
+            }
+        }
+
+    }
+
     @SuppressWarnings("all")
     static class AnyLiteral extends AnnotationLiteral<Any> implements Any {
 
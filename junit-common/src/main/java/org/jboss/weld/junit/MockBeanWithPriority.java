@@ -2,6 +2,7 @@ package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.enterprise.inject.spi.Prioritized;
@@ -22,9 +23,9 @@ class MockBeanWithPriority<T> extends MockBean<T> implements Prioritized {
     MockBeanWithPriority(Class<?> beanClass, Set<Class<? extends Annotation>> stereotypes, boolean alternative,
             boolean selectForSyntheticBeanArchive, int priority, String name,
             Set<Annotation> qualifiers, Set<Type> types, Class<? extends Annotation> scope,
-            CreateFunction<T> createCallback, DestroyFunction<T> destroyCallback) {
+            CreateFunction<T> createCallback, DestroyFunction<T> destroyCallback, boolean swappable) {
         super(beanClass, stereotypes, alternative, selectForSyntheticBeanArchive, name, qualifiers, types, scope,
-                createCallback, destroyCallback);
+                createCallback, destroyCallback, swappable);
         if (priority <= 0) {
             throw new IllegalArgumentException("MockBean cannot have priority equal or lower than 0!");
         }
@@ -35,4 +36,10 @@ class MockBeanWithPriority<T> extends MockBean<T> implements Prioritized {
     public int getPriority() {
         return this.priority;
     }
+
+    @Override
+    public Object getFingerprint() {
+        Object fingerprint = super.getFingerprint();
+        return fingerprint != null ? List.of(fingerprint, priority) : null;
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.spi.AnnotatedType;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.enterprise.inject.spi.InjectionTarget;
+
+import org.jboss.weld.injection.spi.InjectionContext;
+import org.jboss.weld.injection.spi.InjectionServices;
+import org.jboss.weld.junit.AbstractWeldInitiator.AbstractBuilder;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Resolves the overlay beans of the initiator currently using the container in front of the beans of the deployment. The
+ * fields injected by the container are overwritten with an instance of the matching overlay bean, if there is one. The
+ * overlay beans are not part of the deployment, hence a container with these services registered may be reused by
+ * initiators with different overlay beans.
+ *
+ * <p>
+ * An overlay bean matches a field if its bean types contain the type of the field and its qualifiers contain all the
+ * qualifiers of the field. A single instance of an overlay bean is created per binding and destroyed once the overlay is
+ * unbound, regardless of the scope of the bean.
+ * </p>
+ *
+ * <p>
+ * Overlay instances may also be injected into {@link jakarta.enterprise.context.ApplicationScoped} and
+ * {@link jakarta.inject.Singleton} instances created while the overlay is bound. These instances must not outlive the
+ * overlay, see {@link ContainerHandle#unbindOverlay()}.
+ * </p>
+ *
+ * @see AbstractBuilder#addOverlayBeans(Bean...)
+ */
+class OverlayInjectionServices implements InjectionServices {
+
+    private static final Annotation DEFAULT = Default.Literal.INSTANCE;
+
+    private volatile Overlay overlay;
+
+    /**
+     *
+     * @param beans the overlay beans of the initiator using the container
+     */
+    void bind(Set<Bean<?>> beans) {
+        overlay = beans.isEmpty() ? null : new Overlay(beans);
+    }
+
+    /**
+     * Destroys the instances of the overlay beans created since the overlay was bound.
+     *
+     * @return {@code true} if an overlay instance was injected since the overlay was bound, {@code false} otherwise
+     */
+    boolean unbind() {
+        Overlay current = overlay;
+        overlay = null;
+        return current != null && current.destroy();
+    }
+
+    @Override
+    public <T> void aroundInject(InjectionContext<T> injectionContext) {
+        injectionContext.proceed();
+        Overlay current = overlay;
+        InjectionTarget<T> injectionTarget = injectionContext.getInjectionTarget();
+        if (current == null || injectionTarget == null) {
+            return;
+        }
+        for (InjectionPoint injectionPoint : injectionTarget.getInjectionPoints()) {
+            if (!(injectionPoint.getMember() instanceof Field) || injectionPoint.isDelegate()) {
+                continue;
+            }
+            Bean<?> bean = current.resolve(injectionPoint);
+            if (bean != null) {
+                Field field = (Field) injectionPoint.getMember();
+                try {
+                    field.setAccessible(true);
+                    field.set(injectionContext.getTarget(), current.getInstance(bean));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new IllegalStateException("Unable to inject overlay bean " + bean + " into " + injectionPoint, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T> void registerInjectionTarget(InjectionTarget<T> injectionTarget, AnnotatedType<T> annotatedType) {
+    }
+
+    @Override
+    public void cleanup() {
+        unbind();
+    }
+
+    private static class Overlay {
+
+        private final Set<Bean<?>> beans;
+
+        private final Map<Bean<?>, OverlayInstance> instances;
+
+        Overlay(Set<Bean<?>> beans) {
+            this.beans = beans;
+            this.instances = Collections.synchronizedMap(new IdentityHashMap<>());
+        }
+
+        Bean<?> resolve(InjectionPoint injectionPoint) {
+            Set<Annotation> qualifiers = injectionPoint.getQualifiers();
+            for (Bean<?> bean : beans) {
+                if (bean.getTypes().contains(injectionPoint.getType()) && (qualifiers.isEmpty()
+                        ? bean.getQualifiers().contains(DEFAULT)
+                        : bean.getQualifiers().containsAll(qualifiers))) {
+                    return bean;
+                }
+            }
+            return null;
+        }
+
+        Object getInstance(Bean<?> bean) {
+            return instances.computeIfAbsent(bean, key -> new OverlayInstance(Reflections.cast(key))).instance;
+        }
+
+        boolean destroy() {
+            synchronized (instances) {
+                boolean injected = !instances.isEmpty();
+                for (OverlayInstance overlayInstance : instances.values()) {
+                    overlayInstance.destroy();
+                }
+                instances.clear();
+                return injected;
+            }
+        }
+
+    }
+
+    private static class OverlayInstance {
+
+        private final Bean<Object> bean;
+
+        private final CreationalContext<Object> creationalContext;
+
+        private final Object instance;
+
+        OverlayInstance(Bean<Object> bean) {
+            this.bean = bean;
+            this.creationalContext = new OverlayCreationalContext();
+            this.instance = bean.create(creationalContext);
+        }
+
+        void destroy() {
+            bean.destroy(instance, creationalContext);
+        }
+
+    }
+
+    // overlay beans have no dependencies managed by the container
+    private static class OverlayCreationalContext implements CreationalContext<Object> {
+
+        @Override
+        public void push(Object incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+
+    }
+
+}
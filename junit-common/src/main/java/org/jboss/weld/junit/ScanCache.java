@@ -0,0 +1,388 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+
+/**
+ * Persists the {@link ScanPlan}s computed by a {@link ClassScanner} in a binary file, so that the next test run does not need
+ * to scan an unchanged test class again. An entry records the bytecode hash of every class which contributed to the plan,
+ * i.e. the visited classes and their supertypes, and it is only used if none of these classes has changed. Note that a
+ * change of an annotation declaration, e.g. of a stereotype, is not detected; a clean build discards the cache.
+ *
+ * <p>
+ * The file is read at once when the cache is created and written when the cache is closed. The
+ * global cache is configured through the system property {@link #FILE} and written when the JVM exits.
+ * </p>
+ *
+ * @see ClassScanner#ClassScanner(ClassScanningAdapter, boolean, ScanCache)
+ */
+public class ScanCache implements AutoCloseable {
+
+    /**
+     * The path of the cache file, or {@code true} for {@value #DEFAULT_FILE}.
+     */
+    public static final String FILE = "org.jboss.weld.junit.scanning.cache";
+
+    /**
+     * The default path of the cache file, relative to the working directory.
+     */
+    public static final String DEFAULT_FILE = "target/weld-scan-cache.bin";
+
+    private static final Logger LOGGER = Logger.getLogger(ScanCache.class.getName());
+
+    // "WSC" followed by the version of the format
+    private static final int MAGIC = 0x57534301;
+
+    private static final ClassValue<Optional<Long>> BYTECODE_HASHES = new ClassValue<Optional<Long>>() {
+        @Override
+        protected Optional<Long> computeValue(Class<?> type) {
+            return Optional.ofNullable(hash(type));
+        }
+    };
+
+    private static ScanCache global;
+
+    private static boolean globalInitialized;
+
+    private final Path file;
+
+    // the encoded entries keyed by the test classes
+    private final ConcurrentMap<String, byte[]> entries;
+
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private final AtomicInteger stored = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    /**
+     *
+     * @param file the cache file, it does not need to exist
+     */
+    public ScanCache(Path file) {
+        this.file = file;
+        this.entries = read(file);
+    }
+
+    /**
+     *
+     * @return the global cache, or {@code null} if not enabled
+     * @see #FILE
+     */
+    public static synchronized ScanCache getGlobal() {
+        if (!globalInitialized) {
+            globalInitialized = true;
+            String file = System.getProperty(FILE);
+            if (file != null && !file.isBlank() && !Boolean.FALSE.toString().equalsIgnoreCase(file.trim())) {
+                global = new ScanCache(Paths.get(Boolean.TRUE.toString().equalsIgnoreCase(file.trim()) ? DEFAULT_FILE
+                        : file.trim()));
+                Runtime.getRuntime().addShutdownHook(new Thread(global::close, "weld-scan-cache-writer"));
+            }
+        }
+        return global;
+    }
+
+    /**
+     *
+     * @return the cache file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     *
+     * @return the number of plans loaded from the cache
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     *
+     * @return the number of plans which were not found or were stale
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    ScanPlan load(String key, ClassLoader classLoader) {
+        byte[] entry = entries.get(key);
+        if (entry != null) {
+            try {
+                ScanPlan plan = decode(entry, classLoader);
+                if (plan != null) {
+                    hits.incrementAndGet();
+                    return plan;
+                }
+            } catch (IOException | ClassNotFoundException | LinkageError | RuntimeException e) {
+                LOGGER.log(Level.FINE, "Unable to load the cached scan plan of " + key, e);
+            }
+            entries.remove(key, entry);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    void store(String key, Collection<Class<?>> foundClasses, ScanPlan plan) {
+        if (closed) {
+            return;
+        }
+        try {
+            byte[] entry = encode(foundClasses, plan);
+            if (entry != null) {
+                entries.put(key, entry);
+                stored.incrementAndGet();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Unable to cache the scan plan of " + key, e);
+        }
+    }
+
+    /**
+     * Writes the cache file if a new plan was stored. Plans stored after this method was called are not persisted.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LOGGER.fine(() -> "Scan cache closed [hits: " + hits + ", misses: " + misses + ", stored: " + stored + "]");
+        if (stored.get() > 0) {
+            write();
+        }
+    }
+
+    private static ConcurrentMap<String, byte[]> read(Path file) {
+        ConcurrentMap<String, byte[]> entries = new ConcurrentHashMap<>();
+        try {
+            // the file is not memory-mapped, a mapping would keep it locked on Windows until it is garbage collected and
+            // the file could not be replaced in write()
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+                LOGGER.fine(() -> "Ignoring the scan cache with an unknown format: " + file);
+                return entries;
+            }
+            for (int count = buffer.getInt(); count > 0; count--) {
+                String key = new String(getBytes(buffer), StandardCharsets.UTF_8);
+                entries.put(key, getBytes(buffer));
+            }
+        } catch (NoSuchFileException e) {
+            // the first run
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Ignoring the corrupted scan cache " + file, e);
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private void write() {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            // concurrent JVMs replace the file atomically, the last one wins
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                List<Map.Entry<String, byte[]>> snapshot = new ArrayList<>(entries.entrySet());
+                out.writeInt(MAGIC);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, byte[]> entry : snapshot) {
+                    byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(key.length);
+                    out.write(key);
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to write the scan cache " + file, e);
+        }
+    }
+
+    private static byte[] encode(Collection<Class<?>> foundClasses, ScanPlan plan) throws IOException {
+        Set<Class<?>> contributors = new LinkedHashSet<>();
+        for (Class<?> foundClass : foundClasses) {
+            addContributors(foundClass, contributors);
+        }
+        for (Type type : plan.getExcludedBeanTypes()) {
+            if (!(type instanceof Class)) {
+                return null;
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(contributors.size());
+            for (Class<?> contributor : contributors) {
+                Optional<Long> hash = BYTECODE_HASHES.get(contributor);
+                if (hash.isEmpty()) {
+                    // e.g. a class defined at runtime
+                    return null;
+                }
+                out.writeUTF(contributor.getName());
+                out.writeLong(hash.get());
+            }
+            writeClasses(out, plan.getBeanClasses());
+            out.writeInt(plan.getPackages().size());
+            for (ClassDirectives.PackageDirective directive : plan.getPackages()) {
+                out.writeUTF(directive.packageClass.getName());
+                out.writeBoolean(directive.recursively);
+            }
+            writeClasses(out, plan.getExtensions());
+            writeClasses(out, plan.getInterceptors());
+            writeClasses(out, plan.getDecorators());
+            writeClasses(out, plan.getAlternatives());
+            writeClasses(out, plan.getAlternativeStereotypes());
+            List<Class<?>> excludedBeanTypes = new ArrayList<>();
+            plan.getExcludedBeanTypes().forEach(type -> excludedBeanTypes.add((Class<?>) type));
+            writeClasses(out, excludedBeanTypes);
+            writeClasses(out, plan.getExcludedBeanClasses());
+            out.writeUTF(plan.getBeanDiscoveryMode() != null ? plan.getBeanDiscoveryMode().name() : "");
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ScanPlan decode(byte[] entry, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry))) {
+            for (int count = in.readInt(); count > 0; count--) {
+                Class<?> contributor = Class.forName(in.readUTF(), false, classLoader);
+                if (!BYTECODE_HASHES.get(contributor).equals(Optional.of(in.readLong()))) {
+                    return null;
+                }
+            }
+            Set<Class<?>> beanClasses = readClasses(in, classLoader);
+            List<ClassDirectives.PackageDirective> packages = new ArrayList<>();
+            for (int count = in.readInt(); count > 0; count--) {
+                packages.add(new ClassDirectives.PackageDirective(Class.forName(in.readUTF(), false, classLoader),
+                        in.readBoolean()));
+            }
+            Set<Class<? extends Extension>> extensions = (Set<Class<? extends Extension>>) (Set<?>) readClasses(in,
+                    classLoader);
+            Set<Class<?>> interceptors = readClasses(in, classLoader);
+            Set<Class<?>> decorators = readClasses(in, classLoader);
+            Set<Class<?>> alternatives = readClasses(in, classLoader);
+            Set<Class<? extends Annotation>> alternativeStereotypes = (Set<Class<? extends Annotation>>) (Set<?>) readClasses(
+                    in, classLoader);
+            Set<Type> excludedBeanTypes = new LinkedHashSet<>(readClasses(in, classLoader));
+            Set<Class<?>> excludedBeanClasses = readClasses(in, classLoader);
+            String beanDiscoveryMode = in.readUTF();
+            return new ScanPlan(beanClasses, packages, extensions, interceptors, decorators, alternatives,
+                    alternativeStereotypes, excludedBeanTypes, excludedBeanClasses,
+                    beanDiscoveryMode.isEmpty() ? null : BeanDiscoveryMode.valueOf(beanDiscoveryMode));
+        }
+    }
+
+    private static void writeClasses(DataOutputStream out, Collection<? extends Class<?>> classes) throws IOException {
+        out.writeInt(classes.size());
+        for (Class<?> clazz : classes) {
+            out.writeUTF(clazz.getName());
+        }
+    }
+
+    private static Set<Class<?>> readClasses(DataInputStream in, ClassLoader classLoader)
+            throws IOException, ClassNotFoundException {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (int count = in.readInt(); count > 0; count--) {
+            classes.add(Class.forName(in.readUTF(), false, classLoader));
+        }
+        return classes;
+    }
+
+    // the metadata of a visited class includes its fields and methods declared by its supertypes
+    private static void addContributors(Class<?> clazz, Set<Class<?>> contributors) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive() || clazz.getName().startsWith("java") || !contributors.add(clazz)) {
+            return;
+        }
+        if (clazz.getSuperclass() != null) {
+            addContributors(clazz.getSuperclass(), contributors);
+        }
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            addContributors(interfaceClass, contributors);
+        }
+    }
+
+    private static Long hash(Class<?> clazz) {
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        ClassLoader classLoader = clazz.getClassLoader();
+        try (InputStream in = classLoader != null ? classLoader.getResourceAsStream(resource)
+                : ClassLoader.getSystemResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(in.readAllBytes());
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+
+/**
+ * Reads the scan manifests generated at build time by the annotation processor of the {@code weld-junit-scan-processor}
+ * module. A manifest contains the result of the <b>automagic</b> discovery for a test class, along with a signature of every
+ * class which contributed to it. The signature covers the supertypes and the runtime annotations, including their values, of
+ * the class and of its annotated members. A manifest is only used if all the signatures match the loaded classes, i.e. a
+ * stale manifest, e.g. after an incremental compilation, falls back to the runtime scanning.
+ *
+ * @see ClassScanner#ClassScanner(ClassScanningAdapter, boolean, ScanCache, boolean)
+ */
+public final class ScanManifest {
+
+    /**
+     * If set to {@code false}, the scan manifests are ignored.
+     */
+    public static final String ENABLED = "org.jboss.weld.junit.scanning.manifest";
+
+    static final String LOCATION = "META-INF/weld-testing/scan/";
+
+    private static final Logger LOGGER = Logger.getLogger(ScanManifest.class.getName());
+
+    private static final String VERSION = "1";
+
+    private static final ClassValue<String> SIGNATURE_HASHES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return hash(signature(type));
+        }
+    };
+
+    private ScanManifest() {
+    }
+
+    /**
+     *
+     * @param adapter the framework specific part of the discovery
+     * @param testClasses the test classes, ordered from the outermost to the innermost one
+     * @param explicitInjection if set to {@code true}, only the parameters with a qualifier are followed
+     * @return the plan read from the manifest of the given test classes, or {@code null} if there is no manifest or it is
+     *         stale
+     */
+    public static ScanPlan load(ClassScanningAdapter adapter, List<Class<?>> testClasses, boolean explicitInjection) {
+        List<String> testClassNames = new ArrayList<>();
+        for (Class<?> testClass : testClasses) {
+            testClassNames.add(testClass.getName());
+        }
+        Class<?> innermost = testClasses.get(testClasses.size() - 1);
+        ClassLoader classLoader = innermost.getClassLoader();
+        String resource = LOCATION + String.join("+", testClassNames) + ".manifest";
+        try (InputStream in = classLoader != null ? classLoader.getResourceAsStream(resource)
+                : ClassLoader.getSystemResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            Properties manifest = new Properties();
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                manifest.load(reader);
+            }
+            if (!VERSION.equals(manifest.getProperty("version"))
+                    || !adapter.getClass().getName().equals(manifest.getProperty("adapter"))
+                    || !String.join(",", testClassNames).equals(manifest.getProperty("testClasses"))) {
+                LOGGER.fine(() -> "Ignoring the incompatible scan manifest " + resource);
+                return null;
+            }
+            for (Map.Entry<Object, Object> entry : manifest.entrySet()) {
+                String key = entry.getKey().toString();
+                if (key.startsWith("signature.")) {
+                    Class<?> contributor = Class.forName(key.substring("signature.".length()), false, classLoader);
+                    if (!SIGNATURE_HASHES.get(contributor).equals(entry.getValue())) {
+                        LOGGER.fine(() -> "Ignoring the stale scan manifest " + resource + ", " + contributor + " has changed");
+                        return null;
+                    }
+                }
+            }
+            return readPlan(manifest, explicitInjection ? "explicit." : "implicit.", classLoader);
+        } catch (IOException | ClassNotFoundException | LinkageError | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Ignoring the scan manifest " + resource, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ScanPlan readPlan(Properties manifest, String prefix, ClassLoader classLoader)
+            throws ClassNotFoundException {
+        List<ClassDirectives.PackageDirective> packages = new ArrayList<>();
+        for (String directive : split(manifest.getProperty(prefix + "packages"))) {
+            int separator = directive.lastIndexOf(':');
+            packages.add(new ClassDirectives.PackageDirective(
+                    Class.forName(directive.substring(0, separator), false, classLoader),
+                    Boolean.parseBoolean(directive.substring(separator + 1))));
+        }
+        String beanDiscoveryMode = manifest.getProperty(prefix + "beanDiscoveryMode", "");
+        return new ScanPlan(readClasses(manifest, prefix + "beanClasses", classLoader), packages,
+                (Set<Class<? extends Extension>>) (Set<?>) readClasses(manifest, prefix + "extensions", classLoader),
+                readClasses(manifest, prefix + "interceptors", classLoader),
+                readClasses(manifest, prefix + "decorators", classLoader),
+                readClasses(manifest, prefix + "alternatives", classLoader),
+                (Set<Class<? extends Annotation>>) (Set<?>) readClasses(manifest, prefix + "alternativeStereotypes",
+                        classLoader),
+                new LinkedHashSet<Type>(readClasses(manifest, prefix + "excludedBeanTypes", classLoader)),
+                readClasses(manifest, prefix + "excludedBeanClasses", classLoader),
+                beanDiscoveryMode.isEmpty() ? null : BeanDiscoveryMode.valueOf(beanDiscoveryMode));
+    }
+
+    private static Set<Class<?>> readClasses(Properties manifest, String key, ClassLoader classLoader)
+            throws ClassNotFoundException {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String name : split(manifest.getProperty(key))) {
+            classes.add(forName(name, classLoader));
+        }
+        return classes;
+    }
+
+    private static List<String> split(String value) {
+        return value == null || value.isEmpty() ? List.of() : List.of(value.split(","));
+    }
+
+    private static Class<?> forName(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        switch (name) {
+            case "boolean":
+                return boolean.class;
+            case "byte":
+                return byte.class;
+            case "char":
+                return char.class;
+            case "short":
+                return short.class;
+            case "int":
+                return int.class;
+            case "long":
+                return long.class;
+            case "float":
+                return float.class;
+            case "double":
+                return double.class;
+            default:
+                return Class.forName(name, false, classLoader);
+        }
+    }
+
+    // the generic type is part of the signature because the scanners resolve type arguments, e.g. of Instance<T>; the
+    // annotation processor renders a type mirror the same way
+    private static String typeName(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            List<String> arguments = new ArrayList<>();
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                arguments.add(typeName(argument));
+            }
+            return typeName(parameterizedType.getRawType()) + "<" + String.join(",", arguments) + ">";
+        }
+        if (type instanceof GenericArrayType) {
+            return typeName(((GenericArrayType) type).getGenericComponentType()) + "[]";
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            if (wildcardType.getLowerBounds().length > 0) {
+                return "? super " + typeName(wildcardType.getLowerBounds()[0]);
+            }
+            Type[] upperBounds = wildcardType.getUpperBounds();
+            return upperBounds.length == 0 || upperBounds[0] == Object.class ? "?" : "? extends " + typeName(upperBounds[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return ((TypeVariable<?>) type).getName();
+        }
+        return ((Class<?>) type).getName();
+    }
+
+    // the same signature is computed by the annotation processor from the language model
+    private static String signature(Class<?> clazz) {
+        StringBuilder signature = new StringBuilder("class ").append(clazz.getName()).append('\n');
+        signature.append("super ").append(clazz.getSuperclass() != null ? clazz.getSuperclass().getName() : "").append('\n');
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            signature.append("interface ").append(interfaceClass.getName()).append('\n');
+        }
+        Set<String> members = new TreeSet<>();
+        for (String annotation : annotations(clazz.getDeclaredAnnotations())) {
+            members.add("annotation " + annotation);
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            String annotations = String.join("", annotations(field.getDeclaredAnnotations()));
+            if (!field.isSynthetic() && !annotations.isEmpty()) {
+                members.add("field " + field.getName() + " " + typeName(field.getGenericType()) + " " + annotations);
+            }
+        }
+        for (Method method : clazz.getDeclaredMethods()) {
+            String annotations = String.join("", annotations(method.getDeclaredAnnotations()));
+            if (!method.isSynthetic() && !annotations.isEmpty()) {
+                members.add("method " + method.getName() + parameters(method.getGenericParameterTypes(),
+                        method.getParameterAnnotations()) + typeName(method.getGenericReturnType()) + " " + annotations);
+            }
+        }
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            String annotations = String.join("", annotations(constructor.getDeclaredAnnotations()));
+            if (!constructor.isSynthetic() && !annotations.isEmpty()) {
+                members.add("constructor " + parameters(constructor.getGenericParameterTypes(),
+                        constructor.getParameterAnnotations()) + " " + annotations);
+            }
+        }
+        members.forEach(member -> signature.append(member).append('\n'));
+        return signature.toString();
+    }
+
+    private static String parameters(Type[] parameterTypes, Annotation[][] parameterAnnotations) {
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameters.add(typeName(parameterTypes[i])
+                    + String.join("", annotations(i < parameterAnnotations.length ? parameterAnnotations[i]
+                            : new Annotation[0])));
+        }
+        return "(" + String.join(",", parameters) + ")";
+    }
+
+    private static Set<String> annotations(Annotation[] annotations) {
+        Set<String> rendered = new TreeSet<>();
+        for (Annotation annotation : annotations) {
+            rendered.add(render(annotation));
+        }
+        return rendered;
+    }
+
+    private static String render(Annotation annotation) {
+        Map<String, String> values = new TreeMap<>();
+        for (Method member : annotation.annotationType().getDeclaredMethods()) {
+            if (member.isSynthetic() || member.getParameterCount() > 0) {
+                continue;
+            }
+            member.trySetAccessible();
+            try {
+                values.put(member.getName(), render(member.invoke(annotation)));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Unable to read " + member + " of " + annotation, e);
+            }
+        }
+        List<String> members = new ArrayList<>();
+        values.forEach((member, value) -> members.add(member + "=" + value));
+        return "@" + annotation.annotationType().getName() + "(" + String.join(",", members) + ")";
+    }
+
+    private static String render(Object value) {
+        if (value instanceof Class) {
+            return ((Class<?>) value).getName();
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof Annotation) {
+            return render((Annotation) value);
+        }
+        if (value.getClass().isArray()) {
+            List<String> elements = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(render(Array.get(value, i)));
+            }
+            return "{" + String.join(",", elements) + "}";
+        }
+        if (value instanceof String) {
+            return "\"" + value + "\"";
+        }
+        return String.valueOf(value);
+    }
+
+    private static String hash(String signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(signature.getBytes(StandardCharsets.UTF_8));
+            return String.format("%016x", ByteBuffer.wrap(digest).getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
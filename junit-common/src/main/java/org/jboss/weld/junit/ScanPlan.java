@@ -0,0 +1,186 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.se.Weld;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The immutable result of the <b>automagic</b> bean class discovery for a test class. The plan is computed once and replayed
+ * onto a fresh {@link Weld} instance for every container, i.e. the graph of the test class is not traversed again.
+ *
+ * @see ClassScanner#plan(List, boolean)
+ */
+public final class ScanPlan {
+
+    private final Set<Class<?>> beanClasses;
+
+    private final List<ClassDirectives.PackageDirective> packages;
+
+    private final Set<Class<? extends Extension>> extensions;
+
+    private final Set<Class<?>> interceptors;
+
+    private final Set<Class<?>> decorators;
+
+    private final Set<Class<?>> alternatives;
+
+    private final Set<Class<? extends Annotation>> alternativeStereotypes;
+
+    private final Set<Type> excludedBeanTypes;
+
+    private final Set<Class<?>> excludedBeanClasses;
+
+    private final BeanDiscoveryMode beanDiscoveryMode;
+
+    ScanPlan(Set<Class<?>> beanClasses, List<ClassDirectives.PackageDirective> packages,
+            Set<Class<? extends Extension>> extensions, Set<Class<?>> interceptors, Set<Class<?>> decorators,
+            Set<Class<?>> alternatives, Set<Class<? extends Annotation>> alternativeStereotypes, Set<Type> excludedBeanTypes,
+            Set<Class<?>> excludedBeanClasses, BeanDiscoveryMode beanDiscoveryMode) {
+        this.beanClasses = Collections.unmodifiableSet(new LinkedHashSet<>(beanClasses));
+        this.packages = List.copyOf(packages);
+        this.extensions = Collections.unmodifiableSet(new LinkedHashSet<>(extensions));
+        this.interceptors = Collections.unmodifiableSet(new LinkedHashSet<>(interceptors));
+        this.decorators = Collections.unmodifiableSet(new LinkedHashSet<>(decorators));
+        this.alternatives = Collections.unmodifiableSet(new LinkedHashSet<>(alternatives));
+        this.alternativeStereotypes = Collections.unmodifiableSet(new LinkedHashSet<>(alternativeStereotypes));
+        this.excludedBeanTypes = Collections.unmodifiableSet(new LinkedHashSet<>(excludedBeanTypes));
+        this.excludedBeanClasses = Collections.unmodifiableSet(new LinkedHashSet<>(excludedBeanClasses));
+        this.beanDiscoveryMode = beanDiscoveryMode;
+    }
+
+    /**
+     * Adds the bean classes, packages, extensions, interceptors, decorators, alternatives and exclusions of this plan to the
+     * given {@link Weld} instance. A new instance of every extension class is created.
+     *
+     * @param weld
+     */
+    public void applyTo(Weld weld) {
+        for (ClassDirectives.PackageDirective directive : packages) {
+            weld.addPackage(directive.recursively, directive.packageClass);
+        }
+        for (Class<? extends Extension> extension : extensions) {
+            weld.addExtension(createExtension(extension));
+        }
+        interceptors.forEach(weld::addInterceptor);
+        decorators.forEach(weld::addDecorator);
+        alternatives.forEach(weld::addAlternative);
+        alternativeStereotypes.forEach(weld::addAlternativeStereotype);
+        if (beanDiscoveryMode != null) {
+            weld.setBeanDiscoveryMode(beanDiscoveryMode);
+        }
+        beanClasses.forEach(weld::addBeanClass);
+        weld.addExtension(new ExcludedBeansExtension(excludedBeanTypes, excludedBeanClasses));
+    }
+
+    /**
+     *
+     * @return the bean classes, including the enabled interceptors and decorators
+     */
+    public Set<Class<?>> getBeanClasses() {
+        return beanClasses;
+    }
+
+    List<ClassDirectives.PackageDirective> getPackages() {
+        return packages;
+    }
+
+    /**
+     *
+     * @return the extension classes
+     */
+    public Set<Class<? extends Extension>> getExtensions() {
+        return extensions;
+    }
+
+    /**
+     *
+     * @return the enabled interceptors
+     */
+    public Set<Class<?>> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     *
+     * @return the enabled decorators
+     */
+    public Set<Class<?>> getDecorators() {
+        return decorators;
+    }
+
+    /**
+     *
+     * @return the selected alternatives
+     */
+    public Set<Class<?>> getAlternatives() {
+        return alternatives;
+    }
+
+    /**
+     *
+     * @return the selected alternative stereotypes
+     */
+    public Set<Class<? extends Annotation>> getAlternativeStereotypes() {
+        return alternativeStereotypes;
+    }
+
+    /**
+     *
+     * @return the excluded bean types
+     */
+    public Set<Type> getExcludedBeanTypes() {
+        return excludedBeanTypes;
+    }
+
+    /**
+     *
+     * @return the excluded bean classes
+     */
+    public Set<Class<?>> getExcludedBeanClasses() {
+        return excludedBeanClasses;
+    }
+
+    /**
+     *
+     * @return the bean discovery mode, or {@code null} if not set
+     */
+    public BeanDiscoveryMode getBeanDiscoveryMode() {
+        return beanDiscoveryMode;
+    }
+
+    @SuppressFBWarnings(value = "THROWS_METHOD_THROWS_RUNTIMEEXCEPTION")
+    private static Extension createExtension(Class<? extends Extension> clazz) {
+        try {
+            return clazz.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
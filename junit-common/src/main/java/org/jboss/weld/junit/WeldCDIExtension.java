@@ -18,9 +18,16 @@ package org.jboss.weld.junit;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.spi.AlterableContext;
+import jakarta.enterprise.context.spi.Context;
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
 import jakarta.enterprise.inject.spi.Bean;
@@ -32,7 +39,7 @@ import jakarta.enterprise.inject.spi.Extension;
  * @author Martin Kouba
  * @author <a href="mailto:manovotn@redhat.com">Matej Novotny</a>
  */
-class WeldCDIExtension implements Extension {
+class WeldCDIExtension implements Extension, Fingerprintable {
 
     private final Set<Class<? extends Annotation>> scopesToActivate;
 
@@ -61,6 +68,17 @@ class WeldCDIExtension implements Extension {
         }
     }
 
+    @Override
+    public Object getFingerprint() {
+        Set<Object> beanComponents = new HashSet<>();
+        if (beans != null) {
+            for (Bean<?> bean : beans) {
+                beanComponents.add(DeploymentFingerprint.component(bean));
+            }
+        }
+        return List.of(scopesToActivate != null ? scopesToActivate : Set.of(), beanComponents);
+    }
+
     public void activateContexts() {
         if (contexts.isEmpty()) {
             return;
@@ -70,12 +88,87 @@ class WeldCDIExtension implements Extension {
         }
     }
 
-    public void deactivateContexts() {
-        if (contexts.isEmpty()) {
+    public void resetContexts() {
+        for (ContextImpl context : contexts) {
+            context.reset();
+        }
+    }
+
+    /**
+     * Binds the swappable mock beans registered by this extension to the equivalent beans of the given extension.
+     *
+     * @param other the extension of the initiator using the container
+     * @see MockBean.Builder#swappable()
+     */
+    void bindMockBeans(WeldCDIExtension other) {
+        if (beans == null || other.beans == null) {
             return;
         }
+        List<MockBean<?>> candidates = new LinkedList<>();
+        for (Bean<?> bean : other.beans) {
+            if (bean instanceof MockBean && ((MockBean<?>) bean).isSwappable()) {
+                candidates.add((MockBean<?>) bean);
+            }
+        }
+        for (Bean<?> bean : beans) {
+            if (bean instanceof MockBean && ((MockBean<?>) bean).isSwappable()) {
+                MockBean<?> mockBean = (MockBean<?>) bean;
+                for (Iterator<MockBean<?>> it = candidates.iterator(); it.hasNext();) {
+                    MockBean<?> candidate = it.next();
+                    if (candidate.getFingerprint().equals(mockBean.getFingerprint())) {
+                        mockBean.bind(candidate);
+                        it.remove();
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Destroys the contextual instances of the swappable mock beans registered by this extension and resets the mocks they
+     * handed out.
+     *
+     * @param beanManager
+     * @see MockBean.Builder#swappable()
+     */
+    void unbindMockBeans(BeanManager beanManager) {
+        if (beans == null) {
+            return;
+        }
+        for (Bean<?> bean : beans) {
+            if (bean instanceof MockBean && ((MockBean<?>) bean).isSwappable()) {
+                MockBean<?> mockBean = (MockBean<?>) bean;
+                if (!Dependent.class.equals(mockBean.getScope())) {
+                    try {
+                        Context context = beanManager.getContext(mockBean.getScope());
+                        if (context instanceof AlterableContext) {
+                            ((AlterableContext) context).destroy(mockBean);
+                        }
+                    } catch (ContextNotActiveException ignored) {
+                        // there is no instance to destroy
+                    }
+                }
+                mockBean.unbind();
+            }
+        }
+    }
+
+    public void deactivateContexts() {
+        deactivateContexts(false);
+    }
+
+    /**
+     *
+     * @param fastShutdown
+     * @return the number of skipped destroy callbacks
+     * @see ContextImpl#deactivate(boolean)
+     */
+    int deactivateContexts(boolean fastShutdown) {
+        int skipped = 0;
         for (ContextImpl context : contexts) {
-            context.deactivate();
+            skipped += context.deactivate(fastShutdown);
         }
+        return skipped;
     }
 }
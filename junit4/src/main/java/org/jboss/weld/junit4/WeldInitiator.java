@@ -83,6 +83,10 @@ import org.junit.runners.model.Statement;
  * </pre>
  *
  * <p>
+ * Containers can also be shared across test classes by running them in a {@link WeldSuite}.
+ * </p>
+ *
+ * <p>
  * {@link WeldInitiator} implements {@link Instance} and therefore might be used to perform programmatic lookup of bean
  * instances.
  * </p>
@@ -207,7 +211,8 @@ public class WeldInitiator extends AbstractWeldInitiator implements TestRule {
         protected WeldInitiator build(Weld weld, List<Object> instancesToInject,
                 Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
             return new WeldInitiator(weld, instancesToInject, scopesToActivate, beans, resources, getEjbFactory(),
-                    getPersistenceUnitFactory(), getPersistenceContextFactory());
+                    getPersistenceUnitFactory(), getPersistenceContextFactory(), isLazy(), isFastShutdown(), getWarmUpTypes(),
+                    getOverlayBeans());
         }
 
     }
@@ -216,9 +221,10 @@ public class WeldInitiator extends AbstractWeldInitiator implements TestRule {
             Set<Bean<?>> beans,
             Map<String, Object> resources, Function<InjectionPoint, Object> ejbFactory,
             Function<InjectionPoint, Object> persistenceUnitFactory,
-            Function<InjectionPoint, Object> persistenceContextFactory) {
+            Function<InjectionPoint, Object> persistenceContextFactory, boolean lazy, boolean fastShutdown,
+            Set<Class<?>> warmUpTypes, Set<Bean<?>> overlayBeans) {
         super(weld, instancesToInject, scopesToActivate, beans, resources, ejbFactory, persistenceUnitFactory,
-                persistenceContextFactory);
+                persistenceContextFactory, lazy, fastShutdown, warmUpTypes, overlayBeans);
     }
 
     /**
@@ -262,7 +268,7 @@ public class WeldInitiator extends AbstractWeldInitiator implements TestRule {
                     // Null in case of fromTestPackage() is used
                     weld = createWeld().addPackage(false, description.getTestClass());
                 }
-                initWeldContainer(weld);
+                initWeldContainer(weld, WeldSuite.getActiveCache());
                 try {
                     base.evaluate();
                 } finally {
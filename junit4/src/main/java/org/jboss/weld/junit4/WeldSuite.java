@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit4;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jboss.weld.junit.ContainerAdmission;
+import org.jboss.weld.junit.ContainerCache;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+
+/**
+ * JUnit 4 suite runner which shares containers across all the test classes of the suite:
+ *
+ * <pre>
+ * &#64;RunWith(WeldSuite.class)
+ * &#64;SuiteClasses({ FooTest.class, BarTest.class })
+ * public class MySuite {
+ * }
+ * </pre>
+ *
+ * <p>
+ * While the suite is running, a {@link WeldInitiator} does not shut down its container. Instead, the container is kept
+ * running and used by the next initiator with the same deployment, i.e. with the same bean classes, packages, alternatives,
+ * interceptors, decorators, extensions, activated scopes, added beans and so on. Before a container is used again, all the
+ * instances of {@code ApplicationScoped} and {@code Singleton} beans and of the activated scopes are destroyed, so that the
+ * next test class does not see the state of the previous one. All the containers are shut down when the suite finishes.
+ * </p>
+ *
+ * <p>
+ * At most {@link #DEFAULT_MAX_IDLE} idle containers are kept running, unless the suite class is annotated with
+ * {@link MaxIdle}. The least recently used container is shut down when the limit is exceeded.
+ * </p>
+ *
+ * <p>
+ * The savings are biggest if the initiator is used as {@code ClassRule} together with
+ * {@link WeldInitiator#getTestClassInjectorRule()}, but a {@code Rule} benefits as well. The containers are only shared by
+ * the tests run by the suite on its own thread, i.e. the tests running in parallel outside of the suite, or the children of
+ * the suite run on other threads, boot their own containers. A suite nested in another {@link WeldSuite} shares the
+ * containers of the outer suite. Note that {@code WeldContainer.current()} does not work if more than one container is
+ * running.
+ * </p>
+ *
+ * @see org.jboss.weld.junit.ContainerCache
+ */
+public class WeldSuite extends Suite {
+
+    /**
+     * The maximum number of idle containers kept running by a suite without the {@link MaxIdle} annotation.
+     */
+    public static final int DEFAULT_MAX_IDLE = 4;
+
+    /**
+     * Specifies the maximum number of idle containers kept running by the annotated suite.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @Inherited
+    public @interface MaxIdle {
+
+        /**
+         *
+         * @return the maximum number of idle containers
+         */
+        int value();
+
+    }
+
+    // the cache of the suite running on the current thread
+    private static final ThreadLocal<ContainerCache> CURRENT_CACHE = new ThreadLocal<>();
+
+    private final int maxIdle;
+
+    public WeldSuite(Class<?> klass, RunnerBuilder builder) throws InitializationError {
+        super(klass, builder);
+        MaxIdle annotation = klass.getAnnotation(MaxIdle.class);
+        this.maxIdle = annotation != null ? annotation.value() : DEFAULT_MAX_IDLE;
+        if (maxIdle < 0) {
+            throw new InitializationError("The maximum number of idle containers must not be negative: " + maxIdle);
+        }
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        if (CURRENT_CACHE.get() != null) {
+            // a nested suite shares the containers of the outer suite
+            super.run(notifier);
+            return;
+        }
+        ContainerCache cache = new ContainerCache(maxIdle, true);
+        CURRENT_CACHE.set(cache);
+        try {
+            super.run(notifier);
+        } finally {
+            CURRENT_CACHE.remove();
+            cache.close();
+            ContainerAdmission admission = ContainerAdmission.getGlobal();
+            if (admission != null) {
+                admission.report();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the cache of the suite running on the current thread, or {@code null} if the current thread does not run a
+     *         suite
+     */
+    static ContainerCache getActiveCache() {
+        return CURRENT_CACHE.get();
+    }
+
+}
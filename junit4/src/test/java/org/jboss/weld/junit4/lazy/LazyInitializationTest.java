@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit4.lazy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.weld.junit4.Foo;
+import org.jboss.weld.junit4.WeldInitiator;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LazyInitializationTest {
+
+    @Rule
+    public WeldInitiator weld = WeldInitiator.from(Foo.class).initializeLazily().build();
+
+    @Test
+    public void testContainerNotInitializedIfNotUsed() {
+        assertFalse(weld.isRunning());
+    }
+
+    @Test
+    public void testContainerInitializedOnSelect() {
+        assertFalse(weld.isRunning());
+        assertEquals("baz", weld.select(Foo.class).get().getBar());
+        assertTrue(weld.isRunning());
+    }
+
+}
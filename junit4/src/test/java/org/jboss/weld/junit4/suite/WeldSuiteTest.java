@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit4.suite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit4.Foo;
+import org.jboss.weld.junit4.WeldInitiator;
+import org.jboss.weld.junit4.WeldSuite;
+import org.jboss.weld.junit4.classrule.Charlie;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite.SuiteClasses;
+
+public class WeldSuiteTest {
+
+    static final Map<Class<?>, WeldContainer> CONTAINERS = new ConcurrentHashMap<>();
+
+    static final Map<Class<?>, String> CHARLIE_IDS = new ConcurrentHashMap<>();
+
+    @Test
+    public void testContainerSharedAcrossSuiteClasses() {
+        Result result = new JUnitCore().run(MySuite.class);
+        assertTrue(result.getFailures().toString(), result.wasSuccessful());
+        assertEquals(2, result.getRunCount());
+
+        WeldContainer container = CONTAINERS.get(FirstTest.class);
+        assertTrue(container == CONTAINERS.get(SecondTest.class));
+        // the application scoped state was reset between the classes
+        assertNotEquals(CHARLIE_IDS.get(FirstTest.class), CHARLIE_IDS.get(SecondTest.class));
+        // the container was shut down at the end of the suite
+        assertFalse(container.isRunning());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedContainerShutDown() {
+        Result result = new JUnitCore().run(BoundedSuite.class);
+        assertTrue(result.getFailures().toString(), result.wasSuccessful());
+        assertEquals(3, result.getRunCount());
+
+        // the container of the first class was shut down once the container of the other deployment was released
+        assertNotSame(CONTAINERS.get(FirstTest.class), CONTAINERS.get(SecondTest.class));
+    }
+
+    @RunWith(WeldSuite.class)
+    @SuiteClasses({ FirstTest.class, SecondTest.class })
+    public static class MySuite {
+    }
+
+    @RunWith(WeldSuite.class)
+    @SuiteClasses({ FirstTest.class, OtherDeploymentTest.class, SecondTest.class })
+    @WeldSuite.MaxIdle(1)
+    public static class BoundedSuite {
+    }
+
+    public static class FirstTest {
+
+        @ClassRule
+        public static WeldInitiator weld = WeldInitiator.of(Charlie.class);
+
+        @Rule
+        public MethodRule testClassInjectorRule = weld.getTestClassInjectorRule();
+
+        @Inject
+        Charlie charlie;
+
+        @Test
+        public void test() {
+            CONTAINERS.put(FirstTest.class, weld.container());
+            CHARLIE_IDS.put(FirstTest.class, charlie.getId());
+        }
+
+    }
+
+    public static class SecondTest {
+
+        @ClassRule
+        public static WeldInitiator weld = WeldInitiator.of(Charlie.class);
+
+        @Rule
+        public MethodRule testClassInjectorRule = weld.getTestClassInjectorRule();
+
+        @Inject
+        Charlie charlie;
+
+        @Test
+        public void test() {
+            CONTAINERS.put(SecondTest.class, weld.container());
+            CHARLIE_IDS.put(SecondTest.class, charlie.getId());
+        }
+
+    }
+
+    public static class OtherDeploymentTest {
+
+        @ClassRule
+        public static WeldInitiator weld = WeldInitiator.of(Charlie.class, Foo.class);
+
+        @Test
+        public void test() {
+            CONTAINERS.put(OtherDeploymentTest.class, weld.container());
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+/**
+ * Determines how long a Weld container started by {@link WeldJunit5Extension} is used.
+ *
+ * @see EnableWeld#containerLifecycle()
+ * @see org.jboss.weld.junit5.auto.EnableAutoWeld#containerLifecycle()
+ */
+public enum ContainerLifecycle {
+
+    /**
+     * A container is started for each test instance, i.e. for each test method if running
+     * {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_METHOD} or once per test class if running
+     * {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS}. This is the default.
+     */
+    PER_TEST_INSTANCE,
+
+    /**
+     * Like {@link #PER_TEST_INSTANCE} but a container is started only once per test template method, e.g. a
+     * {@link org.junit.jupiter.params.ParameterizedTest} or a {@link org.junit.jupiter.api.RepeatedTest}, and used by all its
+     * invocations. Each invocation is injected and the contexts of the scopes activated by the {@link WeldInitiator} are
+     * reset, however the state of application scoped and singleton beans is kept.
+     */
+    PER_TEST_TEMPLATE,
+
+    /**
+     * A container is started once per test class even if running
+     * {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_METHOD}. The container is booted with the configuration of the
+     * first test instance, each following test instance is only injected. The contexts of the scopes activated by the
+     * {@link WeldInitiator} are reset for each test method, however the state of application scoped and singleton beans is
+     * kept.
+     */
+    PER_CLASS,
+
+    /**
+     * A single container is started once per JUnit Platform launcher session and shared by all the test classes using this
+     * lifecycle. The deployment is declared by the {@link WeldSessionDeployment} service providers, the configuration of the
+     * test class itself is ignored and the test instances are only injected. The contexts of the scopes activated for the
+     * session deployment are reset for each test instance, however the state of application scoped and singleton beans is
+     * kept. The container is shut down by {@link WeldSessionListener} once the launcher session is closed.
+     */
+    SESSION
+
+}
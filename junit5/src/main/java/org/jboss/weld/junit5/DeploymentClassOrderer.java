@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import static org.jboss.weld.junit5.WeldJunit5Extension.CONTAINER_CACHE;
+import static org.jboss.weld.junit5.WeldJunit5Extension.CONTAINER_CACHE_MAX_IDLE;
+import static org.jboss.weld.junit5.WeldJunit5Extension.findTestClassAnnotation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.jboss.weld.junit.DeploymentFingerprint;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+/**
+ * A {@link ClassOrderer} which runs the test classes with the same deployment back-to-back, so that the container cache
+ * (see {@link WeldJunit5Extension#CONTAINER_CACHE}) can reuse their container instead of booting a new one. It can be
+ * enabled for the whole test run via the configuration parameter
+ * {@code junit.jupiter.testclass.order.default=org.jboss.weld.junit5.DeploymentClassOrderer}.
+ *
+ * <p>
+ * The deployment of a test class enabling Weld via {@link EnableWeld} is read from its {@link WeldSetup} field. A static
+ * field is read directly, otherwise a new instance of the test class is created, i.e. its constructor and instance
+ * initializers are executed once more. The classes are clustered by the {@link DeploymentFingerprint} of their deployment, the
+ * clusters are ordered by their first occurrence and the original order is kept within each cluster. The deployment of a
+ * class using {@link EnableAutoWeld} always contains the test class itself and therefore cannot be shared with another
+ * class, the same applies to classes whose deployment cannot be predicted.
+ * </p>
+ *
+ * <p>
+ * The expected number of container boots before and after the reordering is logged.
+ * </p>
+ *
+ * @see WeldJunit5Extension#CONTAINER_CACHE
+ */
+public class DeploymentClassOrderer implements ClassOrderer {
+
+    private static final Logger LOGGER = Logger.getLogger(DeploymentClassOrderer.class.getName());
+
+    // the key of test classes which do not use Weld at all
+    private static final Object NO_DEPLOYMENT = new Object();
+
+    private final WeldJunit5Extension extension = new WeldJunit5Extension();
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        List<? extends ClassDescriptor> classDescriptors = context.getClassDescriptors();
+        if (classDescriptors.size() < 2) {
+            return;
+        }
+        Map<ClassDescriptor, Object> keys = new IdentityHashMap<>();
+        Map<Object, Integer> clusters = new HashMap<>();
+        List<Object> originalOrder = new ArrayList<>();
+        for (ClassDescriptor classDescriptor : classDescriptors) {
+            Object key = getDeploymentKey(classDescriptor.getTestClass());
+            keys.put(classDescriptor, key);
+            clusters.putIfAbsent(key, clusters.size());
+            originalOrder.add(key);
+        }
+        // the sort is stable, i.e. the original order is kept within a cluster
+        classDescriptors.sort(Comparator.comparingInt(classDescriptor -> clusters.get(keys.get(classDescriptor))));
+
+        List<Object> newOrder = new ArrayList<>();
+        for (ClassDescriptor classDescriptor : classDescriptors) {
+            newOrder.add(keys.get(classDescriptor));
+        }
+        int maxIdle = context.getConfigurationParameter(CONTAINER_CACHE).map(Boolean::parseBoolean).orElse(false)
+                ? context.getConfigurationParameter(CONTAINER_CACHE_MAX_IDLE).map(Integer::parseInt).orElse(1)
+                : 0;
+        LOGGER.info(() -> "Ordered " + classDescriptors.size() + " test classes by deployment [expected container boots: "
+                + countBoots(originalOrder, maxIdle) + " before, " + countBoots(newOrder, maxIdle) + " after]");
+    }
+
+    private Object getDeploymentKey(Class<?> testClass) {
+        if (findTestClassAnnotation(testClass, EnableAutoWeld.class) != null) {
+            // the test class is part of the deployment
+            return testClass;
+        }
+        if (findTestClassAnnotation(testClass, EnableWeld.class) == null) {
+            return NO_DEPLOYMENT;
+        }
+        DeploymentFingerprint fingerprint = null;
+        try {
+            WeldInitiator initiator = extension.findStaticInitiator(testClass);
+            if (initiator == null) {
+                Object testInstance = extension.instantiateTestClass(testClass);
+                initiator = testInstance != null ? extension.findInitiatorInInstance(testInstance) : null;
+            }
+            if (initiator != null) {
+                fingerprint = initiator.getFingerprint(testClass);
+            }
+        } catch (RuntimeException e) {
+            // the test reports the problem itself
+        }
+        // a deployment which cannot be fingerprinted is never shared
+        return fingerprint != null ? fingerprint : testClass;
+    }
+
+    /**
+     * Simulates the container cache, i.e. a container is kept idle after a test class finished and the least recently used
+     * container is shut down if there are more than {@code maxIdle} idle containers.
+     */
+    static int countBoots(List<Object> keys, int maxIdle) {
+        Map<Object, Boolean> idle = new LinkedHashMap<>(16, 0.75f, true);
+        int boots = 0;
+        for (Object key : keys) {
+            if (key == NO_DEPLOYMENT) {
+                continue;
+            }
+            if (idle.remove(key) == null) {
+                boots++;
+            }
+            if (maxIdle > 0) {
+                idle.put(key, Boolean.TRUE);
+                for (Iterator<Object> it = idle.keySet().iterator(); idle.size() > maxIdle;) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+        return boots;
+    }
+
+}
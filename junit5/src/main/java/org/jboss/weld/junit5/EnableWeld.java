@@ -56,4 +56,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(WeldJunit5Extension.class)
 public @interface EnableWeld {
 
+    /**
+     * By default, a Weld container is started for each test instance.
+     *
+     * @return the lifecycle of the Weld container
+     * @see ContainerLifecycle
+     */
+    ContainerLifecycle containerLifecycle() default ContainerLifecycle.PER_TEST_INSTANCE;
+
 }
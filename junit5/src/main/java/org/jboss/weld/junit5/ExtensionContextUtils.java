@@ -17,10 +17,18 @@
 package org.jboss.weld.junit5;
 
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
 import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit.AsyncContainerShutdown;
+import org.jboss.weld.junit.ContainerAdmission;
+import org.jboss.weld.junit.ContainerCache;
+import org.jboss.weld.junit.ContainerPool;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.StoreScope;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
 /**
  * <b>This class is not a public API and it's contents can change unpredictably!</b>
@@ -34,6 +42,14 @@ public class ExtensionContextUtils {
     private static final String CONTAINER = "weldContainer";
     private static final String EXPLICIT_PARAM_INJECTION = "explicitParamInjection";
     private static final String WELD_ENRICHERS = "weldEnrichers";
+    private static final String CONTAINER_CACHE = "weldContainerCache";
+    private static final String PROFILE_CONTAINER_CACHE = "weldProfileContainerCache";
+    private static final String SHARED_INITIATOR = "sharedWeldInitiator";
+    private static final String SESSION_INITIATOR = "sessionWeldInitiator";
+    private static final String CONTAINER_POOL = "weldContainerPool";
+    private static final String UPCOMING_TESTS = "weldUpcomingTests";
+    private static final String ASYNC_SHUTDOWN = "weldAsyncShutdown";
+    private static final String ADMISSION_REPORT = "weldAdmissionReport";
 
     private static Namespace EXTENSION_NAMESPACE;
 
@@ -55,6 +71,16 @@ public class ExtensionContextUtils {
         return context.getRoot().getStore(EXTENSION_NAMESPACE);
     }
 
+    /**
+     * The store of the JUnit Platform launcher session uses the same namespace as the root store.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @return <b>Launcher session</b> {@link ExtensionContext.Store} with {@link Namespace} based on extension class alone
+     */
+    private static ExtensionContext.Store getSessionExtensionStore(ExtensionContext context) {
+        return context.getStore(StoreScope.LAUNCHER_SESSION, Namespace.create(WeldJunit5Extension.class));
+    }
+
     /**
      * We use custom namespace based on this extension class and test class, cannot be stored as static variable as test class
      * name changes throughout testsuite execution
@@ -80,6 +106,31 @@ public class ExtensionContextUtils {
         getTestStore(context).put(INITIATOR, initiator);
     }
 
+    /**
+     * Can return null if no container is shared by the test instances executed within the provided {@link ExtensionContext}
+     *
+     * @param context {@link ExtensionContext} owning the shared container
+     * @return the initiator owning the shared container or null
+     */
+    public static WeldInitiator getSharedInitiatorFromStore(ExtensionContext context) {
+        SharedInitiator sharedInitiator = getTestStore(context).get(SHARED_INITIATOR, SharedInitiator.class);
+        return sharedInitiator != null ? sharedInitiator.initiator : null;
+    }
+
+    /**
+     * Returns the {@link WeldInitiator} owning the container shared by all test instances executed within the provided
+     * {@link ExtensionContext}, creating it if needed. The container is shut down by JUnit once the context is closed.
+     *
+     * @param context {@link ExtensionContext} owning the shared container
+     * @param initiatorSupplier supplies the initiator which already started the container
+     * @return the initiator owning the shared container
+     */
+    public static WeldInitiator getSharedInitiatorFromStore(ExtensionContext context,
+            Supplier<WeldInitiator> initiatorSupplier) {
+        return getTestStore(context).getOrComputeIfAbsent(SHARED_INITIATOR,
+                key -> new SharedInitiator(initiatorSupplier.get()), SharedInitiator.class).initiator;
+    }
+
     /**
      * Return boolean indicating whether explicit parameter injection is enabled
      */
@@ -142,4 +193,165 @@ public class ExtensionContextUtils {
         getRootExtensionStore(context).put(WELD_ENRICHERS, enrichers);
     }
 
+    /**
+     * Returns the {@link ContainerCache} stored in the <i>root</i> extension context, creating it if needed. The cache is
+     * closed by JUnit once the root context is closed, i.e. at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param maxIdle the maximum number of idle containers, used if the cache does not exist yet
+     * @return the container cache
+     */
+    public static ContainerCache getContainerCacheFromStore(ExtensionContext context, int maxIdle) {
+        return getContainerCacheFromStore(context, maxIdle, false);
+    }
+
+    /**
+     * Returns the {@link ContainerCache} stored in the <i>root</i> extension context, creating it if needed. The cache is
+     * closed by JUnit once the root context is closed, i.e. at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param maxIdle the maximum number of idle containers, used if the cache does not exist yet
+     * @param softReset whether a container is soft reset before it is reused, used if the cache does not exist yet
+     * @return the container cache
+     */
+    public static ContainerCache getContainerCacheFromStore(ExtensionContext context, int maxIdle, boolean softReset) {
+        return getRootExtensionStore(context).getOrComputeIfAbsent(CONTAINER_CACHE,
+                key -> new ContainerCache(maxIdle, softReset), ContainerCache.class);
+    }
+
+    /**
+     * Returns the {@link ContainerCache} of the containers booted for {@link WeldDeploymentProfile}s, stored in the <i>root</i>
+     * extension context and created if needed. The cache keeps at most one idle container per registered profile and it is
+     * closed by JUnit once the root context is closed, i.e. at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param softReset whether a container is soft reset before it is reused, used if the cache does not exist yet
+     * @return the container cache
+     */
+    public static ContainerCache getProfileContainerCacheFromStore(ExtensionContext context, boolean softReset) {
+        return getRootExtensionStore(context).getOrComputeIfAbsent(PROFILE_CONTAINER_CACHE,
+                key -> new ContainerCache(countProfiles(), softReset), ContainerCache.class);
+    }
+
+    private static int countProfiles() {
+        // the providers are not instantiated, at least the profile of the initiator requesting the cache is registered
+        return (int) Math.max(ServiceLoader.load(WeldDeploymentProfile.class).stream().count(), 1);
+    }
+
+    /**
+     * Returns the {@link ContainerPool} stored in the <i>root</i> extension context, creating it if needed. The pool is closed
+     * by JUnit once the root context is closed, i.e. at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param maxSize the maximum number of containers warmed up ahead of time, used if the pool does not exist yet
+     * @param memoryCeiling the heap usage limit in bytes, used if the pool does not exist yet
+     * @return the container pool
+     */
+    public static ContainerPool getContainerPoolFromStore(ExtensionContext context, int maxSize, long memoryCeiling) {
+        return getRootExtensionStore(context).getOrComputeIfAbsent(CONTAINER_POOL,
+                key -> new ContainerPool(maxSize, memoryCeiling), ContainerPool.class);
+    }
+
+    /**
+     * Returns the {@link AsyncContainerShutdown} stored in the <i>root</i> extension context, creating it if needed. JUnit
+     * closes it once the root context is closed, i.e. it waits for all the pending shutdowns at the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param maxPending the maximum number of containers waiting for the shutdown, used if it does not exist yet
+     * @return the asynchronous container shutdown
+     */
+    public static AsyncContainerShutdown getAsyncShutdownFromStore(ExtensionContext context, int maxPending) {
+        return getRootExtensionStore(context).getOrComputeIfAbsent(ASYNC_SHUTDOWN,
+                key -> new AsyncContainerShutdown(maxPending), AsyncContainerShutdown.class);
+    }
+
+    /**
+     * Makes JUnit report the statistics of the given {@link ContainerAdmission} once the <i>root</i> context is closed, i.e. at
+     * the end of the test suite.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param admission the admission controller
+     */
+    static void registerAdmissionReport(ExtensionContext context, ContainerAdmission admission) {
+        getRootExtensionStore(context).getOrComputeIfAbsent(ADMISSION_REPORT, key -> new AdmissionReport(admission),
+                AdmissionReport.class);
+    }
+
+    /**
+     * Can return null if the test plan is not known, i.e. if {@link WeldSessionListener} is not registered
+     */
+    static UpcomingTests getUpcomingTestsFromStore(ExtensionContext context) {
+        return getSessionExtensionStore(context).get(UPCOMING_TESTS, UpcomingTests.class);
+    }
+
+    /**
+     * Stores the tests of the test plan being executed in the given launcher session store, {@code null} removes them.
+     */
+    static void setUpcomingTests(NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store,
+            UpcomingTests upcomingTests) {
+        org.junit.platform.engine.support.store.Namespace namespace = org.junit.platform.engine.support.store.Namespace
+                .create(WeldJunit5Extension.class);
+        if (upcomingTests != null) {
+            store.put(namespace, UPCOMING_TESTS, upcomingTests);
+        } else {
+            store.remove(namespace, UPCOMING_TESTS);
+        }
+    }
+
+    /**
+     * Returns the {@link WeldInitiator} owning the container shared by all the test classes using
+     * {@link ContainerLifecycle#SESSION}, creating it if needed. The container is shut down by {@link WeldSessionListener} or
+     * by JUnit once the launcher session is closed.
+     *
+     * @param context {@link ExtensionContext} you are currently using
+     * @param initiatorSupplier supplies the initiator which already started the container
+     * @return the initiator owning the session container
+     */
+    public static WeldInitiator getSessionInitiatorFromStore(ExtensionContext context,
+            Supplier<WeldInitiator> initiatorSupplier) {
+        return getSessionExtensionStore(context).getOrComputeIfAbsent(SESSION_INITIATOR,
+                key -> new SharedInitiator(initiatorSupplier.get()), SharedInitiator.class).initiator;
+    }
+
+    /**
+     * Shuts down the session container, if any, stored in the given launcher session store.
+     */
+    static void closeSessionInitiator(NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store) {
+        Object sessionInitiator = store.remove(
+                org.junit.platform.engine.support.store.Namespace.create(WeldJunit5Extension.class), SESSION_INITIATOR);
+        if (sessionInitiator instanceof SharedInitiator) {
+            ((SharedInitiator) sessionInitiator).close();
+        }
+    }
+
+    private static final class SharedInitiator implements AutoCloseable {
+
+        private final WeldInitiator initiator;
+
+        private SharedInitiator(WeldInitiator initiator) {
+            this.initiator = initiator;
+        }
+
+        @Override
+        public void close() {
+            initiator.shutdownWeld();
+        }
+
+    }
+
+    private static final class AdmissionReport implements AutoCloseable {
+
+        private final ContainerAdmission admission;
+
+        private AdmissionReport(ContainerAdmission admission) {
+            this.admission = admission;
+        }
+
+        @Override
+        public void close() {
+            admission.report();
+        }
+
+    }
+
 }
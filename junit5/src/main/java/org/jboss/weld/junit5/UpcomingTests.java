@@ -0,0 +1,121 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * The test methods of the discovered test plan in the order of discovery, used to predict the deployments the upcoming tests
+ * will need.
+ *
+ * @see WeldJunit5Extension#WARM_POOL_SIZE
+ */
+final class UpcomingTests {
+
+    private final List<MethodSource> tests = new ArrayList<>();
+
+    // unique id -> index of the first test which is not part of the subtree
+    private final Map<String, Integer> ends = new HashMap<>();
+
+    private final Set<Object> claimed = ConcurrentHashMap.newKeySet();
+
+    private UpcomingTests(TestPlan testPlan) {
+        for (TestIdentifier root : testPlan.getRoots()) {
+            collect(testPlan, root);
+        }
+    }
+
+    private void collect(TestPlan testPlan, TestIdentifier identifier) {
+        if (identifier.getSource().filter(MethodSource.class::isInstance).isPresent()) {
+            // a test method or a test template, the invocations of a template are not known in advance
+            tests.add((MethodSource) identifier.getSource().get());
+        } else {
+            for (TestIdentifier child : testPlan.getChildren(identifier)) {
+                collect(testPlan, child);
+            }
+        }
+        ends.put(identifier.getUniqueId(), tests.size());
+    }
+
+    /**
+     *
+     * @param uniqueId
+     * @return {@code true} if the test or container with the given unique id is part of the test plan, {@code false}
+     *         otherwise
+     */
+    boolean contains(String uniqueId) {
+        return ends.containsKey(uniqueId);
+    }
+
+    /**
+     *
+     * @param uniqueId the unique id of the test or container being executed
+     * @param limit the maximum number of tests returned
+     * @return the tests following the given test or container, or an empty list if it is not part of the test plan
+     */
+    List<MethodSource> after(String uniqueId, int limit) {
+        Integer end = ends.get(uniqueId);
+        if (end == null) {
+            return List.of();
+        }
+        return tests.subList(end, Math.min(end + limit, tests.size()));
+    }
+
+    /**
+     *
+     * @param key identifies the container warmed up ahead of time
+     * @return {@code true} if no container was warmed up for the given key yet, {@code false} otherwise
+     */
+    boolean claim(Object key) {
+        return claimed.add(key);
+    }
+
+    /**
+     * Stores the test plan in the launcher session store once the execution starts.
+     */
+    static final class Listener implements TestExecutionListener {
+
+        private final NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store;
+
+        Listener(NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store) {
+            this.store = store;
+        }
+
+        @Override
+        public void testPlanExecutionStarted(TestPlan testPlan) {
+            ExtensionContextUtils.setUpcomingTests(store, new UpcomingTests(testPlan));
+        }
+
+        @Override
+        public void testPlanExecutionFinished(TestPlan testPlan) {
+            ExtensionContextUtils.setUpcomingTests(store, null);
+        }
+
+    }
+
+}
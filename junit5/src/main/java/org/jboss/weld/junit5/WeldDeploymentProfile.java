@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit5.WeldInitiator.Builder;
+
+/**
+ * Declares a named deployment which can be shared by many test classes via {@link WeldInitiator#fromProfile(String)}. The
+ * service providers of this interface are discovered using {@link java.util.ServiceLoader}, the initial {@link Weld}
+ * instance is created using {@link WeldInitiator#createWeld()}.
+ *
+ * <p>
+ * All the tests using the same profile, and adding nothing else than swappable mock beans or overlay beans on top of it,
+ * share a single container which is booted once and shut down at the end of the test suite. At most one idle container per
+ * registered profile is kept, i.e. the container of a test adding anything else on top of a profile may evict the container
+ * of the profile.
+ * </p>
+ *
+ * <pre>
+ * public class ServicesProfile implements WeldDeploymentProfile {
+ *
+ *     public String getName() {
+ *         return "services";
+ *     }
+ *
+ *     public void configure(Weld weld, WeldInitiator.Builder weldInitiatorBuilder) {
+ *         weld.addBeanClasses(Foo.class, Bar.class);
+ *         weldInitiatorBuilder.activate(RequestScoped.class);
+ *     }
+ * }
+ * </pre>
+ *
+ * @see WeldInitiator#fromProfile(String)
+ * @see org.jboss.weld.junit.MockBean.Builder#swappable()
+ */
+public interface WeldDeploymentProfile {
+
+    /**
+     *
+     * @return the name the tests use to reference this profile
+     */
+    String getName();
+
+    /**
+     * Configure the profile deployment.
+     *
+     * <p>
+     * {@link Weld#initialize()} and {@link WeldInitiator.Builder#build()} methods must never be invoked here!
+     * </p>
+     *
+     * @param weld
+     * @param weldInitiatorBuilder
+     */
+    void configure(Weld weld, Builder weldInitiatorBuilder);
+
+}
@@ -19,6 +19,7 @@ package org.jboss.weld.junit5;
 import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -29,6 +30,10 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 import org.jboss.weld.junit.AbstractWeldInitiator;
+import org.jboss.weld.junit.AsyncContainerShutdown;
+import org.jboss.weld.junit.ContainerCache;
+import org.jboss.weld.junit.ContainerPool;
+import org.jboss.weld.junit.DeploymentFingerprint;
 
 /**
  * JUnit 5 initiator - can be used to customize the Weld SE container started by {@link WeldJunit5Extension}.
@@ -139,6 +144,36 @@ public class WeldInitiator extends AbstractWeldInitiator {
         return new Builder(weld);
     }
 
+    /**
+     * Create a builder instance configured by the {@link WeldDeploymentProfile} with the given name. The container of the
+     * profile is booted once and reused by all the tests using the same profile, see {@link WeldDeploymentProfile}.
+     *
+     * @param name the name of the profile
+     * @return a builder instance
+     * @throws IllegalArgumentException if no profile with the given name is found
+     */
+    public static Builder fromProfile(String name) {
+        WeldDeploymentProfile found = null;
+        for (WeldDeploymentProfile profile : ServiceLoader.load(WeldDeploymentProfile.class)) {
+            if (profile.getName().equals(name)) {
+                if (found != null) {
+                    throw new IllegalStateException("Multiple deployment profiles named " + name + " found: "
+                            + found.getClass().getName() + ", " + profile.getClass().getName());
+                }
+                found = profile;
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException("No " + WeldDeploymentProfile.class.getName() + " service provider named "
+                    + name + " found");
+        }
+        Weld weld = createWeld();
+        Builder builder = new Builder(weld);
+        found.configure(weld, builder);
+        builder.profile = name;
+        return builder;
+    }
+
     /**
      * Create a builder instance.
      *
@@ -169,6 +204,8 @@ public class WeldInitiator extends AbstractWeldInitiator {
      */
     public static final class Builder extends AbstractBuilder<WeldInitiator, Builder> {
 
+        private String profile;
+
         private Builder(Weld weld) {
             super(weld);
         }
@@ -182,32 +219,89 @@ public class WeldInitiator extends AbstractWeldInitiator {
         protected WeldInitiator build(Weld weld, List<Object> instancesToInject,
                 Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
             return new WeldInitiator(weld, instancesToInject, scopesToActivate, beans, resources, getEjbFactory(),
-                    getPersistenceUnitFactory(), getPersistenceContextFactory());
+                    getPersistenceUnitFactory(), getPersistenceContextFactory(), isLazy(), isFastShutdown(), getWarmUpTypes(),
+                    getOverlayBeans(), profile);
         }
 
     }
 
+    private final String profile;
+
     private WeldInitiator(Weld weld, List<Object> instancesToInject, Set<Class<? extends Annotation>> scopesToActivate,
             Set<Bean<?>> beans,
             Map<String, Object> resources, Function<InjectionPoint, Object> ejbFactory,
             Function<InjectionPoint, Object> persistenceUnitFactory,
-            Function<InjectionPoint, Object> persistenceContextFactory) {
+            Function<InjectionPoint, Object> persistenceContextFactory, boolean lazy, boolean fastShutdown,
+            Set<Class<?>> warmUpTypes, Set<Bean<?>> overlayBeans, String profile) {
         super(weld, instancesToInject, scopesToActivate, beans, resources, ejbFactory, persistenceUnitFactory,
-                persistenceContextFactory);
+                persistenceContextFactory, lazy, fastShutdown, warmUpTypes, overlayBeans);
+        this.profile = profile;
+    }
+
+    /**
+     *
+     * @return the name of the {@link WeldDeploymentProfile} this initiator was created from, or {@code null}
+     */
+    String getProfile() {
+        return profile;
     }
 
     void shutdownWeld() {
         super.shutdownWeldContainer();
     }
 
+    void shutdownWeld(AsyncContainerShutdown asyncShutdown) {
+        super.shutdownWeldContainer(asyncShutdown);
+    }
+
     WeldContainer initWeld(Object testInstance) {
+        return initWeld(testInstance, null);
+    }
+
+    WeldContainer initWeld(Object testInstance, ContainerCache cache) {
+        return initWeld(testInstance, cache, null);
+    }
+
+    WeldContainer initWeld(Object testInstance, ContainerCache cache, ContainerPool pool) {
+        return initWeld(testInstance, cache, pool, false);
+    }
+
+    WeldContainer initWeld(Object testInstance, ContainerCache cache, ContainerPool pool, boolean attachable) {
+        return initWeldContainer(getWeld(testInstance.getClass()), cache, pool, attachable);
+    }
+
+    @Override
+    protected boolean isInitializationDeferred() {
+        return super.isInitializationDeferred();
+    }
+
+    boolean warmUpWeld(Class<?> testClass, ContainerPool pool) {
+        return warmUpWeldContainer(getWeld(testClass), pool);
+    }
+
+    DeploymentFingerprint getFingerprint(Class<?> testClass) {
+        return getFingerprint(getWeld(testClass));
+    }
+
+    boolean hasSameDeployment(WeldInitiator initiator, Object testInstance) {
+        return hasSameDeployment(getWeld(testInstance.getClass()), initiator);
+    }
+
+    private Weld getWeld(Class<?> testClass) {
         Weld weld = WeldInitiator.this.weld;
         if (weld == null) {
             // null in case of fromTestPackage() was used
-            weld = createWeld().addPackage(false, testInstance.getClass());
+            weld = createWeld().addPackage(false, testClass);
         }
+        return weld;
+    }
+
+    WeldContainer attachWeld(WeldInitiator initiator) {
+        return attachWeldContainer(initiator);
+    }
 
-        return initWeldContainer(weld);
+    void detachWeld() {
+        detachWeldContainer();
     }
 
     void addObjectsToInjectInto(Set<Object> instancesToInjectInto) {
@@ -16,10 +16,18 @@
  */
 package org.jboss.weld.junit5;
 
+import static org.jboss.weld.junit5.ExtensionContextUtils.getAsyncShutdownFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getContainerCacheFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getContainerFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getContainerPoolFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getEnrichersFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getExplicitInjectionInfoFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.getInitiatorFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getProfileContainerCacheFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getSessionInitiatorFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getSharedInitiatorFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.getUpcomingTestsFromStore;
+import static org.jboss.weld.junit5.ExtensionContextUtils.registerAdmissionReport;
 import static org.jboss.weld.junit5.ExtensionContextUtils.removeContainerFromStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.setContainerToStore;
 import static org.jboss.weld.junit5.ExtensionContextUtils.setEnrichersToStore;
@@ -31,6 +39,7 @@ import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -45,8 +54,16 @@ import java.util.stream.Collectors;
 import jakarta.enterprise.inject.spi.BeanManager;
 
 import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
 import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.junit.AsyncContainerShutdown;
+import org.jboss.weld.junit.ContainerAdmission;
+import org.jboss.weld.junit.ContainerCache;
+import org.jboss.weld.junit.ContainerPool;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.jboss.weld.junit5.auto.WeldJunit5AutoExtension;
 import org.jboss.weld.util.collections.ImmutableList;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepetitionInfo;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestInstance;
@@ -61,6 +78,9 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.support.descriptor.MethodSource;
 
 /**
  * JUnit 5 extension allowing to bootstrap Weld SE container for each @Test method (or once per test class
@@ -98,6 +118,19 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
     // global system property
     public static final String GLOBAL_EXPLICIT_PARAM_INJECTION = "org.jboss.weld.junit5.explicitParamInjection";
 
+    // configuration parameters (or system properties) enabling the suite-wide container cache
+    public static final String CONTAINER_CACHE = "org.jboss.weld.junit5.containerCache";
+    public static final String CONTAINER_CACHE_MAX_IDLE = "org.jboss.weld.junit5.containerCache.maxIdle";
+    public static final String CONTAINER_CACHE_SOFT_RESET = "org.jboss.weld.junit5.containerCache.softReset";
+
+    // configuration parameters (or system properties) enabling the pool of containers warmed up ahead of time
+    public static final String WARM_POOL_SIZE = "org.jboss.weld.junit5.warmPool.size";
+    public static final String WARM_POOL_MEMORY_CEILING = "org.jboss.weld.junit5.warmPool.memoryCeiling";
+
+    // configuration parameters (or system properties) enabling the shutdown of containers in the background
+    public static final String ASYNC_SHUTDOWN = "org.jboss.weld.junit5.asyncShutdown";
+    public static final String ASYNC_SHUTDOWN_MAX_PENDING = "org.jboss.weld.junit5.asyncShutdown.maxPending";
+
     private static void storeExplicitParamResolutionInformation(ExtensionContext ec) {
         // check system property which may have set the global explicit param injection
         boolean globalSettings = Boolean.parseBoolean(System.getProperty(GLOBAL_EXPLICIT_PARAM_INJECTION, "false"));
@@ -132,6 +165,11 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
             ServiceLoader.load(WeldJunitEnricher.class).forEach(enrichers::add);
             setEnrichersToStore(context, enrichers.build());
         }
+        ContainerAdmission admission = ContainerAdmission.getGlobal();
+        if (admission != null) {
+            // the statistics are reported at the end of the test suite
+            registerAdmissionReport(context, admission);
+        }
         // if the lifecycle is per-class, then we want to start container here
         startWeldContainerIfAppropriate(PER_CLASS, context);
     }
@@ -148,8 +186,13 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
             if (initiator != null) {
                 // Clean up all auto-closeable sources in the Store
                 removeContainerFromStore(context);
-                // Perform Weld container shut down
-                initiator.shutdownWeld();
+                if (getSharedContainerContext(context) != null) {
+                    // The shared container is shut down once the owning context is closed
+                    initiator.detachWeld();
+                } else {
+                    // Perform Weld container shut down
+                    initiator.shutdownWeld(getAsyncShutdown(context));
+                }
             }
         }
     }
@@ -162,7 +205,7 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
                 // Clean up all auto-closeable sources in the Store
                 removeContainerFromStore(context);
                 // Perform Weld container shut down
-                initiator.shutdownWeld();
+                initiator.shutdownWeld(getAsyncShutdown(context));
             }
         }
     }
@@ -171,14 +214,58 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
         weld.addPackage(false, context.getRequiredTestClass());
     }
 
+    /**
+     * Configures the deployment of an upcoming test whose container is booted ahead of time, see {@link #WARM_POOL_SIZE}.
+     * There is no extension context for the upcoming test yet, hence the configuration has to be derived from the test
+     * instance. It should be equal to the configuration performed by
+     * {@link #weldInit(ExtensionContext, Weld, WeldInitiator.Builder)}, otherwise the container booted ahead of time is not
+     * used.
+     *
+     * @param testInstance a new instance of the upcoming top-level or static nested test class
+     * @param weld
+     * @param weldInitiatorBuilder
+     */
+    protected void weldInitUpcoming(Object testInstance, Weld weld, WeldInitiator.Builder weldInitiatorBuilder) {
+        weld.addPackage(false, testInstance.getClass());
+    }
+
+    /**
+     *
+     * @param context
+     * @return the lifecycle of the Weld container for the given context
+     * @see EnableWeld#containerLifecycle()
+     */
+    protected ContainerLifecycle determineContainerLifecycle(ExtensionContext context) {
+        EnableWeld enableWeld = findTestClassAnnotation(context.getRequiredTestClass(), EnableWeld.class);
+        return enableWeld != null ? enableWeld.containerLifecycle() : ContainerLifecycle.PER_TEST_INSTANCE;
+    }
+
+    /**
+     * Looks for the annotation on the given test class (including meta-annotations and inherited annotations) and, in case of
+     * nested test classes, on the enclosing classes.
+     *
+     * @param testClass
+     * @param annotationType
+     * @return the annotation found or {@code null}
+     */
+    protected static <A extends Annotation> A findTestClassAnnotation(Class<?> testClass, Class<A> annotationType) {
+        for (Class<?> clazz = testClass; clazz != null; clazz = clazz.getEnclosingClass()) {
+            Optional<A> annotation = AnnotationSupport.findAnnotation(clazz, annotationType);
+            if (annotation.isPresent()) {
+                return annotation.get();
+            }
+        }
+        return null;
+    }
+
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
             throws ParameterResolutionException {
         // we did our checks in supportsParameter() method, now we can do simple resolution
-        if (getContainerFromStore(extensionContext) != null) {
-            List<Annotation> qualifiers = resolveQualifiers(parameterContext,
-                    getContainerFromStore(extensionContext).getBeanManager());
-            return getContainerFromStore(extensionContext)
+        WeldContainer container = getContainer(extensionContext);
+        if (container != null) {
+            List<Annotation> qualifiers = resolveQualifiers(parameterContext, container.getBeanManager());
+            return container
                     .select(parameterContext.getParameter().getParameterizedType(),
                             qualifiers.toArray(new Annotation[qualifiers.size()]))
                     .get();
@@ -193,24 +280,30 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
         if (isJUnitResolvedParameter(parameterContext)) {
             return false;
         }
-        // if weld container isn't up yet or if it's not Method, we don't resolve it
-        if (getContainerFromStore(extensionContext) == null
-                || (!(parameterContext.getDeclaringExecutable() instanceof Method))) {
+        // if it's not Method or if weld container isn't up yet, we don't resolve it
+        if (!(parameterContext.getDeclaringExecutable() instanceof Method)) {
             return false;
         }
-        List<Annotation> qualifiers = resolveQualifiers(parameterContext,
-                getContainerFromStore(extensionContext).getBeanManager());
         // if we require explicit parameter injection (via global settings or annotation) and there are no qualifiers we don't resolve it
         // if the method is annotated @ParameterizedTest, we treat it as explicit param injection and require qualifiers
-        if ((getExplicitInjectionInfoFromStore(extensionContext)
+        boolean explicitInjection = getExplicitInjectionInfoFromStore(extensionContext)
                 || methodRequiresExplicitParamInjection(parameterContext)
-                || methodIsParameterizedTest(parameterContext))
-                && qualifiers.isEmpty()) {
+                || methodIsParameterizedTest(parameterContext);
+        // a parameter without annotations cannot declare a qualifier, do not force the deferred initialization
+        if (explicitInjection && parameterContext.getParameter().getAnnotations().length == 0) {
+            return false;
+        }
+        WeldContainer container = getContainer(extensionContext);
+        if (container == null) {
+            return false;
+        }
+        List<Annotation> qualifiers = resolveQualifiers(parameterContext, container.getBeanManager());
+        if (explicitInjection && qualifiers.isEmpty()) {
             return false;
         } else {
             // attempt to resolve the bean; at this point we know it should be a CDI bean since it has CDI qualifiers
             // if resolution fails, throw an exception
-            WeldInstance<?> select = getContainerFromStore(extensionContext).select(
+            WeldInstance<?> select = container.select(
                     parameterContext.getParameter().getParameterizedType(),
                     qualifiers.toArray(new Annotation[qualifiers.size()]));
             if (!select.isResolvable()) {
@@ -225,6 +318,24 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
         }
     }
 
+    /**
+     * Initializes the container if its initialization was deferred. Such a container is not put in the store.
+     *
+     * @param context
+     * @return the container or {@code null} if the container is not started for the given context
+     */
+    private WeldContainer getContainer(ExtensionContext context) {
+        WeldContainer container = getContainerFromStore(context);
+        if (container == null) {
+            WeldInitiator initiator = getInitiatorFromStore(context);
+            if (initiator != null && (initiator.isInitializationDeferred() || initiator.isRunning())) {
+                // not stored, the store of the given context may be closed before the container is shut down
+                container = initiator.container();
+            }
+        }
+        return container;
+    }
+
     /**
      * @see {@code org.junit.jupiter.engine.extension.TestInfoParameterResolver.supportsParameter}
      * @see {@code org.junit.jupiter.engine.extension.RepetitionExtension.supportsParameter}
@@ -292,23 +403,340 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
             // until we find a WeldInitiator
             final List<Object> allTestInstances = new ArrayList<>(context.getRequiredTestInstances().getAllInstances());
             Collections.reverse(allTestInstances); // so we can iterate from inner-most to outer-most
+
+            if (determineContainerLifecycle(context).equals(ContainerLifecycle.SESSION)) {
+                attachToSessionContainer(context, allTestInstances);
+                return;
+            }
             WeldInitiator initiator = allTestInstances.stream()
                     .map(this::findInitiatorInInstance)
                     .filter(Objects::nonNull)
                     .findFirst()
                     .orElseGet(() -> getDefaultInitiator(context, testInstance));
+
+            // a nested test class which adds no configuration uses the running container of its enclosing class
+            if (attachToEnclosingContainer(context, initiator, allTestInstances)) {
+                return;
+            }
             setInitiatorToStore(context, initiator);
 
             // this ensures the test class is injected into
             // in case of nested tests, this also injects into any outer classes
             initiator.addObjectsToInjectInto(new HashSet<>(allTestInstances));
 
-            // and finally, init Weld
-            setContainerToStore(context, initiator.initWeld(testInstance));
+            ContainerPool pool = getContainerPool(context);
+            // the tests of nested classes may attach to the container
+            boolean attachable = hasNestedTestClasses(context.getRequiredTestClass());
+
+            // and finally, init Weld or attach to the shared container
+            ExtensionContext sharedContainerContext = getSharedContainerContext(context);
+            WeldContainer container;
+            if (sharedContainerContext == null) {
+                container = initiator.initWeld(testInstance, getContainerCache(context, initiator), pool, attachable);
+            } else {
+                WeldInitiator owner = getSharedInitiatorFromStore(sharedContainerContext, () -> {
+                    initiator.initWeld(testInstance, getContainerCache(context, initiator), pool, attachable);
+                    // other tests attach to the shared container, hence it is never initialized lazily
+                    initiator.container();
+                    return initiator;
+                });
+                container = owner == initiator ? initiator.container() : initiator.attachWeld(owner);
+            }
+            if (container != null) {
+                setContainerToStore(context, container);
+            }
+
+            // boot the containers of the upcoming tests in the background while this test is running
+            if (pool != null) {
+                warmUpUpcomingContainers(context, pool);
+            }
         }
     }
 
-    private WeldInitiator findInitiatorInInstance(Object testInstance) {
+    /**
+     * The configuration of the test class is ignored, the test instances are only injected. The initiator found in the test
+     * instances, if any, is still used so that it can be used to access the container.
+     */
+    private void attachToSessionContainer(ExtensionContext context, List<Object> allTestInstances) {
+        Object testInstance = context.getRequiredTestInstance();
+        WeldInitiator initiator = allTestInstances.stream()
+                .map(this::findInitiatorInInstance)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseGet(() -> WeldInitiator.of(WeldInitiator.createWeld()));
+        WeldInitiator owner = getSessionInitiatorFromStore(context, () -> {
+            Weld weld = WeldInitiator.createWeld();
+            WeldInitiator.Builder builder = WeldInitiator.from(weld);
+            List<WeldSessionDeployment> deployments = new ArrayList<>();
+            ServiceLoader.load(WeldSessionDeployment.class).forEach(deployments::add);
+            if (deployments.isEmpty()) {
+                throw new IllegalStateException("ContainerLifecycle.SESSION is used by " + context.getRequiredTestClass()
+                        + " but no " + WeldSessionDeployment.class.getName() + " service provider was found");
+            }
+            for (WeldSessionDeployment deployment : deployments) {
+                deployment.configure(weld, builder);
+            }
+            // enrichers contribute to the session deployment exactly once
+            applyEnrichers(context, testInstance, weld, builder);
+            WeldInitiator sessionInitiator = builder.build();
+            sessionInitiator.initWeld(testInstance);
+            // the owner only keeps the container running, contexts are activated for each attached test
+            sessionInitiator.detachWeld();
+            return sessionInitiator;
+        });
+        setInitiatorToStore(context, initiator);
+        initiator.addObjectsToInjectInto(new HashSet<>(allTestInstances));
+        setContainerToStore(context, initiator.attachWeld(owner));
+    }
+
+    /**
+     * Looks for a running container started for an enclosing test class. The container is used if it was started by the
+     * same initiator or if its deployment is equal to the one the initiator would start.
+     *
+     * @param context
+     * @param initiator the initiator found for the test
+     * @param allTestInstances the test instances ordered from inner-most to outer-most
+     * @return {@code true} if the test was attached to the container of an enclosing test class, {@code false} otherwise
+     */
+    private boolean attachToEnclosingContainer(ExtensionContext context, WeldInitiator initiator,
+            List<Object> allTestInstances) {
+        // the class contexts ordered from inner-most to outer-most, i.e. the same order as the test instances
+        List<ExtensionContext> classContexts = new ArrayList<>();
+        for (Optional<ExtensionContext> current = Optional.of(context); current.isPresent()
+                && current.get().getTestClass().isPresent(); current = current.get().getParent()) {
+            if (current.get().getTestMethod().isEmpty()) {
+                classContexts.add(current.get());
+            }
+        }
+        for (int i = 1; i < classContexts.size(); i++) {
+            ExtensionContext enclosingContext = classContexts.get(i);
+            WeldInitiator owner = getSharedInitiatorFromStore(enclosingContext);
+            if (owner == null) {
+                owner = getInitiatorFromStore(enclosingContext);
+            }
+            if (owner == null || !owner.isRunning()
+                    || (owner != initiator && !initiator.hasSameDeployment(owner, context.getRequiredTestInstance()))) {
+                continue;
+            }
+            // the enclosing instances were already injected if they are shared by all the tests of the enclosing class
+            List<Object> instancesToInject = determineTestLifecycle(enclosingContext).equals(PER_CLASS)
+                    ? allTestInstances.subList(0, i)
+                    : allTestInstances;
+            // the initiator of the enclosing class must not be modified
+            WeldInitiator attachedInitiator = owner == initiator ? WeldInitiator.of(WeldInitiator.createWeld()) : initiator;
+            attachedInitiator.addObjectsToInjectInto(new HashSet<>(instancesToInject));
+            setInitiatorToStore(context, attachedInitiator);
+            setContainerToStore(context, attachedInitiator.attachWeld(owner));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param context
+     * @return the context owning the container shared by multiple test instances, or {@code null} if the container is not
+     *         shared
+     */
+    private ExtensionContext getSharedContainerContext(ExtensionContext context) {
+        if (!determineTestLifecycle(context).equals(PER_METHOD)) {
+            return null;
+        }
+        switch (determineContainerLifecycle(context)) {
+            case PER_CLASS:
+                ExtensionContext classContext = context;
+                while (classContext.getTestMethod().isPresent()) {
+                    classContext = classContext.getParent().orElseThrow();
+                }
+                return classContext;
+            case PER_TEST_TEMPLATE:
+                // the parent of a test template invocation is the context of the test template method
+                return context.getParent()
+                        .filter(parent -> parent.getTestMethod().isPresent())
+                        .orElse(null);
+            default:
+                return null;
+        }
+    }
+
+    private ContainerCache getContainerCache(ExtensionContext context, WeldInitiator initiator) {
+        if (initiator.getProfile() != null) {
+            // exactly one container per profile, regardless of the container cache configuration
+            return getProfileContainerCacheFromStore(context,
+                    context.getConfigurationParameter(CONTAINER_CACHE_SOFT_RESET, Boolean::parseBoolean).orElse(false));
+        }
+        if (!context.getConfigurationParameter(CONTAINER_CACHE, Boolean::parseBoolean).orElse(false)) {
+            return null;
+        }
+        return getContainerCacheFromStore(context,
+                context.getConfigurationParameter(CONTAINER_CACHE_MAX_IDLE, Integer::parseInt).orElse(1),
+                context.getConfigurationParameter(CONTAINER_CACHE_SOFT_RESET, Boolean::parseBoolean).orElse(false));
+    }
+
+    private AsyncContainerShutdown getAsyncShutdown(ExtensionContext context) {
+        if (!context.getConfigurationParameter(ASYNC_SHUTDOWN, Boolean::parseBoolean).orElse(false)) {
+            return null;
+        }
+        return getAsyncShutdownFromStore(context,
+                context.getConfigurationParameter(ASYNC_SHUTDOWN_MAX_PENDING, Integer::parseInt).orElse(2));
+    }
+
+    private ContainerPool getContainerPool(ExtensionContext context) {
+        int maxSize = context.getConfigurationParameter(WARM_POOL_SIZE, Integer::parseInt).orElse(0);
+        if (maxSize < 1) {
+            return null;
+        }
+        return getContainerPoolFromStore(context, maxSize,
+                context.getConfigurationParameter(WARM_POOL_MEMORY_CEILING, ContainerAdmission::parseMemorySize)
+                        .orElseGet(() -> Runtime.getRuntime().maxMemory() / 4 * 3));
+    }
+
+    /**
+     * Predicts the deployments of the tests following the given one in the test plan and warms up their containers. Each
+     * upcoming test is considered once, a test class using {@link TestInstance.Lifecycle#PER_CLASS} needs a single container.
+     */
+    private void warmUpUpcomingContainers(ExtensionContext context, ContainerPool pool) {
+        UpcomingTests upcomingTests = getUpcomingTestsFromStore(context);
+        if (upcomingTests == null) {
+            return;
+        }
+        // test template invocations are not part of the test plan
+        Optional<ExtensionContext> current = Optional.of(context);
+        while (current.isPresent() && !upcomingTests.contains(current.get().getUniqueId())) {
+            current = current.get().getParent();
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+        for (MethodSource test : upcomingTests.after(current.get().getUniqueId(), pool.getMaxSize())) {
+            if (!pool.hasCapacity()) {
+                return;
+            }
+            Class<?> testClass = test.getJavaClass();
+            Object key = isPerClassTestLifecycle(context, testClass) ? testClass : test;
+            if (upcomingTests.claim(key)) {
+                WeldInitiator predicted = predictUpcomingInitiator(context, testClass);
+                if (predicted != null) {
+                    predicted.warmUpWeld(testClass, pool);
+                }
+            }
+        }
+    }
+
+    /**
+     * Only test classes using {@link ContainerLifecycle#PER_TEST_INSTANCE} are considered. The initiator declared by a static
+     * {@link WeldSetup} field is read without instantiating the test class.
+     *
+     * @param testClass
+     * @return the initiator the upcoming test will use or {@code null} if it cannot be predicted
+     * @see #findStaticInitiator(Class)
+     * @see #instantiateTestClass(Class)
+     */
+    private WeldInitiator predictUpcomingInitiator(ExtensionContext context, Class<?> testClass) {
+        EnableWeld enableWeld = findTestClassAnnotation(testClass, EnableWeld.class);
+        EnableAutoWeld enableAutoWeld = findTestClassAnnotation(testClass, EnableAutoWeld.class);
+        ContainerLifecycle lifecycle = enableWeld != null ? enableWeld.containerLifecycle()
+                : enableAutoWeld != null ? enableAutoWeld.containerLifecycle() : null;
+        if (!ContainerLifecycle.PER_TEST_INSTANCE.equals(lifecycle)) {
+            return null;
+        }
+        if (enableWeld != null) {
+            WeldInitiator initiator = findStaticInitiator(testClass);
+            if (initiator != null) {
+                return initiator;
+            }
+        }
+        Object testInstance = instantiateTestClass(testClass);
+        return testInstance != null ? predictInitiator(context, testInstance) : null;
+    }
+
+    /**
+     * The upcoming test may use the other variant of the extension, e.g. a test using {@link EnableAutoWeld} may follow a
+     * test using {@link EnableWeld}.
+     *
+     * @param context the context of the test being executed
+     * @param testInstance a new instance of the upcoming test class
+     * @return the initiator the upcoming test will use or {@code null} if it cannot be predicted
+     */
+    private WeldInitiator predictInitiator(ExtensionContext context, Object testInstance) {
+        boolean automagic = findTestClassAnnotation(testInstance.getClass(), EnableAutoWeld.class) != null;
+        WeldJunit5Extension extension = this;
+        if (automagic != (this instanceof WeldJunit5AutoExtension)) {
+            extension = automagic ? new WeldJunit5AutoExtension() : new WeldJunit5Extension();
+        }
+        try {
+            WeldInitiator initiator = extension.findInitiatorInInstance(testInstance);
+            return initiator != null ? initiator : extension.getUpcomingDefaultInitiator(context, testInstance);
+        } catch (RuntimeException e) {
+            // the test reports the problem itself
+            return null;
+        }
+    }
+
+    /**
+     * Reads the initiator of a test class declaring its {@link WeldSetup} field as static, i.e. no instance of the test class
+     * is created. Only the static initializers of the test class run, as they would once the test class is executed.
+     *
+     * @param testClass
+     * @return the initiator or {@code null} if the test class does not declare a single static {@link WeldSetup} field
+     */
+    WeldInitiator findStaticInitiator(Class<?> testClass) {
+        Field found = null;
+        for (Class<?> clazz = testClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.isAnnotationPresent(WeldSetup.class)) {
+                    if (found != null || !Modifier.isStatic(field.getModifiers())) {
+                        return null;
+                    }
+                    found = field;
+                }
+            }
+        }
+        if (found == null) {
+            return null;
+        }
+        Object value = ReflectionSupport.tryToReadFieldValue(found, null).toOptional().orElse(null);
+        return value instanceof WeldInitiator ? (WeldInitiator) value : null;
+    }
+
+    /**
+     * Only top-level and static nested test classes enabling Weld via {@link EnableWeld} or {@link EnableAutoWeld} are
+     * considered, the deployment can then be read from a new instance of the test class. Note that the constructor and the
+     * instance initializers of the test class are executed, the instance is never used to run a test.
+     *
+     * @param testClass
+     * @return a new instance of the test class or {@code null} if the deployment cannot be predicted
+     */
+    Object instantiateTestClass(Class<?> testClass) {
+        if ((findTestClassAnnotation(testClass, EnableWeld.class) == null
+                && findTestClassAnnotation(testClass, EnableAutoWeld.class) == null)
+                || Modifier.isAbstract(testClass.getModifiers())
+                || (testClass.isMemberClass() && !Modifier.isStatic(testClass.getModifiers()))) {
+            return null;
+        }
+        try {
+            return ReflectionSupport.newInstance(testClass);
+        } catch (RuntimeException e) {
+            // e.g. no default constructor, the test boots its container itself
+            return null;
+        }
+    }
+
+    private static boolean hasNestedTestClasses(Class<?> testClass) {
+        return !ReflectionSupport.findNestedClasses(testClass, nested -> nested.isAnnotationPresent(Nested.class)).isEmpty();
+    }
+
+    private static boolean isPerClassTestLifecycle(ExtensionContext context, Class<?> testClass) {
+        Optional<TestInstance> testInstance = AnnotationSupport.findAnnotation(testClass, TestInstance.class);
+        if (testInstance.isPresent()) {
+            return testInstance.get().value().equals(PER_CLASS);
+        }
+        return context.getConfigurationParameter(TestInstance.Lifecycle.DEFAULT_LIFECYCLE_PROPERTY_NAME)
+                .map(value -> value.trim().equalsIgnoreCase(PER_CLASS.name()))
+                .orElse(false);
+    }
+
+    WeldInitiator findInitiatorInInstance(Object testInstance) {
         // all found fields which are WeldInitiator and have @WeldSetup annotation
         List<Field> foundInitiatorFields = new ArrayList<>();
         WeldInitiator initiator = null;
@@ -371,6 +799,27 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
 
         weldInit(context, weld, builder);
 
+        applyEnrichers(context, testInstance, weld, builder);
+
+        return builder.build();
+    }
+
+    /**
+     * The enrichers are applied with the context of the test being executed because the upcoming test has no context yet.
+     */
+    private WeldInitiator getUpcomingDefaultInitiator(ExtensionContext context, Object testInstance) {
+
+        Weld weld = WeldInitiator.createWeld();
+        WeldInitiator.Builder builder = WeldInitiator.from(weld);
+
+        weldInitUpcoming(testInstance, weld, builder);
+
+        applyEnrichers(context, testInstance, weld, builder);
+
+        return builder.build();
+    }
+
+    private void applyEnrichers(ExtensionContext context, Object testInstance, Weld weld, WeldInitiator.Builder builder) {
         // Apply discovered enrichers
         for (WeldJunitEnricher enricher : getEnrichersFromStore(context)) {
             String property = System.getProperty(enricher.getClass().getName());
@@ -378,8 +827,6 @@ public class WeldJunit5Extension implements AfterAllCallback, BeforeAllCallback,
                 enricher.enrich(testInstance, context, weld, builder);
             }
         }
-
-        return builder.build();
     }
 
     protected void validateInitiator(List<Field> foundInitiatorFields) {
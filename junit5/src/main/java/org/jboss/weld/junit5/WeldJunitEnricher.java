@@ -31,6 +31,11 @@ import org.junit.jupiter.api.extension.ExtensionContext;
  * {@code org.weld.FooEnricher} use {@code -Dorg.weld.FooEnricher=false} to disable the enricher.
  * </p>
  *
+ * <p>
+ * Enrichers are also applied to the session deployment (see {@link ContainerLifecycle#SESSION}). In that case, an enricher is
+ * invoked exactly once, with the test instance and context of the first test using the session container.
+ * </p>
+ *
  * @author Martin Kouba
  */
 public interface WeldJunitEnricher {
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit5.WeldInitiator.Builder;
+
+/**
+ * Declares the deployment of the Weld container which is booted once per JUnit Platform launcher session and shared by all
+ * the test classes using {@link ContainerLifecycle#SESSION}. All service providers of this interface are used to configure
+ * the deployment, the initial {@link Weld} instance is created using {@link WeldInitiator#createWeld()}.
+ *
+ * <p>
+ * The discovered {@link WeldJunitEnricher}s are applied afterwards, exactly once.
+ * </p>
+ *
+ * @see ContainerLifecycle#SESSION
+ * @see WeldSessionListener
+ */
+public interface WeldSessionDeployment {
+
+    /**
+     * Configure the session deployment.
+     *
+     * <p>
+     * {@link Weld#initialize()} and {@link WeldInitiator.Builder#build()} methods must never be invoked here!
+     * </p>
+     *
+     * @param weld
+     * @param weldInitiatorBuilder
+     */
+    void configure(Weld weld, Builder weldInitiatorBuilder);
+
+}
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Shuts down the Weld container shared by all the test classes using {@link ContainerLifecycle#SESSION} once the JUnit
+ * Platform launcher session is closed. It also keeps track of the test plan being executed so that containers can be warmed
+ * up ahead of time. The listener is registered automatically.
+ *
+ * @see WeldSessionDeployment
+ * @see WeldJunit5Extension#WARM_POOL_SIZE
+ */
+public class WeldSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        session.getLauncher().registerTestExecutionListeners(new UpcomingTests.Listener(session.getStore()));
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        ExtensionContextUtils.closeSessionInitiator(session.getStore());
+    }
+
+}
@@ -23,6 +23,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.jboss.weld.junit5.ContainerLifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -55,4 +56,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(WeldJunit5AutoExtension.class)
 public @interface EnableAutoWeld {
 
+    /**
+     * By default, a Weld container is started for each test instance.
+     *
+     * @return the lifecycle of the Weld container
+     * @see ContainerLifecycle
+     */
+    ContainerLifecycle containerLifecycle() default ContainerLifecycle.PER_TEST_INSTANCE;
+
 }
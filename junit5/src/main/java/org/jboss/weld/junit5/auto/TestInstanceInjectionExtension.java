@@ -16,8 +16,16 @@
  */
 package org.jboss.weld.junit5.auto;
 
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.stream.Stream;
+
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.InjectionTarget;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
@@ -26,6 +34,7 @@ import jakarta.enterprise.util.AnnotationLiteral;
 import jakarta.inject.Singleton;
 
 import org.jboss.weld.injection.ForwardingInjectionTarget;
+import org.jboss.weld.junit.Fingerprintable;
 
 /**
  * Extension that makes a test instance appear like a regular bean even though instantiated by JUnit.
@@ -34,7 +43,7 @@ import org.jboss.weld.injection.ForwardingInjectionTarget;
  * Proper handling of all other CDI annotations such as {@link jakarta.enterprise.inject.Produces &#064;Produces} is supported
  * only on top level test classes.
  */
-public class TestInstanceInjectionExtension<T> implements Extension {
+public class TestInstanceInjectionExtension<T> implements Extension, Fingerprintable {
 
     private static final AnnotationLiteral<Singleton> SINGLETON_LITERAL = new AnnotationLiteral<Singleton>() {
     };
@@ -83,4 +92,40 @@ public class TestInstanceInjectionExtension<T> implements Extension {
 
     }
 
+    /**
+     * The test class bean always returns the instance the container was booted with. A container can be shared by other
+     * instances of the same test class only if the test class does not declare any producers, disposers or observers,
+     * because these would be invoked upon that instance.
+     */
+    @Override
+    public Object getFingerprint() {
+        for (Class<?> clazz = testClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Produces.class)) {
+                    return null;
+                }
+            }
+            boolean boundToInstance = Stream.concat(Stream.of(clazz.getDeclaredMethods()),
+                    Stream.of(clazz.getDeclaredConstructors()))
+                    .anyMatch(TestInstanceInjectionExtension::isBoundToInstance);
+            if (boundToInstance) {
+                return null;
+            }
+        }
+        return testClass;
+    }
+
+    private static boolean isBoundToInstance(Executable executable) {
+        if (executable.isAnnotationPresent(Produces.class)) {
+            return true;
+        }
+        for (Parameter parameter : executable.getParameters()) {
+            if (parameter.isAnnotationPresent(Disposes.class) || parameter.isAnnotationPresent(Observes.class)
+                    || parameter.isAnnotationPresent(ObservesAsync.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit5.ContainerLifecycle;
+import org.jboss.weld.junit5.ExplicitParamInjection;
 import org.jboss.weld.junit5.WeldInitiator;
 import org.jboss.weld.junit5.WeldJunit5Extension;
 import org.jboss.weld.junit5.WeldJunitEnricher;
@@ -72,13 +74,32 @@ public class WeldJunit5AutoExtension extends WeldJunit5Extension {
         }
     }
 
+    @Override
+    protected ContainerLifecycle determineContainerLifecycle(ExtensionContext context) {
+        EnableAutoWeld enableAutoWeld = findTestClassAnnotation(context.getRequiredTestClass(), EnableAutoWeld.class);
+        return enableAutoWeld != null ? enableAutoWeld.containerLifecycle() : ContainerLifecycle.PER_TEST_INSTANCE;
+    }
+
     @Override
     protected void weldInit(ExtensionContext context, Weld weld, WeldInitiator.Builder weldInitiatorBuilder) {
+        weldInit(context.getRequiredTestInstances().getAllInstances(), getExplicitInjectionInfoFromStore(context), weld,
+                weldInitiatorBuilder);
+    }
+
+    @Override
+    protected void weldInitUpcoming(Object testInstance, Weld weld, WeldInitiator.Builder weldInitiatorBuilder) {
+        ExplicitParamInjection explicitParamInjection = findTestClassAnnotation(testInstance.getClass(),
+                ExplicitParamInjection.class);
+        weldInit(List.of(testInstance), explicitParamInjection != null && explicitParamInjection.value(), weld,
+                weldInitiatorBuilder);
+    }
+
+    private void weldInit(List<?> testInstances, boolean explicitInjection, Weld weld,
+            WeldInitiator.Builder weldInitiatorBuilder) {
 
-        List<?> testInstances = context.getRequiredTestInstances().getAllInstances();
         List<Class<?>> testClasses = testInstances.stream().map(Object::getClass).collect(Collectors.toList());
 
-        ClassScanning.scanForRequiredBeanClasses(testClasses, weld, getExplicitInjectionInfoFromStore(context));
+        ClassScanning.scanForRequiredBeanClasses(testClasses, weld, explicitInjection);
 
         // Add the outer-most test class only because Weld would ignore inner, @Nested test classes anyway
         // due to their not meeting valid beans requirements for not having a no-arg constructor.
@@ -0,0 +1,261 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.junit.ContainerAdmission;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.containerCache.Bar;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+/**
+ * The admission controller is global, i.e. no other test may boot a container in the meantime.
+ */
+@Isolated
+public class ContainerAdmissionTest {
+
+    static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    static final AtomicInteger MAX_ACTIVE = new AtomicInteger();
+
+    private ContainerAdmission previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = ContainerAdmission.getGlobal();
+        ACTIVE.set(0);
+        MAX_ACTIVE.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContainerAdmission.setGlobal(previous);
+    }
+
+    @Test
+    public void testRunningContainersLimited() {
+        ContainerAdmission admission = new ContainerAdmission(1, Long.MAX_VALUE, 60_000);
+        ContainerAdmission.setGlobal(admission);
+
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4")
+                .selectors(selectClass(ParallelTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(4).succeeded(4));
+
+        assertEquals(1, MAX_ACTIVE.get());
+        assertEquals(4, admission.getAdmitted());
+        assertTrue(admission.getQueued() > 0);
+        assertEquals(0, admission.getTimedOut());
+        assertEquals(0, admission.getRunning());
+    }
+
+    @Test
+    public void testWaitingContainerAdmittedAfterMaxWait() {
+        ContainerAdmission admission = new ContainerAdmission(1, Long.MAX_VALUE, 0);
+        ContainerAdmission.setGlobal(admission);
+
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4")
+                .selectors(selectClass(ParallelTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(4).succeeded(4));
+
+        // the waiting containers are admitted without waiting for a slot
+        assertEquals(4, admission.getAdmitted());
+        assertEquals(admission.getQueued(), admission.getTimedOut());
+        assertEquals(0, admission.getRunning());
+    }
+
+    @Test
+    public void testIdleContainersEvicted() {
+        ContainerAdmission admission = new ContainerAdmission(1, Long.MAX_VALUE, 60_000);
+        ContainerAdmission.setGlobal(admission);
+
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE_MAX_IDLE, "2")
+                .selectors(selectClass(FirstDeploymentTest.class), selectClass(SecondDeploymentTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        // the idle container of the first deployment was shut down instead of waiting for the maximum wait time
+        assertEquals(2, admission.getAdmitted());
+        assertEquals(1, admission.getEvicted());
+        assertEquals(0, admission.getTimedOut());
+        assertTrue(admission.getMaxWaitMillis() < 60_000);
+    }
+
+    @Test
+    public void testWarmUpNotAdmittedWithoutCapacity() {
+        ContainerAdmission admission = new ContainerAdmission(1, Long.MAX_VALUE, 60_000);
+        ContainerAdmission.setGlobal(admission);
+
+        // a separate launcher session so that the test plan is known and the upcoming containers are warmed up
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.WARM_POOL_SIZE, "2")
+                .configurationParameter(WeldJunit5Extension.WARM_POOL_MEMORY_CEILING, "64g")
+                .selectors(selectClass(WarmedUpTest.class))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        try (LauncherSession session = LauncherFactory.openSession()) {
+            session.getLauncher().execute(request, listener);
+        }
+        assertEquals(0, listener.getSummary().getTotalFailureCount());
+        assertEquals(3, listener.getSummary().getTestsSucceededCount());
+
+        // the running test holds the only slot, the warm-up neither waits nor delays the upcoming tests
+        assertTrue(admission.getRejected() > 0);
+        assertEquals(0, admission.getQueued());
+        assertEquals(0, admission.getTimedOut());
+        assertEquals(0, admission.getRunning());
+    }
+
+    @Test
+    public void testParseMemorySize() {
+        assertEquals(512, ContainerAdmission.parseMemorySize("512"));
+        assertEquals(2048, ContainerAdmission.parseMemorySize("2k"));
+        assertEquals(3L * 1024 * 1024, ContainerAdmission.parseMemorySize(" 3M "));
+        assertEquals(1L << 30, ContainerAdmission.parseMemorySize("1g"));
+    }
+
+    @EnableWeld
+    static class FirstDeploymentTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Test
+        void test() {
+            assertEquals("foo", weld.select(Foo.class).get().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class SecondDeploymentTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class, Bar.class);
+
+        @Test
+        void test() {
+            assertEquals("foo", weld.select(Foo.class).get().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class WarmedUpTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Test
+        void first() throws InterruptedException {
+            run();
+        }
+
+        @Test
+        void second() throws InterruptedException {
+            run();
+        }
+
+        @Test
+        void third() throws InterruptedException {
+            run();
+        }
+
+        private void run() throws InterruptedException {
+            assertEquals("foo", weld.select(Foo.class).get().getId());
+            // the first test keeps the slot until the containers of the upcoming tests were attempted to be warmed up
+            ContainerAdmission admission = ContainerAdmission.getGlobal();
+            for (int i = 0; i < 100 && admission.getRejected() + admission.getQueued() < 2; i++) {
+                Thread.sleep(50);
+            }
+        }
+
+    }
+
+    @EnableWeld
+    static class ParallelTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Test
+        void first() throws InterruptedException {
+            run();
+        }
+
+        @Test
+        void second() throws InterruptedException {
+            run();
+        }
+
+        @Test
+        void third() throws InterruptedException {
+            run();
+        }
+
+        @Test
+        void fourth() throws InterruptedException {
+            run();
+        }
+
+        private void run() throws InterruptedException {
+            int active = ACTIVE.incrementAndGet();
+            MAX_ACTIVE.accumulateAndGet(active, Math::max);
+            try {
+                assertEquals("foo", weld.select(Foo.class).get().getId());
+                Thread.sleep(100);
+            } finally {
+                ACTIVE.decrementAndGet();
+            }
+        }
+
+    }
+
+}
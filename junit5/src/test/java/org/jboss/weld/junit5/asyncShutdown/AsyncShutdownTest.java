@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.asyncShutdown;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+public class AsyncShutdownTest {
+
+    static final List<String> CONTAINER_IDS = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testContainersShutDownInBackground() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.ASYNC_SHUTDOWN, "true")
+                .configurationParameter(WeldJunit5Extension.ASYNC_SHUTDOWN_MAX_PENDING, "1")
+                .selectors(selectClass(SlowShutdownTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(3).succeeded(3));
+
+        assertEquals(3, CONTAINER_IDS.size());
+        // all the pending shutdowns are finished once the execution is finished
+        for (String containerId : CONTAINER_IDS) {
+            assertTrue(SlowToDestroyBean.DESTROYED_BY.containsKey(containerId), containerId);
+            WeldContainer container = WeldContainer.instance(containerId);
+            assertTrue(container == null || !container.isRunning(), containerId);
+        }
+        assertTrue(CONTAINER_IDS.stream()
+                .map(SlowToDestroyBean.DESTROYED_BY::get)
+                .anyMatch(thread -> thread.startsWith("weld-shutdown-")));
+    }
+
+    @EnableWeld
+    static class SlowShutdownTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(SlowToDestroyBean.class);
+
+        @Inject
+        SlowToDestroyBean bean;
+
+        @Test
+        void first() {
+            CONTAINER_IDS.add(bean.getContainerId());
+        }
+
+        @Test
+        void second() {
+            CONTAINER_IDS.add(bean.getContainerId());
+        }
+
+        @Test
+        void third() {
+            CONTAINER_IDS.add(bean.getContainerId());
+        }
+
+    }
+
+}
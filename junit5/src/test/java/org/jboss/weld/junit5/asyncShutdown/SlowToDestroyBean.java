@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.asyncShutdown;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+
+@ApplicationScoped
+public class SlowToDestroyBean {
+
+    // container id -> name of the thread which destroyed the bean
+    static final Map<String, String> DESTROYED_BY = new ConcurrentHashMap<>();
+
+    @Inject
+    BeanManager beanManager;
+
+    public String getContainerId() {
+        return BeanManagerProxy.unwrap(beanManager).getContextId();
+    }
+
+    @PreDestroy
+    void destroy() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        DESTROYED_BY.put(getContainerId(), Thread.currentThread().getName());
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit.ClassScanner;
+import org.jboss.weld.junit.ScanPlan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Compares the parallel and the serial traversal on a synthetic class graph. The benchmark on a graph of 5,000 classes is
+ * only executed if the system property {@code weld.junit.scanning.benchmark} is set to {@code true}.
+ */
+public class ParallelScanningTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testParallelPlanEqualsSerialPlan() throws Exception {
+        Path classes = generateGraph(300);
+        Class<?> root = load(classes);
+
+        ScanPlan serial = new ClassScanner(new ClassScanning(), false).plan(List.of(root), false);
+        ScanPlan parallel = new ClassScanner(new ClassScanning(), true).plan(List.of(root), false);
+
+        assertTrue(serial.getBeanClasses().size() > 200);
+        assertTrue(serial.getExcludedBeanTypes().size() > 0);
+        assertPlansEqual(serial, parallel);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "weld.junit.scanning.benchmark", matches = "true")
+    public void benchmark(TestReporter reporter) throws Exception {
+        Path classes = generateGraph(5000);
+        for (int i = 0; i < 5; i++) {
+            // a new class loader for every run, otherwise the memoized metadata would be reused
+            Class<?> serialRoot = load(classes);
+            long start = System.nanoTime();
+            ScanPlan serial = new ClassScanner(new ClassScanning(), false).plan(List.of(serialRoot), false);
+            long serialTime = System.nanoTime() - start;
+
+            Class<?> parallelRoot = load(classes);
+            start = System.nanoTime();
+            ScanPlan parallel = new ClassScanner(new ClassScanning(), true).plan(List.of(parallelRoot), false);
+            long parallelTime = System.nanoTime() - start;
+
+            assertEquals(serial.getBeanClasses().size(), parallel.getBeanClasses().size());
+            reporter.publishEntry("run " + (i + 1), String.format("%s bean classes, serial: %s ms, parallel: %s ms",
+                    serial.getBeanClasses().size(), serialTime / 1_000_000, parallelTime / 1_000_000));
+        }
+    }
+
+    private static void assertPlansEqual(ScanPlan expected, ScanPlan actual) {
+        assertEquals(names(expected.getBeanClasses()), names(actual.getBeanClasses()));
+        assertEquals(expected.getExcludedBeanTypes(), actual.getExcludedBeanTypes());
+        assertEquals(expected.getExcludedBeanClasses(), actual.getExcludedBeanClasses());
+        assertEquals(expected.getExtensions(), actual.getExtensions());
+        assertEquals(expected.getAlternatives(), actual.getAlternatives());
+    }
+
+    private static List<String> names(Iterable<Class<?>> classes) {
+        List<String> names = new ArrayList<>();
+        classes.forEach(clazz -> names.add(clazz.getName()));
+        return names;
+    }
+
+    /**
+     * Every class injects its two children in a binary tree, i.e. all the classes are reachable from the root, plus two random
+     * classes. Every seventh class is not a bean and every hundredth class excludes another one.
+     */
+    private Path generateGraph(int size) throws IOException {
+        Path sources = Files.createDirectories(tempDir.resolve("src/synthetic"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Random random = new Random(size);
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            StringBuilder source = new StringBuilder("package synthetic;\n\n");
+            if (i % 7 != 0) {
+                source.append("@jakarta.enterprise.context.Dependent\n");
+            }
+            source.append("public class C").append(i).append(" {\n");
+            int[] references = { 2 * i + 1, 2 * i + 2, random.nextInt(size), random.nextInt(size) };
+            for (int f = 0; f < references.length; f++) {
+                if (references[f] < size) {
+                    source.append("    @jakarta.inject.Inject C").append(references[f]).append(" f").append(f)
+                            .append(";\n");
+                }
+            }
+            source.append("    @jakarta.inject.Inject void init(C").append(random.nextInt(size)).append(" p) {}\n");
+            if (i % 100 == 1) {
+                source.append("    @org.jboss.weld.junit5.auto.ExcludeBean C").append(random.nextInt(size))
+                        .append(" excluded;\n");
+            }
+            source.append("}\n");
+            Path file = sources.resolve("C" + i + ".java");
+            Files.writeString(file, source);
+            files.add(file.toString());
+        }
+        List<String> arguments = new ArrayList<>(List.of("-proc:none", "-d", classes.toString(), "-classpath",
+                String.join(File.pathSeparator, location(Inject.class), location(Dependent.class),
+                        location(ExcludeBean.class))));
+        arguments.addAll(files);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        return classes;
+    }
+
+    private static Class<?> load(Path classes) throws MalformedURLException, ClassNotFoundException {
+        ClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                ParallelScanningTest.class.getClassLoader());
+        return classLoader.loadClass("synthetic.C0");
+    }
+
+    private static String location(Class<?> clazz) {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).toString();
+    }
+
+}
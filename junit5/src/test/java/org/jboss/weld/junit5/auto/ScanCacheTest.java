@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.ClassScanner;
+import org.jboss.weld.junit.DeploymentFingerprint;
+import org.jboss.weld.junit.ScanCache;
+import org.jboss.weld.junit.ScanPlan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ScanCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPlanLoadedFromFile() {
+        Path file = tempDir.resolve("target/scan-cache.bin");
+        ScanPlan computed;
+        try (ScanCache cache = new ScanCache(file)) {
+            computed = new ClassScanner(new ClassScanning(), false, cache).plan(List.of(AddInterceptorTest.class), false);
+            assertEquals(0, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+        assertTrue(Files.isRegularFile(file));
+
+        try (ScanCache cache = new ScanCache(file)) {
+            assertEquals(1, cache.size());
+            ScanPlan loaded = new ClassScanner(new ClassScanning(), false, cache).plan(List.of(AddInterceptorTest.class),
+                    false);
+            assertEquals(1, cache.getHits());
+            assertEquals(0, cache.getMisses());
+            assertEquals(fingerprint(computed), fingerprint(loaded));
+            assertEquals(List.copyOf(computed.getBeanClasses()), List.copyOf(loaded.getBeanClasses()));
+            assertEquals(computed.getInterceptors(), loaded.getInterceptors());
+        }
+    }
+
+    @Test
+    public void testChangedClassInvalidatesEntry() throws Exception {
+        Path file = tempDir.resolve("scan-cache.bin");
+        Path first = compile("first", "@jakarta.inject.Inject Alpha dependency;");
+        Path second = compile("second", "@jakarta.inject.Inject Beta dependency;");
+
+        try (ScanCache cache = new ScanCache(file)) {
+            ScanPlan plan = new ClassScanner(new ClassScanning(), false, cache).plan(List.of(load(first)), false);
+            assertEquals(List.of("cached.Holder", "cached.Alpha"), names(plan));
+        }
+        try (ScanCache cache = new ScanCache(file)) {
+            ScanPlan plan = new ClassScanner(new ClassScanning(), false, cache).plan(List.of(load(second)), false);
+            assertEquals(0, cache.getHits());
+            assertEquals(1, cache.getMisses());
+            assertEquals(List.of("cached.Holder", "cached.Beta"), names(plan));
+        }
+        try (ScanCache cache = new ScanCache(file)) {
+            ScanPlan plan = new ClassScanner(new ClassScanning(), false, cache).plan(List.of(load(second)), false);
+            assertEquals(1, cache.getHits());
+            assertEquals(List.of("cached.Holder", "cached.Beta"), names(plan));
+        }
+    }
+
+    @Test
+    public void testCorruptedFileIgnored() throws IOException {
+        Path file = Files.write(tempDir.resolve("scan-cache.bin"), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+        try (ScanCache cache = new ScanCache(file)) {
+            assertEquals(0, cache.size());
+            new ClassScanner(new ClassScanning(), false, cache).plan(List.of(AddInterceptorTest.class), false);
+        }
+        try (ScanCache cache = new ScanCache(file)) {
+            assertEquals(1, cache.size());
+        }
+    }
+
+    private static DeploymentFingerprint fingerprint(ScanPlan plan) {
+        Weld weld = new Weld();
+        plan.applyTo(weld);
+        return DeploymentFingerprint.builder().addWeld(weld).build();
+    }
+
+    private static List<String> names(ScanPlan plan) {
+        return plan.getBeanClasses().stream().map(Class::getName).collect(Collectors.toList());
+    }
+
+    private Path compile(String name, String holderBody) throws IOException {
+        Path sources = Files.createDirectories(tempDir.resolve(name + "/src/cached"));
+        Path classes = Files.createDirectories(tempDir.resolve(name + "/classes"));
+        Path holder = Files.writeString(sources.resolve("Holder.java"),
+                "package cached;\n@jakarta.enterprise.context.Dependent\npublic class Holder {\n" + holderBody + "\n}\n");
+        Path alpha = Files.writeString(sources.resolve("Alpha.java"),
+                "package cached;\n@jakarta.enterprise.context.Dependent\npublic class Alpha {}\n");
+        Path beta = Files.writeString(sources.resolve("Beta.java"),
+                "package cached;\n@jakarta.enterprise.context.Dependent\npublic class Beta {}\n");
+        String classpath = location(Inject.class) + File.pathSeparator + location(Dependent.class);
+        assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none", "-d", classes.toString(),
+                "-classpath", classpath, holder.toString(), alpha.toString(), beta.toString()));
+        return classes;
+    }
+
+    private static Class<?> load(Path classes) throws Exception {
+        return new URLClassLoader(new URL[] { classes.toUri().toURL() }, ScanCacheTest.class.getClassLoader())
+                .loadClass("cached.Holder");
+    }
+
+    private static String location(Class<?> clazz) {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).toString();
+    }
+
+}
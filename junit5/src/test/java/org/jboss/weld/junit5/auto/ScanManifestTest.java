@@ -0,0 +1,177 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.ToolProvider;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.ClassScanner;
+import org.jboss.weld.junit.DeploymentFingerprint;
+import org.jboss.weld.junit.ScanManifest;
+import org.jboss.weld.junit.ScanPlan;
+import org.jboss.weld.junit.processor.ScanManifestProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The scan manifests of the test classes of this module are generated by {@link ScanManifestProcessor}.
+ */
+public class ScanManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testManifestsMatchRuntimeScanning() throws Exception {
+        ClassScanner scanner = new ClassScanner(new ClassScanning(), false);
+        List<String> manifests = manifests(
+                Path.of(ScanManifestTest.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        assertTrue(manifests.size() > 30, manifests.toString());
+        for (String manifest : manifests) {
+            List<Class<?>> testClasses = new ArrayList<>();
+            for (String testClass : manifest.split("\\+")) {
+                testClasses.add(Class.forName(testClass));
+            }
+            for (boolean explicitInjection : new boolean[] { false, true }) {
+                ScanPlan expected = scanner.plan(testClasses, explicitInjection);
+                ScanPlan actual = ScanManifest.load(new ClassScanning(), testClasses, explicitInjection);
+                assertNotNull(actual, manifest);
+                assertEquals(expected.getBeanClasses(), actual.getBeanClasses(), manifest);
+                assertEquals(expected.getExtensions(), actual.getExtensions(), manifest);
+                assertEquals(List.copyOf(expected.getInterceptors()), List.copyOf(actual.getInterceptors()), manifest);
+                assertEquals(List.copyOf(expected.getDecorators()), List.copyOf(actual.getDecorators()), manifest);
+                assertEquals(expected.getAlternatives(), actual.getAlternatives(), manifest);
+                assertEquals(expected.getAlternativeStereotypes(), actual.getAlternativeStereotypes(), manifest);
+                assertEquals(expected.getExcludedBeanTypes(), actual.getExcludedBeanTypes(), manifest);
+                assertEquals(expected.getExcludedBeanClasses(), actual.getExcludedBeanClasses(), manifest);
+                assertEquals(expected.getBeanDiscoveryMode(), actual.getBeanDiscoveryMode(), manifest);
+                assertEquals(fingerprint(expected), fingerprint(actual), manifest);
+            }
+        }
+    }
+
+    @Test
+    public void testStaleManifestIgnored() throws Exception {
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        compile(classes, true, "", "@jakarta.inject.Inject Alpha alpha;");
+        List<Class<?>> testClasses = List.of(load(classes));
+        ScanPlan plan = ScanManifest.load(new ClassScanning(), testClasses, false);
+        assertNotNull(plan);
+        assertEquals(List.of("generated.Alpha"),
+                plan.getBeanClasses().stream().map(Class::getName).collect(Collectors.toList()));
+
+        // an incremental compilation without the processor
+        compile(classes, false, "", "@jakarta.inject.Inject Beta beta;");
+        assertNull(ScanManifest.load(new ClassScanning(), List.of(load(classes)), false));
+    }
+
+    @Test
+    public void testChangedAnnotationValueInvalidatesManifest() throws Exception {
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        compile(classes, true, "@org.jboss.weld.junit5.auto.AddBeanClasses(Alpha.class)", "");
+        ScanPlan plan = ScanManifest.load(new ClassScanning(), List.of(load(classes)), false);
+        assertNotNull(plan);
+        assertEquals(List.of("generated.Alpha"),
+                plan.getBeanClasses().stream().map(Class::getName).collect(Collectors.toList()));
+
+        // only the value of the annotation changes
+        compile(classes, false, "@org.jboss.weld.junit5.auto.AddBeanClasses(Beta.class)", "");
+        assertNull(ScanManifest.load(new ClassScanning(), List.of(load(classes)), false));
+    }
+
+    @Test
+    public void testChangedTypeArgumentInvalidatesManifest() throws Exception {
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        compile(classes, true, "", "@jakarta.inject.Inject jakarta.enterprise.inject.Instance<Alpha> instance;\n"
+                + "java.util.Map<String, ? super Integer>[] values(java.util.List<? extends Number> numbers) { return null; }");
+        ScanPlan plan = ScanManifest.load(new ClassScanning(), List.of(load(classes)), false);
+        assertNotNull(plan);
+        assertEquals(List.of("generated.Alpha"),
+                plan.getBeanClasses().stream().map(Class::getName).collect(Collectors.toList()));
+
+        // only the type argument changes, the erased type of the field stays the same
+        compile(classes, false, "", "@jakarta.inject.Inject jakarta.enterprise.inject.Instance<Beta> instance;\n"
+                + "java.util.Map<String, ? super Integer>[] values(java.util.List<? extends Number> numbers) { return null; }");
+        assertNull(ScanManifest.load(new ClassScanning(), List.of(load(classes)), false));
+    }
+
+    private static List<String> manifests(Path classes) throws IOException {
+        try (Stream<Path> files = Files.list(classes.resolve("META-INF/weld-testing/scan"))) {
+            return files.map(file -> file.getFileName().toString())
+                    .map(file -> file.substring(0, file.length() - ".manifest".length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static DeploymentFingerprint fingerprint(ScanPlan plan) {
+        Weld weld = new Weld();
+        plan.applyTo(weld);
+        return DeploymentFingerprint.builder().addWeld(weld).build();
+    }
+
+    private void compile(Path classes, boolean processor, String testAnnotations, String testBody) throws IOException {
+        Path sources = Files.createDirectories(tempDir.resolve("src/generated"));
+        Path test = Files.writeString(sources.resolve("GeneratedTest.java"), "package generated;\n"
+                + "@org.jboss.weld.junit5.auto.EnableAutoWeld\n" + testAnnotations + "\npublic class GeneratedTest {\n"
+                + testBody + "\n}\n");
+        Path alpha = Files.writeString(sources.resolve("Alpha.java"),
+                "package generated;\n@jakarta.enterprise.context.Dependent\npublic class Alpha {}\n");
+        Path beta = Files.writeString(sources.resolve("Beta.java"),
+                "package generated;\n@jakarta.enterprise.context.Dependent\npublic class Beta {}\n");
+        String classpath = String.join(File.pathSeparator, location(Inject.class), location(Dependent.class),
+                location(EnableAutoWeld.class), location(ExtendWith.class), location(ScanManifestProcessor.class));
+        List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(), "-classpath", classpath));
+        if (processor) {
+            arguments.addAll(List.of("-processor", ScanManifestProcessor.class.getName()));
+        } else {
+            arguments.add("-proc:none");
+        }
+        arguments.addAll(List.of(test.toString(), alpha.toString(), beta.toString()));
+        assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0])));
+    }
+
+    private static Class<?> load(Path classes) throws Exception {
+        return new URLClassLoader(new URL[] { classes.toUri().toURL() }, ScanManifestTest.class.getClassLoader())
+                .loadClass("generated.GeneratedTest");
+    }
+
+    private static String location(Class<?> clazz) {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).toString();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.ClassScanner;
+import org.jboss.weld.junit.DeploymentFingerprint;
+import org.jboss.weld.junit.ScanPlan;
+import org.jboss.weld.junit5.auto.interceptorAndDecorator.InterceptedBean;
+import org.jboss.weld.junit5.auto.interceptorAndDecorator.TestInterceptor;
+import org.junit.jupiter.api.Test;
+
+public class ScanPlanTest {
+
+    private final ClassScanner scanner = new ClassScanner(new ClassScanning());
+
+    @Test
+    public void testPlanMemoizedPerTestClass() {
+        ScanPlan plan = scanner.plan(List.of(AddInterceptorTest.class), false);
+
+        assertSame(plan, scanner.plan(List.of(AddInterceptorTest.class), false));
+        assertNotSame(plan, scanner.plan(List.of(AddInterceptorTest.class), true));
+        assertTrue(plan.getInterceptors().contains(TestInterceptor.class));
+        assertTrue(plan.getBeanClasses().contains(TestInterceptor.class));
+        assertTrue(plan.getBeanClasses().contains(InterceptedBean.class));
+    }
+
+    @Test
+    public void testReplayedPlanEqualsScan() {
+        Weld scanned = new Weld();
+        ClassScanning.scanForRequiredBeanClasses(List.of(AddInterceptorTest.class), scanned, false);
+        Weld first = new Weld();
+        scanner.plan(List.of(AddInterceptorTest.class), false).applyTo(first);
+        Weld second = new Weld();
+        scanner.plan(List.of(AddInterceptorTest.class), false).applyTo(second);
+
+        assertNotNull(DeploymentFingerprint.builder().addWeld(scanned).build());
+        assertEquals(DeploymentFingerprint.builder().addWeld(scanned).build(),
+                DeploymentFingerprint.builder().addWeld(first).build());
+        assertEquals(DeploymentFingerprint.builder().addWeld(first).build(),
+                DeploymentFingerprint.builder().addWeld(second).build());
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.auto.nested;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * A nested test class which requires no additional beans uses the running container of the enclosing class.
+ */
+@EnableAutoWeld
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class NestedAttachToEnclosingContainerTest {
+
+    @Inject
+    BeanManager beanManager;
+
+    String containerId;
+
+    @BeforeAll
+    void init() {
+        containerId = BeanManagerProxy.unwrap(beanManager).getContextId();
+    }
+
+    @Test
+    void testOuter() {
+        assertEquals(containerId, BeanManagerProxy.unwrap(beanManager).getContextId());
+    }
+
+    @Nested
+    class NestedTest {
+
+        @Inject
+        BeanManager nestedBeanManager;
+
+        @Test
+        void testNested() {
+            assertEquals(containerId, BeanManagerProxy.unwrap(nestedBeanManager).getContextId());
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.classOrderer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.junit5.DeploymentClassOrderer;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.containerCache.Bar;
+import org.jboss.weld.junit5.containerCache.Foo;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+public class DeploymentClassOrdererTest {
+
+    static final List<Class<?>> EXECUTION_ORDER = new CopyOnWriteArrayList<>();
+
+    static final Map<Class<?>, String> CONTAINER_IDS = new ConcurrentHashMap<>();
+
+    static void record(Object testInstance, WeldInitiator weld) {
+        EXECUTION_ORDER.add(testInstance.getClass());
+        CONTAINER_IDS.put(testInstance.getClass(), weld.container().getId());
+    }
+
+    @Test
+    public void testClassesWithEqualDeploymentsRunBackToBack() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter("junit.jupiter.testclass.order.default", DeploymentClassOrderer.class.getName())
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(FooTest.class), selectClass(FooBarTest.class), selectClass(OtherFooTest.class),
+                        selectClass(NoWeldTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(4).succeeded(4));
+
+        assertEquals(4, EXECUTION_ORDER.size());
+        // the classes sharing a deployment are adjacent and therefore reuse the container
+        assertEquals(1, Math.abs(EXECUTION_ORDER.indexOf(FooTest.class) - EXECUTION_ORDER.indexOf(OtherFooTest.class)));
+        assertEquals(CONTAINER_IDS.get(FooTest.class), CONTAINER_IDS.get(OtherFooTest.class));
+        assertNotEquals(CONTAINER_IDS.get(FooTest.class), CONTAINER_IDS.get(FooBarTest.class));
+    }
+
+    @Test
+    public void testStaticWeldSetupReadWithoutInstantiation() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter("junit.jupiter.testclass.order.default", DeploymentClassOrderer.class.getName())
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(StaticFooTest.class), selectClass(FooBarTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        // only JUnit created an instance of the test class
+        assertEquals(1, StaticFooTest.INSTANCES.get());
+    }
+
+    @EnableWeld
+    static class FooTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Test
+        void test() {
+            record(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class FooBarTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class, Bar.class);
+
+        @Test
+        void test() {
+            record(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class OtherFooTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Test
+        void test() {
+            record(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class StaticFooTest {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        @WeldSetup
+        static WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        StaticFooTest() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Test
+        void test() {
+            assertTrue(weld.select(Foo.class).isResolvable());
+        }
+
+    }
+
+    static class NoWeldTest {
+
+        @Test
+        void test() {
+            EXECUTION_ORDER.add(getClass());
+        }
+
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.containerCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.jboss.weld.junit5.auto.ExcludeBeanClasses;
+import org.jboss.weld.junit5.softReset.Counter;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+public class ContainerCacheTest {
+
+    static final Map<Class<?>, List<String>> CONTAINER_IDS = new ConcurrentHashMap<>();
+
+    static void recordContainerId(Object testInstance, WeldInitiator weld) {
+        CONTAINER_IDS.computeIfAbsent(testInstance.getClass(), key -> new CopyOnWriteArrayList<>())
+                .add(weld.container().getId());
+    }
+
+    @Test
+    public void testContainersReusedForEqualDeployments() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(FirstTest.class), selectClass(SecondTest.class), selectClass(DifferentTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(5).succeeded(5));
+
+        List<String> first = CONTAINER_IDS.get(FirstTest.class);
+        List<String> second = CONTAINER_IDS.get(SecondTest.class);
+        List<String> different = CONTAINER_IDS.get(DifferentTest.class);
+        // all the methods of the first two test classes were executed in the same container
+        assertEquals(1, first.stream().distinct().count());
+        assertEquals(first, second);
+        assertEquals(1, different.size());
+        assertNotEquals(first.get(0), different.get(0));
+    }
+
+    @Test
+    public void testContainerReusedForAutomagicTestMethods() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(AutoTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        assertEquals(1, CONTAINER_IDS.get(AutoTest.class).stream().distinct().count());
+    }
+
+    @Test
+    public void testSoftResetOfReusedContainers() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE_SOFT_RESET, "true")
+                .selectors(selectClass(FirstStatefulTest.class), selectClass(SecondStatefulTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        // the container was reused but the application scoped bean was reset
+        assertEquals(CONTAINER_IDS.get(FirstStatefulTest.class), CONTAINER_IDS.get(SecondStatefulTest.class));
+    }
+
+    @Test
+    public void testContainerWithIdentityComponentNotKept() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(IdentityTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        // the mock bean is compared by identity, the container of the first method could never be reused
+        assertEquals(List.of(false), IdentityTest.PREVIOUS_RUNNING);
+    }
+
+    @Test
+    public void testContainerReusedForStaticInitiatorWithResources() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(StaticResourceTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        // the services registered by the initiator on the first boot do not change its fingerprint
+        assertEquals(1, CONTAINER_IDS.get(StaticResourceTest.class).stream().distinct().count());
+    }
+
+    @EnableWeld
+    static class StaticResourceTest {
+
+        @WeldSetup
+        static WeldInitiator weld = WeldInitiator.from(Foo.class).bindResource("greeting", "hello").build();
+
+        @Test
+        void first() {
+            recordContainerId(this, weld);
+        }
+
+        @Test
+        void second() {
+            recordContainerId(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class FirstTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Inject
+        Foo foo;
+
+        @Test
+        void first() {
+            assertNotNull(foo);
+            recordContainerId(this, weld);
+        }
+
+        @Test
+        void second() {
+            assertNotNull(foo);
+            recordContainerId(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class SecondTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class);
+
+        @Inject
+        Foo foo;
+
+        @Test
+        void first() {
+            assertNotNull(foo);
+            recordContainerId(this, weld);
+        }
+
+        @Test
+        void second() {
+            assertNotNull(foo);
+            recordContainerId(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class DifferentTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class, Bar.class);
+
+        @Test
+        void test(Bar bar) {
+            assertNotNull(bar);
+            recordContainerId(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class FirstStatefulTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Counter.class);
+
+        @Inject
+        Counter counter;
+
+        @Test
+        void test() {
+            assertEquals(1, counter.increment());
+            recordContainerId(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    static class SecondStatefulTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Counter.class);
+
+        @Inject
+        Counter counter;
+
+        @Test
+        void test() {
+            assertEquals(1, counter.increment());
+            recordContainerId(this, weld);
+        }
+
+    }
+
+    @EnableWeld
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    static class IdentityTest {
+
+        static final List<Boolean> PREVIOUS_RUNNING = new CopyOnWriteArrayList<>();
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Foo.class)
+                .addBeans(MockBean.of(new Bar(), Bar.class))
+                .build();
+
+        @Test
+        @Order(1)
+        void first() {
+            recordContainerId(this, weld);
+        }
+
+        @Test
+        @Order(2)
+        void second() {
+            WeldContainer previous = WeldContainer.instance(CONTAINER_IDS.get(IdentityTest.class).get(0));
+            PREVIOUS_RUNNING.add(previous != null && previous.isRunning());
+        }
+
+    }
+
+    @EnableAutoWeld
+    @ExcludeBeanClasses(Bar.class)
+    static class AutoTest {
+
+        @Inject
+        Foo foo;
+
+        @Inject
+        BeanManager beanManager;
+
+        @Test
+        void first() {
+            assertNotNull(foo);
+            CONTAINER_IDS.computeIfAbsent(AutoTest.class, key -> new CopyOnWriteArrayList<>())
+                    .add(BeanManagerProxy.unwrap(beanManager).getContextId());
+        }
+
+        @Test
+        void second() {
+            assertNotNull(foo);
+            CONTAINER_IDS.computeIfAbsent(AutoTest.class, key -> new CopyOnWriteArrayList<>())
+                    .add(BeanManagerProxy.unwrap(beanManager).getContextId());
+        }
+
+    }
+
+}
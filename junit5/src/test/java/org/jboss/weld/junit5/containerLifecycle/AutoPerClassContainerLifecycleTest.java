@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.containerLifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.junit5.ContainerLifecycle;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+@EnableAutoWeld(containerLifecycle = ContainerLifecycle.PER_CLASS)
+public class AutoPerClassContainerLifecycleTest {
+
+    static final Set<String> CONTAINER_IDS = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    ApplicationScopedBean applicationScopedBean;
+
+    @Inject
+    BeanManager beanManager;
+
+    @AfterAll
+    static void verifyContainerShared() {
+        assertEquals(1, CONTAINER_IDS.size());
+    }
+
+    @Test
+    void first(ApplicationScopedBean bean) {
+        record(bean);
+    }
+
+    @Test
+    void second(ApplicationScopedBean bean) {
+        record(bean);
+    }
+
+    @Test
+    void third(ApplicationScopedBean bean) {
+        record(bean);
+    }
+
+    private void record(ApplicationScopedBean bean) {
+        assertNotNull(applicationScopedBean);
+        assertEquals(applicationScopedBean.getId(), bean.getId());
+        CONTAINER_IDS.add(BeanManagerProxy.unwrap(beanManager).getContextId());
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.containerLifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.ContainerLifecycle;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+@EnableWeld(containerLifecycle = ContainerLifecycle.PER_CLASS)
+public class PerClassContainerLifecycleTest {
+
+    static final Set<String> CONTAINER_IDS = ConcurrentHashMap.newKeySet();
+
+    static final Set<String> APPLICATION_SCOPED_IDS = ConcurrentHashMap.newKeySet();
+
+    static final List<String> REQUEST_SCOPED_IDS = new CopyOnWriteArrayList<>();
+
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator.from(ApplicationScopedBean.class, RequestScopedBean.class)
+            .activate(RequestScoped.class)
+            .build();
+
+    @Inject
+    ApplicationScopedBean applicationScopedBean;
+
+    @Inject
+    RequestScopedBean requestScopedBean;
+
+    @AfterAll
+    static void verifyContainerShared() {
+        assertEquals(1, CONTAINER_IDS.size());
+        assertEquals(1, APPLICATION_SCOPED_IDS.size());
+        // the request context is reset for each test method
+        assertEquals(REQUEST_SCOPED_IDS.size(), Set.copyOf(REQUEST_SCOPED_IDS).size());
+    }
+
+    @Test
+    void first() {
+        record();
+    }
+
+    @Test
+    void second() {
+        record();
+    }
+
+    @RepeatedTest(3)
+    void repeated() {
+        record();
+    }
+
+    private void record() {
+        assertNotNull(applicationScopedBean);
+        assertNotNull(requestScopedBean);
+        CONTAINER_IDS.add(weld.container().getId());
+        APPLICATION_SCOPED_IDS.add(applicationScopedBean.getId());
+        REQUEST_SCOPED_IDS.add(requestScopedBean.getId());
+        // the injected client proxy delegates to the same instance as a new lookup
+        assertEquals(requestScopedBean.getId(), weld.select(RequestScopedBean.class).get().getId());
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.containerLifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.ContainerLifecycle;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@EnableWeld(containerLifecycle = ContainerLifecycle.PER_TEST_TEMPLATE)
+public class PerTestTemplateContainerLifecycleTest {
+
+    static final Map<String, Set<String>> CONTAINER_IDS = new ConcurrentHashMap<>();
+
+    static final List<String> REQUEST_SCOPED_IDS = new CopyOnWriteArrayList<>();
+
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator.from(ApplicationScopedBean.class, RequestScopedBean.class)
+            .activate(RequestScoped.class)
+            .build();
+
+    @Inject
+    RequestScopedBean requestScopedBean;
+
+    @AfterAll
+    static void verifyContainerSharedByInvocations() {
+        Set<String> parameterized = CONTAINER_IDS.get("parameterized");
+        Set<String> repeated = CONTAINER_IDS.get("repeated");
+        assertEquals(1, parameterized.size());
+        assertEquals(1, repeated.size());
+        assertEquals(1, CONTAINER_IDS.get("first").size());
+        assertEquals(1, CONTAINER_IDS.get("second").size());
+        // each template method and each regular test method has its own container
+        assertEquals(4, CONTAINER_IDS.values().stream().flatMap(Set::stream).distinct().count());
+        // the request context is reset for each invocation
+        assertEquals(REQUEST_SCOPED_IDS.size(), Set.copyOf(REQUEST_SCOPED_IDS).size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "a", "b", "c", "d" })
+    void parameterized(String value) {
+        assertNotNull(value);
+        record("parameterized");
+    }
+
+    @RepeatedTest(5)
+    void repeated(TestInfo testInfo) {
+        assertNotNull(testInfo);
+        record("repeated");
+    }
+
+    @Test
+    void first() {
+        record("first");
+    }
+
+    @Test
+    void second() {
+        record("second");
+    }
+
+    private void record(String method) {
+        assertNotNull(requestScopedBean);
+        CONTAINER_IDS.computeIfAbsent(method, key -> ConcurrentHashMap.newKeySet()).add(weld.container().getId());
+        REQUEST_SCOPED_IDS.add(requestScopedBean.getId());
+        assertNotNull(weld.select(ApplicationScopedBean.class).get().getId());
+    }
+
+}
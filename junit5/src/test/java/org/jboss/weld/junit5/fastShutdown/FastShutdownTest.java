@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.fastShutdown;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+// the test methods share the list of destroyed beans
+@Execution(ExecutionMode.SAME_THREAD)
+public class FastShutdownTest {
+
+    static final List<Class<?>> DESTROYED = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void reset() {
+        DESTROYED.clear();
+    }
+
+    @Test
+    public void testDestroyCallbacksSkipped() {
+        execute(FastTest.class);
+        // the mock bean has a destroy callback
+        assertEquals(Set.of(ConnectionPool.class, Runnable.class), Set.copyOf(DESTROYED));
+        assertEquals(2, DESTROYED.size());
+    }
+
+    @Test
+    public void testDestroyCallbacksInvokedByDefault() {
+        execute(RegularTest.class);
+        assertEquals(Set.of(ApplicationBean.class, RequestBean.class, ConnectionPool.class), Set.copyOf(DESTROYED));
+        assertEquals(3, DESTROYED.size());
+    }
+
+    private static void execute(Class<?> testClass) {
+        EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(testClass))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(1).succeeded(1));
+    }
+
+    @EnableWeld
+    static class FastTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(ApplicationBean.class, RequestBean.class, ConnectionPool.class)
+                .activate(RequestScoped.class)
+                .addBeans(MockBean.<Runnable> builder()
+                        .types(Runnable.class)
+                        .scope(ApplicationScoped.class)
+                        .creating(() -> {
+                        })
+                        .destroy((instance, ctx) -> DESTROYED.add(Runnable.class))
+                        .build())
+                .fastShutdown()
+                .build();
+
+        @Inject
+        ApplicationBean applicationBean;
+
+        @Inject
+        RequestBean requestBean;
+
+        @Inject
+        ConnectionPool connectionPool;
+
+        @Test
+        void test() {
+            assertEquals("application", applicationBean.ping());
+            assertEquals("request", requestBean.ping());
+            assertEquals("pool", connectionPool.ping());
+            weld.select(Runnable.class).get().run();
+        }
+
+    }
+
+    @EnableWeld
+    static class RegularTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(ApplicationBean.class, RequestBean.class, ConnectionPool.class)
+                .activate(RequestScoped.class)
+                .build();
+
+        @Inject
+        ApplicationBean applicationBean;
+
+        @Inject
+        RequestBean requestBean;
+
+        @Inject
+        ConnectionPool connectionPool;
+
+        @Test
+        void test() {
+            assertEquals("application", applicationBean.ping());
+            assertEquals("request", requestBean.ping());
+            assertEquals("pool", connectionPool.ping());
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.lazy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.basic.Foo;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@EnableWeld
+public class LazyInitializationTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(Foo.class).initializeLazily().build();
+
+    @Test
+    public void testContainerNotInitializedIfNotUsed() {
+        assertFalse(weld.isRunning());
+    }
+
+    @Test
+    public void testContainerInitializedOnSelect() {
+        assertFalse(weld.isRunning());
+        assertEquals("baz", weld.select(Foo.class).get().getBar());
+        assertTrue(weld.isRunning());
+    }
+
+    @Test
+    public void testContainerInitializedOnGetId() {
+        assertNotNull(weld.getId());
+        assertTrue(weld.isRunning());
+    }
+
+    @Test
+    public void testShutdownOfUnusedContainer() {
+        weld.shutdown();
+        assertFalse(weld.isRunning());
+        // the container is not booted after the shutdown
+        assertThrows(IllegalStateException.class, () -> weld.select(Foo.class));
+    }
+
+    @Test
+    public void testContainerInitializedOnParameterResolution(Foo foo) {
+        assertTrue(weld.isRunning());
+        assertEquals("baz", foo.getBar());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "foo", "bar" })
+    public void testContainerNotInitializedForUnqualifiedParameter(String value) {
+        // parameters without qualifiers are not resolved by Weld in a parameterized test
+        assertFalse(weld.isRunning());
+    }
+
+    @Test
+    public void testNonContextualInstanceWithoutInjectionPoints() throws Exception {
+        try (AutoCloseable contextReleaser = weld.injectNonContextual(new Object())) {
+            assertFalse(weld.isRunning());
+        }
+    }
+
+    @Nested
+    @EnableWeld
+    class InjectedTest {
+
+        @WeldSetup
+        public WeldInitiator nestedWeld = WeldInitiator.from(Foo.class).initializeLazily().build();
+
+        @Inject
+        Foo foo;
+
+        @Test
+        public void testContainerInitializedForInjection() {
+            // the test instance has an injection point
+            assertTrue(nestedWeld.isRunning());
+            assertEquals("baz", foo.getBar());
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.nested;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Nested test classes which add no configuration use the running container of the enclosing class.
+ */
+@EnableWeld
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class NestedAttachToEnclosingContainerTest {
+
+    @WeldSetup
+    WeldInitiator weld = WeldInitiator.of(MyBean.class);
+
+    @Inject
+    MyBean myBean;
+
+    String containerId;
+
+    @BeforeAll
+    void init() {
+        containerId = weld.container().getId();
+    }
+
+    static String getContainerId(BeanManager beanManager) {
+        return BeanManagerProxy.unwrap(beanManager).getContextId();
+    }
+
+    @Test
+    void testOuter() {
+        assertNotNull(myBean);
+        assertEquals(containerId, weld.container().getId());
+    }
+
+    @Nested
+    class WithoutInitiatorTest {
+
+        @Inject
+        BeanManager beanManager;
+
+        @Inject
+        MyBean nestedBean;
+
+        @Test
+        void testFirst() {
+            assertNotNull(nestedBean);
+            assertEquals(containerId, getContainerId(beanManager));
+        }
+
+        @Test
+        void testSecond(MyBean parameter) {
+            assertNotNull(parameter);
+            assertEquals(containerId, getContainerId(beanManager));
+        }
+
+        @Nested
+        class TwiceNestedTest {
+
+            @Inject
+            BeanManager twiceNestedBeanManager;
+
+            @Test
+            void testTwiceNested() {
+                assertNotNull(nestedBean);
+                assertEquals(containerId, getContainerId(twiceNestedBeanManager));
+            }
+
+        }
+
+    }
+
+    @Nested
+    class WithEqualInitiatorTest {
+
+        @WeldSetup
+        WeldInitiator nestedWeld = WeldInitiator.of(MyBean.class);
+
+        @Inject
+        BeanManager beanManager;
+
+        @Test
+        void test() {
+            assertEquals(containerId, getContainerId(beanManager));
+            assertEquals(containerId, nestedWeld.container().getId());
+        }
+
+    }
+
+    @Nested
+    class WithDifferentInitiatorTest {
+
+        @WeldSetup
+        WeldInitiator nestedWeld = WeldInitiator.of(MyBean.class, MyOtherBean.class);
+
+        @Inject
+        BeanManager beanManager;
+
+        @Test
+        void test(MyOtherBean myOtherBean) {
+            assertNotNull(myOtherBean);
+            assertNotEquals(containerId, getContainerId(beanManager));
+        }
+
+    }
+
+}
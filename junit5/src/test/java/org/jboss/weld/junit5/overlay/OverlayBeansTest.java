@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.overlay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+public class OverlayBeansTest {
+
+    static final List<String> CONTAINER_IDS = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testBaseContainerReusedWithDifferentOverlays() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(BaseTest.class), selectClass(CheapTest.class), selectClass(ExpensiveTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(3).succeeded(3));
+
+        assertEquals(3, CONTAINER_IDS.size());
+        assertEquals(1, CONTAINER_IDS.stream().distinct().count());
+    }
+
+    @Test
+    public void testOverlayDoesNotLeakIntoApplicationScopedBeans() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(CheapCashierTest.class), selectClass(BaseCashierTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+    }
+
+    static Pricing pricing(int price) {
+        return new Pricing() {
+
+            @Override
+            public int price() {
+                return price;
+            }
+        };
+    }
+
+    @EnableWeld
+    static class BaseTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Checkout.class, Pricing.class)
+                .addOverlayBeans()
+                .build();
+
+        @Inject
+        Checkout checkout;
+
+        @Test
+        void test() {
+            assertEquals(20, checkout.total(2));
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class CheapTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Checkout.class, Pricing.class)
+                .addOverlayBeans(MockBean.of(pricing(1), Pricing.class))
+                .build();
+
+        @Inject
+        Checkout checkout;
+
+        @Inject
+        Pricing pricing;
+
+        @Test
+        void test() {
+            assertEquals(1, pricing.price());
+            assertEquals(2, checkout.total(2));
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class ExpensiveTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Checkout.class, Pricing.class)
+                .addOverlayBeans(MockBean.of(pricing(100), Pricing.class))
+                .build();
+
+        @Inject
+        Checkout checkout;
+
+        @Test
+        void test() {
+            assertEquals(200, checkout.total(2));
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class CheapCashierTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Cashier.class, Pricing.class)
+                .addOverlayBeans(MockBean.of(pricing(1), Pricing.class))
+                .build();
+
+        @Inject
+        Cashier cashier;
+
+        @Test
+        void test() {
+            assertEquals(2, cashier.total(2));
+        }
+
+    }
+
+    @EnableWeld
+    static class BaseCashierTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Cashier.class, Pricing.class)
+                .addOverlayBeans()
+                .build();
+
+        @Inject
+        Cashier cashier;
+
+        @Test
+        void test() {
+            // the application scoped instance created by the previous test must not be reused
+            assertEquals(20, cashier.total(2));
+        }
+
+    }
+
+}
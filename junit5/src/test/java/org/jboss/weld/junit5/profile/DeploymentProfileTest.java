@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.containerCache.Bar;
+import org.jboss.weld.junit5.containerCache.Foo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+// the test methods share the list of container ids
+@Execution(ExecutionMode.SAME_THREAD)
+public class DeploymentProfileTest {
+
+    static final List<String> CONTAINER_IDS = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void reset() {
+        CONTAINER_IDS.clear();
+    }
+
+    @Test
+    public void testContainerSharedByProfile() {
+        // note that the container cache is not enabled
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .selectors(selectClass(FirstTest.class), selectClass(SecondTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(3).succeeded(3));
+
+        assertEquals(3, CONTAINER_IDS.size());
+        assertEquals(1, CONTAINER_IDS.stream().distinct().count());
+    }
+
+    @Test
+    public void testOneIdleContainerPerProfile() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .selectors(selectClass(FirstTest.class), selectClass(VariantTest.class), selectClass(SecondTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(4).succeeded(4));
+
+        // a single profile is registered, the container of the variant evicted the container of the profile
+        assertEquals(4, CONTAINER_IDS.size());
+        assertEquals(CONTAINER_IDS.get(0), CONTAINER_IDS.get(1));
+        assertEquals(3, CONTAINER_IDS.stream().distinct().count());
+    }
+
+    @Test
+    public void testUnknownProfile() {
+        assertThrows(IllegalArgumentException.class, () -> WeldInitiator.fromProfile("unknown"));
+    }
+
+    @EnableWeld
+    static class FirstTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.fromProfile("services").build();
+
+        @Inject
+        Foo foo;
+
+        @Test
+        void first() {
+            assertNotNull(foo);
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+        @Test
+        void second() {
+            assertNotNull(foo);
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class SecondTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.fromProfile("services").build();
+
+        @Inject
+        Bar bar;
+
+        @Test
+        void test() {
+            assertNotNull(bar);
+            assertTrue(weld.getBeanManager().getContext(RequestScoped.class).isActive());
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class VariantTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.fromProfile("services").activate(SessionScoped.class).build();
+
+        @Test
+        void test() {
+            assertTrue(weld.getBeanManager().getContext(SessionScoped.class).isActive());
+            CONTAINER_IDS.add(weld.container().getId());
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit5.ContainerLifecycle;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * The test classes are executed in a separate launcher session so that the session container does not outlive this test.
+ */
+public class SessionContainerTest {
+
+    static final Set<String> CONTAINER_IDS = ConcurrentHashMap.newKeySet();
+
+    static final Set<String> SESSION_BEAN_IDS = ConcurrentHashMap.newKeySet();
+
+    static final Set<String> REQUEST_SCOPED_IDS = ConcurrentHashMap.newKeySet();
+
+    static void record(BeanManager beanManager, SessionBean sessionBean, RequestScopedSessionBean requestScopedBean) {
+        CONTAINER_IDS.add(BeanManagerProxy.unwrap(beanManager).getContextId());
+        SESSION_BEAN_IDS.add(sessionBean.getId());
+        // the request context is reset for each test
+        assertTrue(REQUEST_SCOPED_IDS.add(requestScopedBean.getId()));
+    }
+
+    @Test
+    public void testContainerSharedByLauncherSession() {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .selectors(selectClass(FirstTest.class), selectClass(SecondTest.class), selectClass(AutoTest.class))
+                .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        String containerId;
+        try (LauncherSession session = LauncherFactory.openSession()) {
+            session.getLauncher().execute(request, listener);
+            TestExecutionSummary summary = listener.getSummary();
+            assertEquals(0, summary.getTotalFailureCount());
+            assertEquals(4, summary.getTestsSucceededCount());
+
+            assertEquals(1, CONTAINER_IDS.size());
+            assertEquals(1, SESSION_BEAN_IDS.size());
+            assertEquals(4, REQUEST_SCOPED_IDS.size());
+            containerId = CONTAINER_IDS.iterator().next();
+            // the container outlives the execution request
+            assertTrue(WeldContainer.instance(containerId).isRunning());
+        }
+        // and is shut down once the session is closed
+        WeldContainer container = WeldContainer.instance(containerId);
+        assertTrue(container == null || !container.isRunning());
+    }
+
+    @EnableWeld(containerLifecycle = ContainerLifecycle.SESSION)
+    static class FirstTest {
+
+        @Inject
+        BeanManager beanManager;
+
+        @Inject
+        SessionBean sessionBean;
+
+        @Inject
+        RequestScopedSessionBean requestScopedBean;
+
+        @Test
+        void first() {
+            record(beanManager, sessionBean, requestScopedBean);
+        }
+
+        @Test
+        void second(SessionBean parameter) {
+            assertEquals(sessionBean.getId(), parameter.getId());
+            record(beanManager, sessionBean, requestScopedBean);
+        }
+
+    }
+
+    @EnableWeld(containerLifecycle = ContainerLifecycle.SESSION)
+    static class SecondTest {
+
+        // the configuration is ignored, the initiator only provides access to the session container
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(SessionBean.class);
+
+        @Inject
+        BeanManager beanManager;
+
+        @Inject
+        SessionBean sessionBean;
+
+        @Inject
+        RequestScopedSessionBean requestScopedBean;
+
+        @Test
+        void test() {
+            assertEquals(sessionBean.getId(), weld.select(SessionBean.class).get().getId());
+            record(beanManager, sessionBean, requestScopedBean);
+        }
+
+    }
+
+    @EnableAutoWeld(containerLifecycle = ContainerLifecycle.SESSION)
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    static class AutoTest {
+
+        @Inject
+        BeanManager beanManager;
+
+        @Inject
+        SessionBean sessionBean;
+
+        @Inject
+        RequestScopedSessionBean requestScopedBean;
+
+        @Test
+        void test() {
+            assertNotNull(sessionBean);
+            record(beanManager, sessionBean, requestScopedBean);
+        }
+
+    }
+
+}
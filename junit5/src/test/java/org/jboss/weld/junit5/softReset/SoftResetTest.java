@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.softReset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+
+@EnableWeld
+public class SoftResetTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.from(Counter.class, RequestCounter.class, SingletonBean.class)
+            .activate(RequestScoped.class)
+            .build();
+
+    @Inject
+    Counter counter;
+
+    @Inject
+    RequestCounter requestCounter;
+
+    @Test
+    public void testSoftReset() {
+        assertEquals(1, counter.increment());
+        assertEquals(1, requestCounter.increment());
+        String singletonId = weld.select(SingletonBean.class).get().getId();
+        int destroyed = Counter.DESTROYED.get();
+
+        weld.softReset();
+
+        assertEquals(destroyed + 1, Counter.DESTROYED.get());
+        // the client proxies injected before the reset now point to new instances
+        assertEquals(0, counter.getCount());
+        assertEquals(0, requestCounter.getCount());
+        assertNotEquals(singletonId, weld.select(SingletonBean.class).get().getId());
+    }
+
+}
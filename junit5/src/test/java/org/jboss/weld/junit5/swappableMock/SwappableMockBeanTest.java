@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.swappableMock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.junit.MockBean;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+public class SwappableMockBeanTest {
+
+    static final Map<Class<?>, String> CONTAINER_IDS = new ConcurrentHashMap<>();
+
+    static final Map<Class<?>, Greeting> MOCKS = new ConcurrentHashMap<>();
+
+    static WeldInitiator createInitiator(Class<?> testClass, String greeting) {
+        Greeting mock = mock(Greeting.class);
+        when(mock.greet("Joe")).thenReturn(greeting);
+        MOCKS.put(testClass, mock);
+        return WeldInitiator.from(Greeter.class)
+                .addBeans(MockBean.<Greeting> builder()
+                        .types(Greeting.class)
+                        .scope(ApplicationScoped.class)
+                        .creating(mock)
+                        .swappable()
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void testContainerReusedWithDifferentMocks() {
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.CONTAINER_CACHE, "true")
+                .selectors(selectClass(HelloTest.class), selectClass(HiTest.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(2).succeeded(2));
+
+        assertEquals(CONTAINER_IDS.get(HelloTest.class), CONTAINER_IDS.get(HiTest.class));
+        // the mocks were reset once the tests stopped using the container
+        assertTrue(mockingDetails(MOCKS.get(HelloTest.class)).getInvocations().isEmpty());
+        assertTrue(mockingDetails(MOCKS.get(HiTest.class)).getInvocations().isEmpty());
+    }
+
+    @EnableWeld
+    static class HelloTest {
+
+        @WeldSetup
+        WeldInitiator weld = createInitiator(HelloTest.class, "Hello Joe");
+
+        @Inject
+        Greeter greeter;
+
+        @Test
+        void test() {
+            assertEquals("Hello Joe", greeter.greetJoe());
+            verify(MOCKS.get(HelloTest.class)).greet("Joe");
+            CONTAINER_IDS.put(HelloTest.class, weld.container().getId());
+        }
+
+    }
+
+    @EnableWeld
+    static class HiTest {
+
+        @WeldSetup
+        WeldInitiator weld = createInitiator(HiTest.class, "Hi Joe");
+
+        @Inject
+        Greeter greeter;
+
+        @Test
+        void test() {
+            assertEquals("Hi Joe", greeter.greetJoe());
+            verify(MOCKS.get(HiTest.class)).greet("Joe");
+            CONTAINER_IDS.put(HiTest.class, weld.container().getId());
+        }
+
+    }
+
+}
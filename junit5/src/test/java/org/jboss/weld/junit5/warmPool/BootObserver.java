@@ -0,0 +1,40 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.warmPool;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+
+@Dependent
+public class BootObserver {
+
+    // container id -> name of the thread which booted the container
+    static final Map<String, String> BOOT_THREADS = new ConcurrentHashMap<>();
+
+    static void onBoot(@Observes @Initialized(ApplicationScoped.class) Object event, BeanManager beanManager) {
+        BOOT_THREADS.put(BeanManagerProxy.unwrap(beanManager).getContextId(), Thread.currentThread().getName());
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.warmPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * The test classes are executed in a separate launcher session so that the test plan is known to the extension.
+ */
+public class WarmPoolTest {
+
+    static final Map<Class<?>, List<String>> CONTAINER_IDS = new ConcurrentHashMap<>();
+
+    static void recordContainerId(Object testInstance, BeanManager beanManager) {
+        CONTAINER_IDS.computeIfAbsent(testInstance.getClass(), key -> new CopyOnWriteArrayList<>())
+                .add(BeanManagerProxy.unwrap(beanManager).getContextId());
+    }
+
+    @Test
+    public void testUpcomingContainersWarmedUp() {
+        execute("64g", FirstTest.class, SecondTest.class);
+
+        List<String> containerIds = new CopyOnWriteArrayList<>(CONTAINER_IDS.get(FirstTest.class));
+        containerIds.addAll(CONTAINER_IDS.get(SecondTest.class));
+        // each test still gets a fresh container
+        assertEquals(4, containerIds.stream().distinct().count());
+        // the first test boots its container, the containers of the following tests are warmed up in the background
+        assertEquals(3, containerIds.stream().filter(WarmPoolTest::isWarmedUp).count());
+        assertShutDown(containerIds);
+    }
+
+    @Test
+    public void testUpcomingAutomagicContainersWarmedUp() {
+        execute("64g", LeadTest.class, AutoTest.class);
+
+        List<String> containerIds = CONTAINER_IDS.get(AutoTest.class);
+        assertEquals(2, containerIds.stream().distinct().count());
+        // the deployment of an automagic test is predicted without a @WeldSetup field
+        for (String containerId : containerIds) {
+            assertTrue(isWarmedUp(containerId), containerId);
+        }
+        assertShutDown(containerIds);
+    }
+
+    @Test
+    public void testUpcomingContainersOfStaticInitiatorWarmedUp() {
+        execute("64g", StaticTest.class);
+
+        // the warm-up and the test boot the same Weld instance one after another
+        List<String> containerIds = CONTAINER_IDS.get(StaticTest.class);
+        assertEquals(3, containerIds.stream().distinct().count());
+        assertEquals(2, containerIds.stream().filter(WarmPoolTest::isWarmedUp).count());
+        assertShutDown(containerIds);
+    }
+
+    @Test
+    public void testMemoryCeiling() {
+        execute("0", CeilingTest.class);
+
+        List<String> containerIds = CONTAINER_IDS.get(CeilingTest.class);
+        assertEquals(2, containerIds.stream().distinct().count());
+        for (String containerId : containerIds) {
+            assertFalse(isWarmedUp(containerId), containerId);
+        }
+        assertShutDown(containerIds);
+    }
+
+    private static void execute(String memoryCeiling, Class<?>... testClasses) {
+        LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request()
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .configurationParameter(WeldJunit5Extension.WARM_POOL_SIZE, "2")
+                .configurationParameter(WeldJunit5Extension.WARM_POOL_MEMORY_CEILING, memoryCeiling);
+        for (Class<?> testClass : testClasses) {
+            builder.selectors(selectClass(testClass));
+        }
+        LauncherDiscoveryRequest request = builder.build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        try (LauncherSession session = LauncherFactory.openSession()) {
+            session.getLauncher().execute(request, listener);
+        }
+        TestExecutionSummary summary = listener.getSummary();
+        assertEquals(0, summary.getTotalFailureCount());
+    }
+
+    private static boolean isWarmedUp(String containerId) {
+        return BootObserver.BOOT_THREADS.get(containerId).startsWith("weld-warm-pool-");
+    }
+
+    private static void assertShutDown(List<String> containerIds) {
+        for (String containerId : containerIds) {
+            WeldContainer container = WeldContainer.instance(containerId);
+            assertTrue(container == null || !container.isRunning(), containerId);
+        }
+    }
+
+    @EnableWeld
+    static class FirstTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class, BootObserver.class);
+
+        @Inject
+        BeanManager beanManager;
+
+        @Inject
+        Foo foo;
+
+        @Test
+        void first() {
+            assertEquals("pong", foo.ping());
+            recordContainerId(this, beanManager);
+        }
+
+        @Test
+        void second() {
+            assertEquals("pong", foo.ping());
+            recordContainerId(this, beanManager);
+        }
+
+        @Test
+        void third() {
+            assertEquals("pong", foo.ping());
+            recordContainerId(this, beanManager);
+        }
+
+    }
+
+    @EnableWeld
+    static class SecondTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Foo.class, BootObserver.class).activate(RequestScoped.class).build();
+
+        @Inject
+        BeanManager beanManager;
+
+        @Test
+        void test() {
+            recordContainerId(this, beanManager);
+        }
+
+    }
+
+    @EnableWeld
+    static class LeadTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class, BootObserver.class);
+
+        @Test
+        void test() {
+        }
+
+    }
+
+    @EnableAutoWeld
+    @AddBeanClasses(BootObserver.class)
+    static class AutoTest {
+
+        @Inject
+        BeanManager beanManager;
+
+        @Inject
+        Foo foo;
+
+        @Test
+        void first() {
+            assertEquals("pong", foo.ping());
+            recordContainerId(this, beanManager);
+        }
+
+        @Test
+        void second() {
+            assertEquals("pong", foo.ping());
+            recordContainerId(this, beanManager);
+        }
+
+    }
+
+    @EnableWeld
+    static class StaticTest {
+
+        @WeldSetup
+        static WeldInitiator weld = WeldInitiator.from(Foo.class, BootObserver.class).bindResource("greeting", "hello")
+                .build();
+
+        @Inject
+        BeanManager beanManager;
+
+        @Test
+        void first() {
+            recordContainerId(this, beanManager);
+        }
+
+        @Test
+        void second() {
+            recordContainerId(this, beanManager);
+        }
+
+        @Test
+        void third() {
+            recordContainerId(this, beanManager);
+        }
+
+    }
+
+    @EnableWeld
+    static class CeilingTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.of(Foo.class, BootObserver.class);
+
+        @Inject
+        BeanManager beanManager;
+
+        @Test
+        void first() {
+            recordContainerId(this, beanManager);
+        }
+
+        @Test
+        void second() {
+            recordContainerId(this, beanManager);
+        }
+
+    }
+
+}
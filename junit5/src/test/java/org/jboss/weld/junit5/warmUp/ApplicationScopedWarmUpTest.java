@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit5.warmUp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.SessionScoped;
+
+import org.jboss.weld.junit5.EnableWeld;
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+// the test methods share the list of created beans
+@Execution(ExecutionMode.SAME_THREAD)
+public class ApplicationScopedWarmUpTest {
+
+    static final List<Class<?>> CREATED = new CopyOnWriteArrayList<>();
+
+    // the beans created before the test method was invoked
+    static final List<Class<?>> CREATED_BEFORE_TEST = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void reset() {
+        CREATED.clear();
+        CREATED_BEFORE_TEST.clear();
+    }
+
+    @Test
+    public void testAllBeansWarmedUp() {
+        execute(AllBeansTest.class);
+        assertEquals(3, CREATED_BEFORE_TEST.size());
+        // the dependency is created first
+        assertTrue(CREATED_BEFORE_TEST.indexOf(Repository.class) < CREATED_BEFORE_TEST.indexOf(CatalogService.class));
+    }
+
+    @Test
+    public void testSelectedBeansWarmedUp() {
+        execute(SelectedBeansTest.class);
+        assertEquals(List.of(Repository.class, CatalogService.class), CREATED_BEFORE_TEST);
+    }
+
+    @Test
+    public void testBeanUsingActivatedContextWarmedUp() {
+        execute(ActivatedContextTest.class);
+        assertEquals(List.of(AuditService.class), CREATED_BEFORE_TEST);
+    }
+
+    @Test
+    public void testFailingBeanSkipped() {
+        execute(InactiveContextTest.class);
+        assertEquals(List.of(Repository.class), CREATED_BEFORE_TEST);
+    }
+
+    private static void execute(Class<?> testClass) {
+        EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(testClass))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(1).succeeded(1));
+    }
+
+    @EnableWeld
+    static class AllBeansTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Repository.class, CatalogService.class, ReportService.class)
+                .warmUpApplicationScoped()
+                .build();
+
+        @Test
+        void test() {
+            CREATED_BEFORE_TEST.addAll(CREATED);
+            assertEquals("item", weld.select(CatalogService.class).get().list());
+            assertEquals("report", weld.select(ReportService.class).get().report());
+        }
+
+    }
+
+    @EnableWeld
+    static class SelectedBeansTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Repository.class, CatalogService.class, ReportService.class)
+                .warmUpApplicationScoped(CatalogService.class)
+                .build();
+
+        @Test
+        void test() {
+            CREATED_BEFORE_TEST.addAll(CREATED);
+            assertEquals("item", weld.select(CatalogService.class).get().list());
+        }
+
+    }
+
+    @EnableWeld
+    static class ActivatedContextTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(AuditService.class, SessionData.class)
+                .activate(SessionScoped.class)
+                .warmUpApplicationScoped()
+                .build();
+
+        @Test
+        void test() {
+            CREATED_BEFORE_TEST.addAll(CREATED);
+            assertEquals("user", weld.select(AuditService.class).get().user());
+        }
+
+    }
+
+    @EnableWeld
+    static class InactiveContextTest {
+
+        @WeldSetup
+        WeldInitiator weld = WeldInitiator.from(Repository.class, AuditService.class, SessionData.class)
+                .warmUpApplicationScoped()
+                .build();
+
+        @Test
+        void test() {
+            CREATED_BEFORE_TEST.addAll(CREATED);
+            assertEquals("item", weld.select(Repository.class).get().find());
+        }
+
+    }
+
+}
@@ -0,0 +1,860 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.processor;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Mirrors the <b>automagic</b> discovery of {@code org.jboss.weld.junit.ClassScanner} and of the JUnit 5 adapter on the
+ * language model, i.e. on the sources being compiled and the classes on the class path. The classes are identified by their
+ * binary names, i.e. the names returned by {@link Class#getName()}.
+ */
+final class ModelScanner {
+
+    private static final String AUTO = "org.jboss.weld.junit5.auto.";
+
+    private static final String EXCLUDE_BEAN = AUTO + "ExcludeBean";
+
+    private static final String INJECT = "jakarta.inject.Inject";
+
+    private static final String QUALIFIER = "jakarta.inject.Qualifier";
+
+    private static final String PRODUCES = "jakarta.enterprise.inject.Produces";
+
+    private static final String INSTANCE = "jakarta.enterprise.inject.Instance";
+
+    private static final List<String> BEAN_DEFINING = List.of("jakarta.enterprise.context.NormalScope",
+            "jakarta.enterprise.context.Dependent", "jakarta.interceptor.Interceptor", "jakarta.decorator.Decorator",
+            "jakarta.enterprise.inject.Stereotype");
+
+    // the test methods whose parameters are injected
+    private static final List<String> INJECTABLE_METHODS = List.of("org.junit.jupiter.api.Test",
+            "org.junit.jupiter.api.RepeatedTest", "org.junit.jupiter.api.BeforeAll", "org.junit.jupiter.api.BeforeEach",
+            "org.junit.jupiter.api.AfterEach", "org.junit.jupiter.api.AfterAll");
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final Map<TypeElement, TypeMetadata> metadata = new HashMap<>();
+
+    private final Map<TypeElement, ScannedType> scannedTypes = new HashMap<>();
+
+    private final Map<TypeElement, Boolean> runtimeRetained = new HashMap<>();
+
+    ModelScanner(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     *
+     * @param testClasses the test classes, ordered from the outermost to the innermost one
+     * @param explicitInjection
+     * @return the plan, or {@code null} if a type cannot be resolved
+     */
+    Plan plan(List<TypeElement> testClasses, boolean explicitInjection) {
+        Deque<TypeMirror> classesToProcess = new ArrayDeque<>();
+        testClasses.forEach(testClass -> classesToProcess.add(types.erasure(testClass.asType())));
+
+        Plan plan = new Plan();
+        Set<String> excludedBeanTypes = plan.excludedBeanTypes;
+        Set<String> excludedBeanClasses = plan.excludedBeanClasses;
+
+        TypeMirror currClass;
+        while ((currClass = classesToProcess.poll()) != null) {
+            if (currClass.getKind() == TypeKind.ERROR) {
+                return null;
+            }
+            if (isIgnored(currClass)) {
+                continue;
+            }
+            String name = name(currClass);
+            if (plan.foundClasses.containsKey(name) || excludedBeanTypes.contains(name)
+                    || excludedBeanClasses.contains(name)) {
+                continue;
+            }
+            plan.foundClasses.put(name, currClass);
+            if (currClass.getKind() != TypeKind.DECLARED) {
+                // an array has no members
+                continue;
+            }
+
+            ScannedType scannedType = scan(asElement(currClass));
+            scannedType.excludedBeanTypes.forEach(type -> excludedBeanTypes.add(name(type)));
+            classesToProcess.addAll(explicitInjection ? scannedType.explicitDependencies : scannedType.dependencies);
+
+            for (Map.Entry<String, Boolean> directive : scannedType.packages) {
+                if (!plan.packages.contains(directive)) {
+                    plan.packages.add(directive);
+                }
+            }
+            classesToProcess.addAll(scannedType.beanClasses);
+            addNames(plan.beanClasses, scannedType.beanClasses);
+            addNames(plan.extensions, scannedType.extensions);
+            classesToProcess.addAll(scannedType.interceptors);
+            addNames(plan.interceptors, scannedType.interceptors);
+            addNames(plan.beanClasses, scannedType.interceptors);
+            classesToProcess.addAll(scannedType.decorators);
+            addNames(plan.decorators, scannedType.decorators);
+            addNames(plan.beanClasses, scannedType.decorators);
+            addNames(plan.alternatives, scannedType.alternatives);
+            addNames(plan.alternativeStereotypes, scannedType.alternativeStereotypes);
+            addNames(excludedBeanClasses, scannedType.excludedBeanClasses);
+
+            if (plan.beanDiscoveryMode == null) {
+                plan.beanDiscoveryMode = scannedType.beanDiscoveryMode;
+            }
+        }
+
+        for (Map.Entry<String, TypeMirror> foundClass : plan.foundClasses.entrySet()) {
+            if (foundClass.getValue().getKind() == TypeKind.DECLARED
+                    && metadata(asElement(foundClass.getValue())).beanDefining) {
+                plan.beanClasses.add(foundClass.getKey());
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * The signature covers the supertypes and the runtime annotations, including their values, of the class and of its
+     * annotated members, i.e. the parts of a class the discovery depends on. {@code org.jboss.weld.junit.ScanManifest} computes
+     * the same signature from
+     * the loaded class.
+     *
+     * @param type
+     * @return the signature of the given type
+     */
+    String signature(TypeElement type) {
+        StringBuilder signature = new StringBuilder("class ").append(elements.getBinaryName(type)).append('\n');
+        TypeMirror superclass = type.getSuperclass();
+        signature.append("super ").append(superclass.getKind() == TypeKind.DECLARED ? name(superclass) : "").append('\n');
+        for (TypeMirror interfaceType : type.getInterfaces()) {
+            signature.append("interface ").append(name(interfaceType)).append('\n');
+        }
+        Set<String> members = new TreeSet<>();
+        for (String annotation : annotations(type)) {
+            members.add("annotation " + annotation);
+        }
+        for (Element member : type.getEnclosedElements()) {
+            String annotations = String.join("", annotations(member));
+            if (annotations.isEmpty()) {
+                continue;
+            }
+            switch (member.getKind()) {
+                case FIELD:
+                case ENUM_CONSTANT:
+                    members.add("field " + member.getSimpleName() + " " + typeName(member.asType()) + " " + annotations);
+                    break;
+                case METHOD:
+                    ExecutableElement method = (ExecutableElement) member;
+                    members.add("method " + method.getSimpleName() + parameters(method) + typeName(method.getReturnType())
+                            + " " + annotations);
+                    break;
+                case CONSTRUCTOR:
+                    members.add("constructor " + parameters((ExecutableElement) member) + " " + annotations);
+                    break;
+                default:
+                    break;
+            }
+        }
+        members.forEach(member -> signature.append(member).append('\n'));
+        return signature.toString();
+    }
+
+    /**
+     *
+     * @param type
+     * @param contributors the set to add the given type and its supertypes to, unless they belong to the JDK
+     */
+    void addContributors(TypeMirror type, Set<TypeElement> contributors) {
+        while (type.getKind() == TypeKind.ARRAY) {
+            type = ((ArrayType) type).getComponentType();
+        }
+        if (type.getKind() != TypeKind.DECLARED || name(type).startsWith("java")) {
+            return;
+        }
+        TypeElement element = asElement(type);
+        if (contributors.add(element)) {
+            addContributors(element.getSuperclass(), contributors);
+            for (TypeMirror interfaceType : element.getInterfaces()) {
+                addContributors(interfaceType, contributors);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param type
+     * @return the name returned by {@link Class#getName()} for the erasure of the given type
+     */
+    String name(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        switch (erasure.getKind()) {
+            case DECLARED:
+                return elements.getBinaryName(asElement(erasure)).toString();
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) erasure).getComponentType());
+            default:
+                return erasure.toString();
+        }
+    }
+
+    // the generic type, rendered the same way as by ScanManifest at runtime
+    private String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                List<String> arguments = new ArrayList<>();
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    arguments.add(typeName(argument));
+                }
+                return arguments.isEmpty() ? name(type) : name(type) + "<" + String.join(",", arguments) + ">";
+            case ARRAY:
+                TypeMirror componentType = ((ArrayType) type).getComponentType();
+                // an array of a generic type is a GenericArrayType at runtime
+                return isGeneric(componentType) ? typeName(componentType) + "[]" : name(type);
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getSuperBound() != null) {
+                    return "? super " + typeName(wildcardType.getSuperBound());
+                }
+                TypeMirror extendsBound = wildcardType.getExtendsBound();
+                return extendsBound == null || name(extendsBound).equals(Object.class.getName()) ? "?"
+                        : "? extends " + typeName(extendsBound);
+            case TYPEVAR:
+                return ((TypeVariable) type).asElement().getSimpleName().toString();
+            default:
+                return name(type);
+        }
+    }
+
+    private boolean isGeneric(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                return !((DeclaredType) type).getTypeArguments().isEmpty();
+            case ARRAY:
+                return isGeneric(((ArrayType) type).getComponentType());
+            case WILDCARD:
+            case TYPEVAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private String descriptor(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        switch (erasure.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) erasure).getComponentType());
+            default:
+                return "L" + name(erasure) + ";";
+        }
+    }
+
+    private String parameters(ExecutableElement executable) {
+        List<String> parameters = new ArrayList<>();
+        for (VariableElement parameter : executable.getParameters()) {
+            parameters.add(typeName(parameter.asType()) + String.join("", annotations(parameter)));
+        }
+        return "(" + String.join(",", parameters) + ")";
+    }
+
+    // the sorted runtime annotations declared on the given element, including their values
+    private Set<String> annotations(Element element) {
+        Set<String> annotations = new TreeSet<>();
+        for (AnnotationMirror annotation : runtimeAnnotations(element.getAnnotationMirrors())) {
+            annotations.add(render(annotation));
+        }
+        return annotations;
+    }
+
+    private String render(AnnotationMirror annotation) {
+        Map<String, String> values = new TreeMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), render(entry.getValue().getValue()));
+        }
+        List<String> members = new ArrayList<>();
+        values.forEach((member, value) -> members.add(member + "=" + value));
+        return "@" + name(annotation.getAnnotationType()) + "(" + String.join(",", members) + ")";
+    }
+
+    private String render(Object value) {
+        if (value instanceof TypeMirror) {
+            return name((TypeMirror) value);
+        }
+        if (value instanceof VariableElement) {
+            // an enum constant
+            return ((VariableElement) value).getSimpleName().toString();
+        }
+        if (value instanceof AnnotationMirror) {
+            return render((AnnotationMirror) value);
+        }
+        if (value instanceof List) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (List<?>) value) {
+                elements.add(render(((AnnotationValue) element).getValue()));
+            }
+            return "{" + String.join(",", elements) + "}";
+        }
+        if (value instanceof String) {
+            return "\"" + value + "\"";
+        }
+        return String.valueOf(value);
+    }
+
+    private boolean isIgnored(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED && type.getKind() != TypeKind.ARRAY) {
+            // primitive types and void
+            return true;
+        }
+        String name = name(type);
+        return name.startsWith("java") || name.startsWith("sun");
+    }
+
+    private ScannedType scan(TypeElement type) {
+        ScannedType scannedType = scannedTypes.get(type);
+        if (scannedType == null) {
+            scannedType = new ScannedType(type);
+            scannedTypes.put(type, scannedType);
+        }
+        return scannedType;
+    }
+
+    private TypeMetadata metadata(TypeElement type) {
+        TypeMetadata typeMetadata = metadata.get(type);
+        if (typeMetadata == null) {
+            typeMetadata = new TypeMetadata(type);
+            metadata.put(type, typeMetadata);
+        }
+        return typeMetadata;
+    }
+
+    private TypeElement asElement(TypeMirror type) {
+        return (TypeElement) types.asElement(type);
+    }
+
+    private void addNames(Set<String> names, List<TypeMirror> classes) {
+        classes.forEach(clazz -> names.add(name(clazz)));
+    }
+
+    private List<AnnotationMirror> runtimeAnnotations(List<? extends AnnotationMirror> annotations) {
+        List<AnnotationMirror> result = new ArrayList<>();
+        for (AnnotationMirror annotation : annotations) {
+            if (isRuntimeRetained(asElement(annotation.getAnnotationType()))) {
+                result.add(annotation);
+            }
+        }
+        return result;
+    }
+
+    private boolean isRuntimeRetained(TypeElement annotationType) {
+        Boolean retained = runtimeRetained.get(annotationType);
+        if (retained == null) {
+            Retention retention = annotationType.getAnnotation(Retention.class);
+            retained = retention != null && retention.value() == RetentionPolicy.RUNTIME;
+            runtimeRetained.put(annotationType, retained);
+        }
+        return retained;
+    }
+
+    // whether the annotation is present or meta-present on the given element, including the inherited annotations
+    private boolean isAnnotated(Element element, String annotation) {
+        List<AnnotationMirror> annotations = runtimeAnnotations(elements.getAllAnnotationMirrors(element));
+        for (AnnotationMirror candidate : annotations) {
+            if (name(candidate.getAnnotationType()).equals(annotation)) {
+                return true;
+            }
+        }
+        Set<String> visited = new HashSet<>();
+        for (AnnotationMirror candidate : annotations) {
+            if (isMetaAnnotated(asElement(candidate.getAnnotationType()), annotation, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMetaAnnotated(TypeElement candidate, String annotation, Set<String> visited) {
+        String name = elements.getBinaryName(candidate).toString();
+        if (name.startsWith("java.lang.annotation") || !visited.add(name)) {
+            return false;
+        }
+        List<AnnotationMirror> annotations = runtimeAnnotations(elements.getAllAnnotationMirrors(candidate));
+        for (AnnotationMirror metaAnnotation : annotations) {
+            if (name(metaAnnotation.getAnnotationType()).equals(annotation)) {
+                return true;
+            }
+        }
+        for (AnnotationMirror metaAnnotation : annotations) {
+            if (isMetaAnnotated(asElement(metaAnnotation.getAnnotationType()), annotation, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isDirectlyAnnotated(Element element, String annotation) {
+        for (AnnotationMirror candidate : element.getAnnotationMirrors()) {
+            if (name(candidate.getAnnotationType()).equals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows {@code AnnotationSupport.findRepeatableAnnotations()}: the annotations of the superclasses come first if the
+     * annotation is inherited, then the annotations of the interfaces and of the class itself, including meta-annotations.
+     */
+    private List<AnnotationMirror> findRepeatableAnnotations(TypeElement type, String annotation) {
+        TypeElement annotationType = elements.getTypeElement(annotation);
+        if (annotationType == null) {
+            return Collections.emptyList();
+        }
+        String container = null;
+        for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+            if (name(metaAnnotation.getAnnotationType()).equals("java.lang.annotation.Repeatable")) {
+                container = name((TypeMirror) value(metaAnnotation, "value").getValue());
+            }
+        }
+        boolean inherited = isDirectlyAnnotated(annotationType, "java.lang.annotation.Inherited");
+        Map<String, AnnotationMirror> found = new LinkedHashMap<>();
+        findRepeatableAnnotations(type, annotation, container, inherited, found, new HashSet<>());
+        return new ArrayList<>(found.values());
+    }
+
+    private void findRepeatableAnnotations(TypeElement element, String annotation, String container, boolean inherited,
+            Map<String, AnnotationMirror> found, Set<String> visited) {
+        if (element.getKind() != ElementKind.ANNOTATION_TYPE) {
+            if (inherited && element.getSuperclass().getKind() == TypeKind.DECLARED
+                    && !name(element.getSuperclass()).equals("java.lang.Object")) {
+                findRepeatableAnnotations(asElement(element.getSuperclass()), annotation, container, inherited, found,
+                        visited);
+            }
+            for (TypeMirror interfaceType : element.getInterfaces()) {
+                findRepeatableAnnotations(asElement(interfaceType), annotation, container, inherited, found, visited);
+            }
+        }
+        findRepeatableAnnotations(runtimeAnnotations(element.getAnnotationMirrors()), annotation, container, inherited, found,
+                visited);
+        findRepeatableAnnotations(runtimeAnnotations(elements.getAllAnnotationMirrors(element)), annotation, container,
+                inherited, found, visited);
+    }
+
+    private void findRepeatableAnnotations(List<AnnotationMirror> candidates, String annotation, String container,
+            boolean inherited, Map<String, AnnotationMirror> found, Set<String> visited) {
+        for (AnnotationMirror candidate : candidates) {
+            String candidateType = name(candidate.getAnnotationType());
+            if (candidateType.startsWith("java.lang.annotation") || !visited.add(candidate.toString())) {
+                continue;
+            }
+            if (candidateType.equals(annotation)) {
+                found.putIfAbsent(candidate.toString(), candidate);
+            } else if (candidateType.equals(container)) {
+                for (AnnotationValue contained : values(candidate, "value")) {
+                    AnnotationMirror containedAnnotation = (AnnotationMirror) contained.getValue();
+                    found.putIfAbsent(containedAnnotation.toString(), containedAnnotation);
+                }
+            } else {
+                findRepeatableAnnotations(asElement(candidate.getAnnotationType()), annotation, container, inherited, found,
+                        visited);
+            }
+        }
+    }
+
+    /**
+     * Follows {@code AnnotationSupport.findAnnotation()}.
+     */
+    private AnnotationMirror findAnnotation(TypeElement type, String annotation, Set<String> visited) {
+        List<AnnotationMirror> declared = runtimeAnnotations(type.getAnnotationMirrors());
+        for (AnnotationMirror candidate : declared) {
+            if (name(candidate.getAnnotationType()).equals(annotation)) {
+                return candidate;
+            }
+        }
+        AnnotationMirror found = findMetaAnnotation(declared, annotation, visited);
+        if (found == null && type.getKind() != ElementKind.ANNOTATION_TYPE) {
+            for (TypeMirror interfaceType : type.getInterfaces()) {
+                found = findAnnotation(asElement(interfaceType), annotation, visited);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        if (found == null) {
+            List<AnnotationMirror> all = runtimeAnnotations(elements.getAllAnnotationMirrors(type));
+            for (AnnotationMirror candidate : all) {
+                if (name(candidate.getAnnotationType()).equals(annotation)) {
+                    return candidate;
+                }
+            }
+            found = findMetaAnnotation(all, annotation, visited);
+        }
+        return found;
+    }
+
+    private AnnotationMirror findMetaAnnotation(List<AnnotationMirror> candidates, String annotation, Set<String> visited) {
+        for (AnnotationMirror candidate : candidates) {
+            TypeElement candidateType = asElement(candidate.getAnnotationType());
+            String name = elements.getBinaryName(candidateType).toString();
+            if (!name.startsWith("java.lang.annotation") && visited.add(name)) {
+                AnnotationMirror found = findAnnotation(candidateType, annotation, visited);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                .getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalArgumentException("No member " + name + " in " + annotation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> values(AnnotationMirror annotation, String name) {
+        return (List<? extends AnnotationValue>) value(annotation, name).getValue();
+    }
+
+    private List<TypeMirror> classValues(AnnotationMirror annotation) {
+        List<TypeMirror> classes = new ArrayList<>();
+        for (AnnotationValue value : values(annotation, "value")) {
+            classes.add(types.erasure((TypeMirror) value.getValue()));
+        }
+        return classes;
+    }
+
+    /**
+     * The result of the discovery for a test class.
+     */
+    static final class Plan {
+
+        final Map<String, TypeMirror> foundClasses = new LinkedHashMap<>();
+
+        final Set<String> beanClasses = new LinkedHashSet<>();
+
+        final List<Map.Entry<String, Boolean>> packages = new ArrayList<>();
+
+        final Set<String> extensions = new LinkedHashSet<>();
+
+        final Set<String> interceptors = new LinkedHashSet<>();
+
+        final Set<String> decorators = new LinkedHashSet<>();
+
+        final Set<String> alternatives = new LinkedHashSet<>();
+
+        final Set<String> alternativeStereotypes = new LinkedHashSet<>();
+
+        final Set<String> excludedBeanTypes = new LinkedHashSet<>();
+
+        final Set<String> excludedBeanClasses = new LinkedHashSet<>();
+
+        String beanDiscoveryMode;
+
+    }
+
+    /**
+     * The members of a type as seen by {@code ClassMetadata}.
+     */
+    private final class TypeMetadata {
+
+        // the fields of the class hierarchy, the fields of the superclasses first
+        private final List<VariableElement> fields;
+
+        // the methods of the class hierarchy which are not overridden, the methods of the class first
+        private final List<ExecutableElement> methods;
+
+        private final List<VariableElement> declaredFields;
+
+        private final List<ExecutableElement> declaredMethods;
+
+        private final ExecutableElement injectConstructor;
+
+        private final boolean beanDefining;
+
+        private TypeMetadata(TypeElement type) {
+            this.declaredFields = ElementFilter.fieldsIn(type.getEnclosedElements());
+            this.declaredMethods = ElementFilter.methodsIn(type.getEnclosedElements());
+            TypeMirror superclass = type.getSuperclass();
+            TypeMetadata superMetadata = superclass.getKind() == TypeKind.DECLARED
+                    && !name(superclass).equals("java.lang.Object") ? metadata(asElement(superclass)) : null;
+
+            List<VariableElement> allFields = new ArrayList<>();
+            if (superMetadata != null) {
+                allFields.addAll(superMetadata.fields);
+            }
+            allFields.addAll(declaredFields);
+            this.fields = allFields;
+
+            List<ExecutableElement> allMethods = new ArrayList<>(declaredMethods);
+            if (superMetadata != null) {
+                addNotOverridden(allMethods, superMetadata.methods);
+            }
+            for (TypeMirror interfaceType : type.getInterfaces()) {
+                addNotOverridden(allMethods, metadata(asElement(interfaceType)).methods);
+            }
+            this.methods = allMethods;
+
+            ExecutableElement constructor = null;
+            for (ExecutableElement candidate : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+                if (isDirectlyAnnotated(candidate, INJECT)) {
+                    constructor = candidate;
+                    break;
+                }
+            }
+            if (constructor == null && superclass.getKind() == TypeKind.DECLARED) {
+                constructor = metadata(asElement(superclass)).injectConstructor;
+            }
+            this.injectConstructor = constructor;
+
+            boolean isBeanDefining = false;
+            for (String annotation : BEAN_DEFINING) {
+                isBeanDefining = isBeanDefining || isAnnotated(type, annotation);
+            }
+            this.beanDefining = isBeanDefining;
+        }
+
+        private void addNotOverridden(List<ExecutableElement> methods, List<ExecutableElement> inherited) {
+            List<ExecutableElement> local = new ArrayList<>(methods);
+            for (ExecutableElement method : inherited) {
+                if (!isOverridden(method, local)) {
+                    methods.add(method);
+                }
+            }
+        }
+
+        private boolean isOverridden(ExecutableElement method, List<ExecutableElement> local) {
+            for (ExecutableElement candidate : local) {
+                if (candidate.getSimpleName().equals(method.getSimpleName())
+                        && parameters(candidate).equals(parameters(method))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private List<String> parameters(ExecutableElement method) {
+            List<String> parameters = new ArrayList<>();
+            for (VariableElement parameter : method.getParameters()) {
+                parameters.add(name(parameter.asType()));
+            }
+            return parameters;
+        }
+
+    }
+
+    /**
+     * The scan of a single type as performed by {@code ClassScanner}.
+     */
+    private final class ScannedType {
+
+        private final List<TypeMirror> dependencies = new ArrayList<>();
+
+        private final List<TypeMirror> explicitDependencies = new ArrayList<>();
+
+        private final List<TypeMirror> excludedBeanTypes = new ArrayList<>();
+
+        private final List<Map.Entry<String, Boolean>> packages = new ArrayList<>();
+
+        private final List<TypeMirror> beanClasses = new ArrayList<>();
+
+        private final List<TypeMirror> extensions = new ArrayList<>();
+
+        private final List<TypeMirror> interceptors = new ArrayList<>();
+
+        private final List<TypeMirror> decorators = new ArrayList<>();
+
+        private final List<TypeMirror> alternatives = new ArrayList<>();
+
+        private final List<TypeMirror> alternativeStereotypes = new ArrayList<>();
+
+        private final List<TypeMirror> excludedBeanClasses = new ArrayList<>();
+
+        private String beanDiscoveryMode;
+
+        private ScannedType(TypeElement type) {
+            TypeMetadata typeMetadata = metadata(type);
+            for (VariableElement field : typeMetadata.fields) {
+                if (isAnnotated(field, EXCLUDE_BEAN)) {
+                    excludedBeanTypes.add(types.erasure(field.asType()));
+                }
+            }
+            for (ExecutableElement method : typeMetadata.methods) {
+                if (isAnnotated(method, EXCLUDE_BEAN)) {
+                    excludedBeanTypes.add(types.erasure(method.getReturnType()));
+                }
+            }
+
+            for (VariableElement field : typeMetadata.fields) {
+                if (isAnnotated(field, INJECT)) {
+                    TypeMirror injected = unwrapInstanceTypeParameter(field);
+                    dependencies.add(injected);
+                    explicitDependencies.add(injected);
+                }
+            }
+            for (ExecutableElement method : typeMetadata.methods) {
+                if (isAnnotated(method, INJECT)) {
+                    addParameterTypes(method);
+                }
+            }
+            if (typeMetadata.injectConstructor != null) {
+                addParameterTypes(typeMetadata.injectConstructor);
+            }
+            for (VariableElement field : typeMetadata.declaredFields) {
+                if (isAnnotated(field, PRODUCES)) {
+                    dependencies.add(types.erasure(field.asType()));
+                    explicitDependencies.add(types.erasure(field.asType()));
+                }
+            }
+            for (ExecutableElement method : typeMetadata.declaredMethods) {
+                if (isAnnotated(method, PRODUCES)) {
+                    addParameterTypes(method);
+                    dependencies.add(types.erasure(method.getReturnType()));
+                    explicitDependencies.add(types.erasure(method.getReturnType()));
+                }
+            }
+            for (ExecutableElement method : typeMetadata.methods) {
+                for (String annotation : INJECTABLE_METHODS) {
+                    if (isAnnotated(method, annotation)) {
+                        addParameterTypes(method);
+                        break;
+                    }
+                }
+            }
+
+            for (AnnotationMirror annotation : findRepeatableAnnotations(type, AUTO + "AddPackages")) {
+                boolean recursively = (Boolean) value(annotation, "recursively").getValue();
+                for (TypeMirror packageClass : classValues(annotation)) {
+                    Map.Entry<String, Boolean> directive = new AbstractMap.SimpleImmutableEntry<>(name(packageClass),
+                            recursively);
+                    if (!packages.contains(directive)) {
+                        packages.add(directive);
+                    }
+                }
+            }
+            findRepeatableAnnotations(type, AUTO + "AddBeanClasses").forEach(ann -> beanClasses.addAll(classValues(ann)));
+            findRepeatableAnnotations(type, AUTO + "AddExtensions").forEach(ann -> extensions.addAll(classValues(ann)));
+            findRepeatableAnnotations(type, AUTO + "AddEnabledInterceptors")
+                    .forEach(ann -> interceptors.addAll(classValues(ann)));
+            findRepeatableAnnotations(type, AUTO + "AddEnabledDecorators")
+                    .forEach(ann -> decorators.addAll(classValues(ann)));
+            findRepeatableAnnotations(type, AUTO + "EnableAlternatives")
+                    .forEach(ann -> alternatives.addAll(classValues(ann)));
+            findRepeatableAnnotations(type, AUTO + "EnableAlternativeStereotypes")
+                    .forEach(ann -> alternativeStereotypes.addAll(classValues(ann)));
+            findRepeatableAnnotations(type, AUTO + "ExcludeBeanClasses")
+                    .forEach(ann -> excludedBeanClasses.addAll(classValues(ann)));
+            AnnotationMirror discoveryMode = findAnnotation(type, AUTO + "SetBeanDiscoveryMode", new HashSet<>());
+            if (discoveryMode != null) {
+                beanDiscoveryMode = ((VariableElement) value(discoveryMode, "value").getValue()).getSimpleName().toString();
+            }
+        }
+
+        private void addParameterTypes(ExecutableElement executable) {
+            for (VariableElement parameter : executable.getParameters()) {
+                TypeMirror type = types.erasure(parameter.asType());
+                dependencies.add(type);
+                if (isBeanParameter(parameter)) {
+                    explicitDependencies.add(type);
+                }
+            }
+        }
+
+        private boolean isBeanParameter(VariableElement parameter) {
+            for (AnnotationMirror annotation : runtimeAnnotations(parameter.getAnnotationMirrors())) {
+                if (isAnnotated(asElement(annotation.getAnnotationType()), QUALIFIER)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private TypeMirror unwrapInstanceTypeParameter(VariableElement field) {
+            TypeMirror type = types.erasure(field.asType());
+            if (name(type).equals(INSTANCE) && field.asType().getKind() == TypeKind.DECLARED) {
+                List<? extends TypeMirror> typeArguments = ((DeclaredType) field.asType()).getTypeArguments();
+                if (!typeArguments.isEmpty()) {
+                    TypeMirror typeParameter = typeArguments.get(0);
+                    if (typeParameter.getKind() == TypeKind.DECLARED || (typeParameter.getKind() == TypeKind.ARRAY
+                            && types.isSameType(typeParameter, types.erasure(typeParameter)))) {
+                        type = types.erasure(typeParameter);
+                    }
+                }
+            }
+            return type;
+        }
+
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.junit.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a scan manifest for every test class using the <b>automagic</b> discovery of {@code WeldJunit5AutoExtension},
+ * i.e. a class annotated with {@code @EnableAutoWeld} or {@code @ExtendWith(WeldJunit5AutoExtension.class)}, and for each of
+ * its {@code @Nested} test classes. A manifest contains the result of the discovery for both the implicit and the explicit
+ * parameter injection, along with the signatures of the classes which contributed to it.
+ *
+ * <p>
+ * The manifests are written to {@value #LOCATION} and read by {@code org.jboss.weld.junit.ScanManifest}. A manifest is only
+ * used if the signatures still match the classes on the class path, otherwise the test class is scanned at runtime.
+ * </p>
+ */
+public class ScanManifestProcessor extends AbstractProcessor {
+
+    // the format read by org.jboss.weld.junit.ScanManifest
+    static final String LOCATION = "META-INF/weld-testing/scan/";
+
+    static final String VERSION = "1";
+
+    static final String ADAPTER = "org.jboss.weld.junit5.auto.ClassScanning";
+
+    private static final String ENABLE_AUTO_WELD = "org.jboss.weld.junit5.auto.EnableAutoWeld";
+
+    private static final String EXTEND_WITH = "org.junit.jupiter.api.extension.ExtendWith";
+
+    private static final String EXTENSIONS = "org.junit.jupiter.api.extension.Extensions";
+
+    private static final String AUTO_EXTENSION = "org.jboss.weld.junit5.auto.WeldJunit5AutoExtension";
+
+    private static final String NESTED = "org.junit.jupiter.api.Nested";
+
+    private final Set<String> written = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ENABLE_AUTO_WELD, EXTEND_WITH, EXTENSIONS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        ModelScanner scanner = new ModelScanner(processingEnv);
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)
+                        && isAutoWeldTest(element)) {
+                    processTestClasses(scanner, List.of((TypeElement) element));
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isAutoWeldTest(Element element) {
+        for (AnnotationMirror annotation : processingEnv.getElementUtils().getAllAnnotationMirrors(element)) {
+            String name = annotation.getAnnotationType().toString();
+            if (name.equals(ENABLE_AUTO_WELD) || (name.equals(EXTEND_WITH) && extendsWithAutoWeld(annotation))) {
+                return true;
+            }
+            if (name.equals(EXTENSIONS)) {
+                for (AnnotationValue extendWith : values(annotation)) {
+                    if (extendsWithAutoWeld((AnnotationMirror) extendWith.getValue())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean extendsWithAutoWeld(AnnotationMirror extendWith) {
+        for (AnnotationValue extension : values(extendWith)) {
+            if (((TypeMirror) extension.getValue()).toString().equals(AUTO_EXTENSION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> values(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return (List<? extends AnnotationValue>) entry.getValue().getValue();
+            }
+        }
+        return List.of();
+    }
+
+    private void processTestClasses(ModelScanner scanner, List<TypeElement> testClasses) {
+        writeManifest(scanner, testClasses);
+        TypeElement innermost = testClasses.get(testClasses.size() - 1);
+        for (TypeElement member : ElementFilter.typesIn(processingEnv.getElementUtils().getAllMembers(innermost))) {
+            if (member.getKind() == ElementKind.CLASS && !member.getModifiers().contains(Modifier.STATIC)
+                    && !testClasses.contains(member) && isNested(member)) {
+                List<TypeElement> nested = new ArrayList<>(testClasses);
+                nested.add(member);
+                processTestClasses(scanner, nested);
+            }
+        }
+    }
+
+    private static boolean isNested(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (annotation.getAnnotationType().toString().equals(NESTED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeManifest(ModelScanner scanner, List<TypeElement> testClasses) {
+        List<String> testClassNames = new ArrayList<>();
+        for (TypeElement testClass : testClasses) {
+            testClassNames.add(scanner.name(testClass.asType()));
+        }
+        String name = String.join("+", testClassNames);
+        if (!written.add(name)) {
+            return;
+        }
+        ModelScanner.Plan implicit = scanner.plan(testClasses, false);
+        ModelScanner.Plan explicit = scanner.plan(testClasses, true);
+        if (implicit == null || explicit == null) {
+            // a type cannot be resolved, the compiler reports the error
+            return;
+        }
+        Set<TypeElement> contributors = new LinkedHashSet<>();
+        for (TypeMirror foundClass : implicit.foundClasses.values()) {
+            scanner.addContributors(foundClass, contributors);
+        }
+        for (TypeMirror foundClass : explicit.foundClasses.values()) {
+            scanner.addContributors(foundClass, contributors);
+        }
+        Map<String, String> signatures = new TreeMap<>();
+        for (TypeElement contributor : contributors) {
+            signatures.put(scanner.name(contributor.asType()), hash(scanner.signature(contributor)));
+        }
+
+        StringBuilder manifest = new StringBuilder();
+        manifest.append("# Generated by ").append(getClass().getName()).append('\n');
+        manifest.append("version=").append(VERSION).append('\n');
+        manifest.append("adapter=").append(ADAPTER).append('\n');
+        manifest.append("testClasses=").append(String.join(",", testClassNames)).append('\n');
+        signatures.forEach((contributor, hash) -> manifest.append("signature.").append(contributor).append('=').append(hash)
+                .append('\n'));
+        appendPlan(manifest, "implicit.", implicit);
+        appendPlan(manifest, "explicit.", explicit);
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    LOCATION + name + ".manifest", testClasses.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                writer.write(manifest.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write the scan manifest: " + e.getMessage(), testClasses.get(testClasses.size() - 1));
+        }
+    }
+
+    private static void appendPlan(StringBuilder manifest, String prefix, ModelScanner.Plan plan) {
+        append(manifest, prefix + "beanClasses", plan.beanClasses);
+        List<String> packages = new ArrayList<>();
+        plan.packages.forEach(directive -> packages.add(directive.getKey() + ":" + directive.getValue()));
+        append(manifest, prefix + "packages", packages);
+        append(manifest, prefix + "extensions", plan.extensions);
+        append(manifest, prefix + "interceptors", plan.interceptors);
+        append(manifest, prefix + "decorators", plan.decorators);
+        append(manifest, prefix + "alternatives", plan.alternatives);
+        append(manifest, prefix + "alternativeStereotypes", plan.alternativeStereotypes);
+        append(manifest, prefix + "excludedBeanTypes", plan.excludedBeanTypes);
+        append(manifest, prefix + "excludedBeanClasses", plan.excludedBeanClasses);
+        manifest.append(prefix).append("beanDiscoveryMode=")
+                .append(plan.beanDiscoveryMode != null ? plan.beanDiscoveryMode : "")
+                .append('\n');
+    }
+
+    private static void append(StringBuilder manifest, String key, Collection<String> values) {
+        manifest.append(key).append('=').append(String.join(",", values)).append('\n');
+    }
+
+    // the same hash is computed by org.jboss.weld.junit.ScanManifest
+    private static String hash(String signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(signature.getBytes(StandardCharsets.UTF_8));
+            return String.format("%016x", ByteBuffer.wrap(digest).getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
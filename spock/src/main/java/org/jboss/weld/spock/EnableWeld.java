@@ -115,6 +115,30 @@ public @interface EnableWeld {
          */
         ITERATION,
 
+        /**
+         * Before a feature (before the {@code setup} method of the first iteration is called) a new Weld container will be
+         * started and used for all iterations of this feature, like with {@code FEATURE}. But after each iteration (after
+         * the {@code cleanup} method is called) the instances of the scopes activated through
+         * {@link WeldInitiator.Builder#activate(Class[]) WeldInitiator.Builder.activate()} are destroyed, so that each
+         * iteration gets fresh instances of request-like beans. After the feature the container is shut down again.
+         *
+         * <p>
+         * This is much cheaper than {@code ITERATION} for data-driven features with many iterations, while the state of
+         * {@code ApplicationScoped} and {@code Singleton} beans is still shared by all iterations of the feature.
+         *
+         * <p>
+         * The {@link Shared @Shared} fields will be injected, but only at the time the first iteration starts running.
+         *
+         * <p>
+         * The non-{@code @Shared} fields will be injected for each iteration, as well as method parameters of {@code setup},
+         * feature, and {@code cleanup} methods.
+         *
+         * <p>
+         * {@code setupSpec} and {@code cleanupSpec} method parameters will not be injected as at the time those
+         * methods are executed, the Weld container is either not yet running or already shut down.
+         */
+        ITERATION_CONTEXTS,
+
         /**
          * Before a feature (before the {@code setup} method of the first iteration is called) a new Weld container will be
          * started,
@@ -153,6 +177,27 @@ public @interface EnableWeld {
          * This scope can only be selected on a specification or in the Spock configuration file. If it is used
          * for a feature annotation, an exception will be thrown.
          */
-        SPECIFICATION
+        SPECIFICATION,
+
+        /**
+         * Like {@code SPECIFICATION}, but the Weld container is not shut down after the specification. Instead, it is kept
+         * running and reused by the next specification with an identical deployment, i.e. with the same bean classes,
+         * packages, alternatives, interceptors, decorators, extensions, activated scopes, added beans, and so on. At most
+         * {@code globalMaxIdle} idle containers are kept running (see {@link WeldConfiguration}), the
+         * least recently used one is shut down when the limit is exceeded. All the containers are shut down when the whole
+         * test run finishes.
+         *
+         * <p>
+         * A container is never used by two specifications at the same time, so if such specifications run in parallel,
+         * each of them gets its own container. Note that a reused container keeps the state of {@code ApplicationScoped}
+         * and {@code Singleton} beans. Also note that an automagic deployment contains the specification class itself and
+         * is thus never shared with other specifications, its container is shut down after the specification. The same
+         * applies to a deployment with components compared by identity, e.g. mock beans which are not swappable.
+         *
+         * <p>
+         * This scope can only be selected on a specification or in the Spock configuration file. If it is used
+         * for a feature annotation, an exception will be thrown.
+         */
+        GLOBAL
     }
 }
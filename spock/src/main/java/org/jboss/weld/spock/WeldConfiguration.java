@@ -36,11 +36,25 @@ import spock.config.ConfigurationObject;
  * 'org.jboss.weld' {
  *   enabled true // default false
  *   automagic true // default false
- *   scope SPECIFICATION // default ITERATION
+ *   scope SPECIFICATION // default ITERATION, or FEATURE, or GLOBAL
  *   explicitParamInjection true // default false
+ *   prefetch 2 // default 0
+ *   globalMaxIdle 8 // default 4
  * }
  * }</pre>
  *
+ * <p>
+ * If {@code prefetch} is positive, the containers of up to that many upcoming specifications with scope
+ * {@code SPECIFICATION} or {@code GLOBAL} are booted in the background while the current specification runs. Only the
+ * deployments which do not depend on the state of a specification instance can be predicted, i.e. automagic
+ * specifications and specifications without a {@link WeldSetup @WeldSetup} field.
+ * </p>
+ *
+ * <p>
+ * At most {@code globalMaxIdle} containers of specifications with scope {@code GLOBAL} are kept running while no
+ * specification uses them, the least recently used one is shut down when the limit is exceeded.
+ * </p>
+ *
  * @author Björn Kautler
  * @see EnableWeldExtension
  */
@@ -50,4 +64,6 @@ public class WeldConfiguration {
     public boolean automagic = false;
     public Scope scope = ITERATION;
     public boolean explicitParamInjection = false;
+    public int prefetch = 0;
+    public int globalMaxIdle = 4;
 }
@@ -30,6 +30,8 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 import org.jboss.weld.junit.AbstractWeldInitiator;
+import org.jboss.weld.junit.ContainerCache;
+import org.jboss.weld.junit.ContainerPool;
 
 /**
  * Weld initiator - can be used to customize the Weld SE container started by
@@ -172,7 +174,8 @@ public class WeldInitiator extends AbstractWeldInitiator {
         protected WeldInitiator build(Weld weld, List<Object> instancesToInject,
                 Set<Class<? extends Annotation>> scopesToActivate, Set<Bean<?>> beans) {
             return new WeldInitiator(weld, instancesToInject, scopesToActivate, beans, resources, getEjbFactory(),
-                    getPersistenceUnitFactory(), getPersistenceContextFactory());
+                    getPersistenceUnitFactory(), getPersistenceContextFactory(), isLazy(), isFastShutdown(), getWarmUpTypes(),
+                    getOverlayBeans());
         }
     }
 
@@ -180,9 +183,10 @@ public class WeldInitiator extends AbstractWeldInitiator {
             Set<Bean<?>> beans,
             Map<String, Object> resources, Function<InjectionPoint, Object> ejbFactory,
             Function<InjectionPoint, Object> persistenceUnitFactory,
-            Function<InjectionPoint, Object> persistenceContextFactory) {
+            Function<InjectionPoint, Object> persistenceContextFactory, boolean lazy, boolean fastShutdown,
+            Set<Class<?>> warmUpTypes, Set<Bean<?>> overlayBeans) {
         super(weld, instancesToInject, scopesToActivate, beans, resources, ejbFactory, persistenceUnitFactory,
-                persistenceContextFactory);
+                persistenceContextFactory, lazy, fastShutdown, warmUpTypes, overlayBeans);
     }
 
     public void addObjectToInjectInto(Object instanceToInjectInto) {
@@ -196,13 +200,51 @@ public class WeldInitiator extends AbstractWeldInitiator {
     }
 
     public WeldContainer initWeld(Object testInstance) {
+        return initWeld(testInstance, null);
+    }
+
+    /**
+     *
+     * @param testInstance
+     * @param cache the cache of running containers, may be {@code null}
+     * @return the container
+     * @see org.jboss.weld.spock.EnableWeld.Scope#GLOBAL
+     */
+    public WeldContainer initWeld(Object testInstance, ContainerCache cache) {
+        return initWeld(testInstance, cache, null);
+    }
+
+    /**
+     *
+     * @param testInstance
+     * @param cache the cache of running containers, may be {@code null}
+     * @param pool the pool of containers booted ahead of time, may be {@code null}
+     * @return the container
+     * @see org.jboss.weld.spock.WeldConfiguration#prefetch
+     */
+    public WeldContainer initWeld(Object testInstance, ContainerCache cache, ContainerPool pool) {
+        return initWeldContainer(getWeld(testInstance), cache, pool);
+    }
+
+    /**
+     * Boots the container of an upcoming specification in the background. This initiator must not be started afterwards.
+     *
+     * @param testInstance
+     * @param pool the pool of containers booted ahead of time
+     * @return {@code true} if the container is being booted, {@code false} otherwise
+     * @see org.jboss.weld.spock.WeldConfiguration#prefetch
+     */
+    public boolean warmUpWeld(Object testInstance, ContainerPool pool) {
+        return warmUpWeldContainer(getWeld(testInstance), pool);
+    }
+
+    private Weld getWeld(Object testInstance) {
         Weld weld = WeldInitiator.this.weld;
         if (weld == null) {
             // null in case of fromTestPackage() was used
             weld = createWeld().addPackage(false, testInstance.getClass());
         }
-
-        return initWeldContainer(weld);
+        return weld;
     }
 
     public void shutdownWeld() {
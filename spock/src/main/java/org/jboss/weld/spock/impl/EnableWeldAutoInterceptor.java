@@ -24,8 +24,10 @@ import static org.jboss.weld.spock.impl.ClassScanning.scanForRequiredBeanClasses
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.ContainerCache;
 import org.jboss.weld.spock.EnableWeld;
 import org.jboss.weld.spock.WeldInitiator;
 import org.jboss.weld.spock.WeldSetup;
@@ -81,7 +83,12 @@ class EnableWeldAutoInterceptor extends EnableWeldInterceptor {
     private final boolean explicitParamInjection;
 
     public EnableWeldAutoInterceptor(List<WeldSpockEnricher> weldSpockEnrichers, boolean explicitParamInjection) {
-        super(weldSpockEnrichers);
+        this(weldSpockEnrichers, explicitParamInjection, null);
+    }
+
+    public EnableWeldAutoInterceptor(List<WeldSpockEnricher> weldSpockEnrichers, boolean explicitParamInjection,
+            Supplier<ContainerCache> containerCache) {
+        super(weldSpockEnrichers, containerCache);
         this.explicitParamInjection = explicitParamInjection;
     }
 
@@ -106,6 +113,19 @@ class EnableWeldAutoInterceptor extends EnableWeldInterceptor {
                             "")));
         }
 
+        return createWeldInitiator(spec, testInstance, testInstance == invocation.getSharedInstance());
+    }
+
+    @Override
+    protected WeldInitiator predictWeldInit(SpecInfo spec, Specification sharedInstance) {
+        if (spec.getAllFields().stream().anyMatch(field -> field.isAnnotationPresent(WeldSetup.class))) {
+            // the specification fails anyway
+            return null;
+        }
+        return createWeldInitiator(spec, sharedInstance, true);
+    }
+
+    private WeldInitiator createWeldInitiator(SpecInfo spec, Specification testInstance, boolean shared) {
         Weld weld = WeldInitiator.createWeld();
         WeldInitiator.Builder builder = WeldInitiator.from(weld);
 
@@ -127,7 +147,7 @@ class EnableWeldAutoInterceptor extends EnableWeldInterceptor {
         for (WeldSpockEnricher enricher : weldSpockEnrichers) {
             String property = System.getProperty(enricher.getClass().getName());
             if (property == null || Boolean.parseBoolean(property)) {
-                enricher.enrich((testInstance == invocation.getSharedInstance()) ? null : testInstance, weld, builder);
+                enricher.enrich(shared ? null : testInstance, weld, builder);
             }
         }
 
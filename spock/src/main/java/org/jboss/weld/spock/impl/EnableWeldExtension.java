@@ -18,14 +18,18 @@
 package org.jboss.weld.spock.impl;
 
 import static org.jboss.weld.spock.EnableWeld.Scope.FEATURE;
+import static org.jboss.weld.spock.EnableWeld.Scope.GLOBAL;
 import static org.jboss.weld.spock.EnableWeld.Scope.ITERATION;
 import static org.jboss.weld.spock.EnableWeld.Scope.SPECIFICATION;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.jboss.weld.junit.ContainerAdmission;
+import org.jboss.weld.junit.ContainerCache;
 import org.jboss.weld.spock.DisableWeld;
 import org.jboss.weld.spock.EnableWeld;
 import org.jboss.weld.spock.EnableWeld.Scope;
@@ -68,6 +72,17 @@ import spock.lang.Shared;
  * If also no super specification has any of the annotations, the settings from the Spock configuration file
  * or the respective default settings are effective.
  *
+ * <p>
+ * The containers of specifications with scope {@code GLOBAL} are kept in a cache which is created when the first
+ * such specification runs and closed when the whole test run finishes. The cache keeps at most
+ * {@link WeldConfiguration#globalMaxIdle} idle containers. An automagic deployment contains the specification class
+ * itself and can never be reused by another specification, hence the container of an automagic specification is shut
+ * down like with scope {@code SPECIFICATION}.
+ *
+ * <p>
+ * If {@link WeldConfiguration#prefetch} is positive, the containers of the upcoming specifications with scope
+ * {@code SPECIFICATION} or {@code GLOBAL} are booted in the background in the order the specifications were visited.
+ *
  * @author Björn Kautler
  * @see EnableWeld
  * @see DisableWeld
@@ -76,6 +91,9 @@ import spock.lang.Shared;
 public class EnableWeldExtension implements IGlobalExtension {
     private final WeldConfiguration weldConfiguration;
     private volatile List<WeldSpockEnricher> weldSpockEnrichers;
+    private volatile ContainerCache containerCache;
+    private volatile SpecPrefetcher specPrefetcher;
+    private boolean stopped;
 
     public EnableWeldExtension(WeldConfiguration weldConfiguration) {
         this.weldConfiguration = weldConfiguration;
@@ -86,6 +104,45 @@ public class EnableWeldExtension implements IGlobalExtension {
         ImmutableList.Builder<WeldSpockEnricher> enrichers = ImmutableList.builder();
         ServiceLoader.load(WeldSpockEnricher.class).forEach(enrichers::add);
         weldSpockEnrichers = enrichers.build();
+        if (weldConfiguration.prefetch > 0) {
+            specPrefetcher = new SpecPrefetcher(weldConfiguration.prefetch);
+        }
+    }
+
+    @Override
+    public void stop() {
+        ContainerCache cache;
+        synchronized (this) {
+            stopped = true;
+            cache = containerCache;
+            containerCache = null;
+        }
+        if (cache != null) {
+            cache.close();
+        }
+        SpecPrefetcher prefetcher = specPrefetcher;
+        if (prefetcher != null) {
+            prefetcher.close();
+        }
+        ContainerAdmission admission = ContainerAdmission.getGlobal();
+        if (admission != null) {
+            admission.report();
+        }
+    }
+
+    private ContainerCache getContainerCache() {
+        ContainerCache cache = containerCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = containerCache;
+                if (cache == null) {
+                    // a closed cache shuts down the released containers immediately
+                    cache = new ContainerCache(stopped ? 0 : weldConfiguration.globalMaxIdle);
+                    containerCache = cache;
+                }
+            }
+        }
+        return cache;
     }
 
     @Override
@@ -132,11 +189,19 @@ public class EnableWeldExtension implements IGlobalExtension {
 
         // boot Weld around specification and inject shared fields
         EnableWeldInterceptor enableWeldInterceptorForSpec;
-        if (doEnableWeldForSpec && (specScope == SPECIFICATION)) {
+        if (doEnableWeldForSpec && ((specScope == SPECIFICATION) || (specScope == GLOBAL))) {
+            // an automagic deployment is bound to the specification class, it would never be reused
+            Supplier<ContainerCache> specContainerCache = ((specScope == GLOBAL) && !specAutomagic)
+                    ? this::getContainerCache
+                    : null;
             enableWeldInterceptorForSpec = specAutomagic
-                    ? new EnableWeldAutoInterceptor(weldSpockEnrichers, specExplicitParamInjection)
-                    : new EnableWeldManualInterceptor(weldSpockEnrichers);
+                    ? new EnableWeldAutoInterceptor(weldSpockEnrichers, specExplicitParamInjection, specContainerCache)
+                    : new EnableWeldManualInterceptor(weldSpockEnrichers, specContainerCache);
             spec.addInterceptor(enableWeldInterceptorForSpec);
+            if (specPrefetcher != null) {
+                specPrefetcher.register(spec, enableWeldInterceptorForSpec);
+                enableWeldInterceptorForSpec.enablePrefetch(specPrefetcher);
+            }
 
             // inject parameters for specification fixture methods
             Stream
@@ -198,10 +263,22 @@ public class EnableWeldExtension implements IGlobalExtension {
             // boot Weld around feature or iteration and inject shared fields
             switch (featureScope) {
                 case SPECIFICATION:
+                case GLOBAL:
                     enableWeldInterceptorForFeature = enableWeldInterceptorForSpec;
                     enableWeldInterceptorForFeature.handleFeature(feature);
                     break;
 
+                case ITERATION_CONTEXTS:
+                    enableWeldInterceptorForFeature = featureAutomagic
+                            ? new EnableWeldAutoInterceptor(weldSpockEnrichers, featureExplicitParamInjection)
+                            : new EnableWeldManualInterceptor(weldSpockEnrichers);
+                    enableWeldInterceptorForFeature.handleFeature(feature);
+                    feature.addInterceptor(enableWeldInterceptorForFeature);
+                    // registered before the test instance injector, i.e. the contexts are reset after the injected
+                    // instances were released
+                    feature.addIterationInterceptor(enableWeldInterceptorForFeature.getContextResetter());
+                    break;
+
                 case FEATURE:
                     enableWeldInterceptorForFeature = featureAutomagic
                             ? new EnableWeldAutoInterceptor(weldSpockEnrichers, featureExplicitParamInjection)
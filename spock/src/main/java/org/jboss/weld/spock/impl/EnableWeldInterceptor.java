@@ -28,41 +28,86 @@ import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 
 import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.junit.ContainerCache;
 import org.jboss.weld.spock.WeldInitiator;
 import org.jboss.weld.spock.WeldSpockEnricher;
 import org.spockframework.runtime.extension.IMethodInterceptor;
 import org.spockframework.runtime.extension.IMethodInvocation;
 import org.spockframework.runtime.model.FeatureInfo;
+import org.spockframework.runtime.model.SpecInfo;
+
+import spock.lang.Specification;
 
 /**
  * A Spock interceptor, that serves as base for the manual and automatic interceptors and has the common logic.
  * It first calls the custom logic of the subclass, then adds the shared instance as injection target, initializes
  * the Weld container and after invocation proceeded, shuts down the container. It also provides methods to get a
- * test instance injector and a parameter injector as these need to be attached to varying extension points,
- * depending on the annotation configuration.
+ * test instance injector, a parameter injector, and a context resetter as these need to be attached to varying
+ * extension points, depending on the annotation configuration.
  *
  * @author Björn Kautler
  */
 abstract class EnableWeldInterceptor implements IMethodInterceptor {
     protected final List<WeldSpockEnricher> weldSpockEnrichers;
+    private final Supplier<ContainerCache> containerCache;
     private final Map<Object, WeldInitiator> weldInitiators = synchronizedMap(new WeakHashMap<>());
     private final List<FeatureInfo> handledFeatures = new CopyOnWriteArrayList<>();
+    private volatile SpecPrefetcher prefetcher;
 
     public EnableWeldInterceptor(List<WeldSpockEnricher> weldSpockEnrichers) {
+        this(weldSpockEnrichers, null);
+    }
+
+    /**
+     * @param weldSpockEnrichers the enrichers to apply
+     * @param containerCache the supplier of the cache the container is acquired from and released to instead of
+     *        booting and shutting it down, or {@code null} if the container should not be cached
+     */
+    public EnableWeldInterceptor(List<WeldSpockEnricher> weldSpockEnrichers, Supplier<ContainerCache> containerCache) {
         this.weldSpockEnrichers = weldSpockEnrichers;
+        this.containerCache = containerCache;
     }
 
     protected abstract WeldInitiator weldInit(IMethodInvocation invocation);
 
+    /**
+     * Predicts the Weld initiator of an upcoming specification, so that its container can be booted in the background.
+     * The prediction has to be equal to the result of {@link #weldInit(IMethodInvocation)} for a specification scoped
+     * interceptor, otherwise the container booted in the background is not used.
+     *
+     * @param spec the upcoming specification
+     * @param sharedInstance a new instance of the specification, its fields are not initialized
+     * @return the predicted Weld initiator, or {@code null} if the deployment cannot be predicted
+     */
+    protected WeldInitiator predictWeldInit(SpecInfo spec, Specification sharedInstance) {
+        return null;
+    }
+
+    /**
+     * Makes this specification scoped interceptor use the containers booted in the background and boot the containers of
+     * the upcoming specifications.
+     *
+     * @param prefetcher the prefetcher of the upcoming specifications
+     */
+    void enablePrefetch(SpecPrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
     @Override
     public void intercept(IMethodInvocation invocation) throws Throwable {
         WeldInitiator weldInitiator = weldInit(invocation);
         weldInitiator.addObjectToInjectInto(invocation.getSharedInstance());
-        weldInitiator.initWeld(invocation.getInstance());
+        SpecPrefetcher currentPrefetcher = prefetcher;
+        weldInitiator.initWeld(invocation.getInstance(), (containerCache == null) ? null : containerCache.get(),
+                (currentPrefetcher == null) ? null : currentPrefetcher.getContainerPool());
+        if (currentPrefetcher != null) {
+            currentPrefetcher.warmUpUpcoming(invocation.getSpec());
+        }
         try {
             Object id = (invocation.getIteration() == null) ? null : invocation.getInstance();
             weldInitiators.put(id, weldInitiator);
@@ -87,6 +132,19 @@ abstract class EnableWeldInterceptor implements IMethodInterceptor {
         };
     }
 
+    public IMethodInterceptor getContextResetter() {
+        return invocation -> {
+            try {
+                invocation.proceed();
+            } finally {
+                WeldInitiator weldInitiator = weldInitiators.get(null);
+                if ((weldInitiator != null) && weldInitiator.isRunning()) {
+                    weldInitiator.resetContexts();
+                }
+            }
+        };
+    }
+
     public void handleFeature(FeatureInfo feature) {
         handledFeatures.add(feature);
     }
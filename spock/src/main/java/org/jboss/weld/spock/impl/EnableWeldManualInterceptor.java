@@ -22,8 +22,10 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.junit.ContainerCache;
 import org.jboss.weld.spock.EnableWeld;
 import org.jboss.weld.spock.WeldInitiator;
 import org.jboss.weld.spock.WeldSetup;
@@ -31,6 +33,7 @@ import org.jboss.weld.spock.WeldSpockEnricher;
 import org.spockframework.runtime.InvalidSpecException;
 import org.spockframework.runtime.extension.IMethodInvocation;
 import org.spockframework.runtime.model.FieldInfo;
+import org.spockframework.runtime.model.SpecInfo;
 
 import spock.lang.Shared;
 import spock.lang.Specification;
@@ -39,9 +42,9 @@ import spock.lang.Specification;
  * A Spock interceptor that is used for manual configuration of the booted Weld container.
  *
  * <p>
- * If the interceptor is for scope {@code SPECIFICATION}, or for a data-driven feature with scope {@code FEATURE},
- * {@link Shared @Shared} fields of the specification and its super specifications are searched for exactly one
- * field that is annotated with {@link WeldSetup @WeldSetup}.
+ * If the interceptor is for scope {@code SPECIFICATION}, or for a data-driven feature with scope {@code FEATURE} or
+ * {@code ITERATION_CONTEXTS}, {@link Shared @Shared} fields of the specification and its super specifications are
+ * searched for exactly one field that is annotated with {@link WeldSetup @WeldSetup}.
  *
  * <p>
  * If multiple such fields are found, an exception is thrown.
@@ -66,6 +69,10 @@ class EnableWeldManualInterceptor extends EnableWeldInterceptor {
         super(weldSpockEnrichers);
     }
 
+    public EnableWeldManualInterceptor(List<WeldSpockEnricher> weldSpockEnrichers, Supplier<ContainerCache> containerCache) {
+        super(weldSpockEnrichers, containerCache);
+    }
+
     @Override
     protected WeldInitiator weldInit(IMethodInvocation invocation) {
         Specification spec = (Specification) invocation.getInstance();
@@ -81,20 +88,7 @@ class EnableWeldManualInterceptor extends EnableWeldInterceptor {
 
         switch (weldSetupFields.size()) {
             case 0:
-                Weld weld = WeldInitiator.createWeld();
-                WeldInitiator.Builder builder = WeldInitiator.from(weld);
-
-                weld.addPackage(false, invocation.getSpec().getReflection());
-
-                // Apply discovered enrichers
-                for (WeldSpockEnricher enricher : weldSpockEnrichers) {
-                    String property = System.getProperty(enricher.getClass().getName());
-                    if (property == null || Boolean.parseBoolean(property)) {
-                        enricher.enrich(shared ? null : spec, weld, builder);
-                    }
-                }
-
-                return builder.build();
+                return createDefaultWeldInitiator(invocation.getSpec(), shared ? null : spec);
 
             case 1:
                 FieldInfo weldSetupField = weldSetupFields.get(0);
@@ -119,4 +113,35 @@ class EnableWeldManualInterceptor extends EnableWeldInterceptor {
                                 "Multiple @WeldSetup annotated fields found, only one is allowed! Fields found:\n", "")));
         }
     }
+
+    /**
+     * Only the default deployment can be predicted, the value of a {@link WeldSetup @WeldSetup} field is not known before
+     * the specification runs.
+     */
+    @Override
+    protected WeldInitiator predictWeldInit(SpecInfo spec, Specification sharedInstance) {
+        boolean hasWeldSetupField = spec
+                .getAllFields()
+                .stream()
+                .filter(field -> field.isShared() || field.isStatic())
+                .anyMatch(field -> field.isAnnotationPresent(WeldSetup.class));
+        return hasWeldSetupField ? null : createDefaultWeldInitiator(spec, null);
+    }
+
+    private WeldInitiator createDefaultWeldInitiator(SpecInfo spec, Specification testInstance) {
+        Weld weld = WeldInitiator.createWeld();
+        WeldInitiator.Builder builder = WeldInitiator.from(weld);
+
+        weld.addPackage(false, spec.getReflection());
+
+        // Apply discovered enrichers
+        for (WeldSpockEnricher enricher : weldSpockEnrichers) {
+            String property = System.getProperty(enricher.getClass().getName());
+            if (property == null || Boolean.parseBoolean(property)) {
+                enricher.enrich(testInstance, weld, builder);
+            }
+        }
+
+        return builder.build();
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.spock.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.weld.junit.ContainerPool;
+import org.jboss.weld.spock.WeldConfiguration;
+import org.jboss.weld.spock.WeldInitiator;
+import org.spockframework.runtime.model.SpecInfo;
+
+import spock.lang.Specification;
+
+/**
+ * Boots the containers of the upcoming specifications in the background while the current specification runs. The
+ * specifications are expected to run in the order they were visited by {@link EnableWeldExtension}, a misprediction only
+ * costs a container which is booted in vain.
+ *
+ * @see WeldConfiguration#prefetch
+ */
+class SpecPrefetcher implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(SpecPrefetcher.class.getName());
+
+    private final int lookAhead;
+    private final List<SpecInfo> specs = new CopyOnWriteArrayList<>();
+    private final Map<SpecInfo, EnableWeldInterceptor> interceptors = new ConcurrentHashMap<>();
+    private final Set<SpecInfo> claimed = ConcurrentHashMap.newKeySet();
+    private ContainerPool containerPool;
+    private boolean closed;
+
+    /**
+     * @param lookAhead the maximum number of upcoming specifications whose containers are booted in the background
+     */
+    SpecPrefetcher(int lookAhead) {
+        this.lookAhead = lookAhead;
+    }
+
+    void register(SpecInfo spec, EnableWeldInterceptor interceptor) {
+        specs.add(spec);
+        interceptors.put(spec, interceptor);
+    }
+
+    /**
+     * @return the pool the containers are booted in, or {@code null} if the prefetcher was closed
+     */
+    synchronized ContainerPool getContainerPool() {
+        if (closed) {
+            return null;
+        }
+        if (containerPool == null) {
+            containerPool = new ContainerPool(lookAhead, Runtime.getRuntime().maxMemory() / 4 * 3);
+        }
+        return containerPool;
+    }
+
+    /**
+     * Boots the containers of the specifications following the given one, each upcoming specification is considered once.
+     *
+     * @param current the specification which is being executed
+     */
+    void warmUpUpcoming(SpecInfo current) {
+        ContainerPool pool = getContainerPool();
+        int index = specs.indexOf(current);
+        if ((pool == null) || (index < 0)) {
+            return;
+        }
+        for (SpecInfo spec : specs.subList(index + 1, Math.min(index + 1 + lookAhead, specs.size()))) {
+            if (!pool.hasCapacity()) {
+                return;
+            }
+            if (claimed.add(spec)) {
+                warmUp(spec, interceptors.get(spec), pool);
+            }
+        }
+    }
+
+    private static void warmUp(SpecInfo spec, EnableWeldInterceptor interceptor, ContainerPool pool) {
+        try {
+            Specification sharedInstance = (Specification) spec.getReflection().getDeclaredConstructor().newInstance();
+            WeldInitiator predicted = interceptor.predictWeldInit(spec, sharedInstance);
+            if (predicted != null) {
+                predicted.warmUpWeld(sharedInstance, pool);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // the specification boots its container itself and reports the problem
+            LOGGER.log(Level.FINE, "Unable to predict the deployment of " + spec.getDisplayName(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        ContainerPool pool;
+        synchronized (this) {
+            closed = true;
+            pool = containerPool;
+            containerPool = null;
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.spock.basic
+
+import org.jboss.weld.spock.EnableWeld
+import org.jboss.weld.spock.WeldInitiator
+import org.jboss.weld.spock.WeldSetup
+import spock.lang.Specification
+
+@EnableWeld
+class LazyInitializationTest extends Specification {
+    @WeldSetup
+    def weld = WeldInitiator.from(Foo).initializeLazily().build()
+
+    def 'container should not be initialized if not used'() {
+        expect:
+            !weld.running
+    }
+
+    def 'container should be initialized on first use'() {
+        given:
+            assert !weld.running
+
+        expect:
+            weld.select(Foo).get().bar == 'baz'
+            weld.running
+    }
+
+    def 'container should be initialized for parameter injection'(Foo foo) {
+        expect:
+            weld.running
+            foo.bar == 'baz'
+    }
+}
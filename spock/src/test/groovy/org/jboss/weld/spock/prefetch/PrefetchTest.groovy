@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.spock.prefetch
+
+import jakarta.enterprise.inject.spi.BeanManager
+import jakarta.inject.Inject
+import org.jboss.weld.bean.builtin.BeanManagerProxy
+import org.jboss.weld.environment.se.WeldContainer
+import org.jboss.weld.spock.EnableWeld
+import org.jboss.weld.spock.auto.AddBeanClasses
+import spock.lang.Isolated
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.EmbeddedSpecRunner
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static org.jboss.weld.spock.EnableWeld.Scope.SPECIFICATION
+
+@Isolated
+class PrefetchTest extends Specification {
+    static final List<String> CONTAINER_IDS = new CopyOnWriteArrayList<>()
+
+    def 'the containers of the upcoming specifications should be booted in the background'() {
+        given:
+            CONTAINER_IDS.clear()
+            def runner = new EmbeddedSpecRunner()
+            runner.configurationScript = {
+                'org.jboss.weld' {
+                    prefetch 2
+                }
+            }
+
+        when:
+            def result = runner.runClasses([FirstSpec, SecondSpec, ThirdSpec])
+
+        then:
+            result.testsSucceededCount == 3
+            CONTAINER_IDS.size() == 3
+            CONTAINER_IDS.unique(false).size() == 3
+
+        and: 'the first specification boots its container, the following ones use the containers booted in the background'
+            !BootObserver.BOOT_THREADS[CONTAINER_IDS[0]].startsWith('weld-warm-pool-')
+            BootObserver.BOOT_THREADS[CONTAINER_IDS[1]].startsWith('weld-warm-pool-')
+            BootObserver.BOOT_THREADS[CONTAINER_IDS[2]].startsWith('weld-warm-pool-')
+
+        and: 'all the containers are shut down at the end of the run'
+            CONTAINER_IDS.every { WeldContainer.instance(it) == null || !WeldContainer.instance(it).isRunning() }
+    }
+
+    @EnableWeld(automagic = true, scope = SPECIFICATION)
+    @AddBeanClasses(BootObserver)
+    static class FirstSpec extends Specification {
+        @Shared
+        @Inject
+        BeanManager beanManager
+
+        def 'record container'() {
+            expect:
+                CONTAINER_IDS << BeanManagerProxy.unwrap(beanManager).contextId
+        }
+    }
+
+    @EnableWeld(automagic = true, scope = SPECIFICATION)
+    @AddBeanClasses(BootObserver)
+    static class SecondSpec extends Specification {
+        @Shared
+        @Inject
+        BeanManager beanManager
+
+        def 'record container'() {
+            expect:
+                CONTAINER_IDS << BeanManagerProxy.unwrap(beanManager).contextId
+        }
+    }
+
+    @EnableWeld(scope = SPECIFICATION)
+    static class ThirdSpec extends Specification {
+        @Shared
+        @Inject
+        BeanManager beanManager
+
+        def 'record container'() {
+            expect:
+                CONTAINER_IDS << BeanManagerProxy.unwrap(beanManager).contextId
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.spock.scope
+
+import jakarta.enterprise.inject.spi.BeanManager
+import jakarta.inject.Inject
+import org.jboss.weld.bean.builtin.BeanManagerProxy
+import org.jboss.weld.environment.se.WeldContainer
+import org.jboss.weld.junit.ContainerCache
+import org.jboss.weld.spock.EnableWeld
+import org.jboss.weld.spock.WeldInitiator
+import org.jboss.weld.spock.WeldSetup
+import spock.lang.Isolated
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.EmbeddedSpecRunner
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static org.jboss.weld.spock.EnableWeld.Scope.GLOBAL
+
+@Isolated
+class GlobalWeldScopeTest extends Specification {
+    static final List<WeldContainer> CONTAINERS = new CopyOnWriteArrayList<>()
+    static final List<Boolean> RUNNING = new CopyOnWriteArrayList<>()
+
+    def 'specifications with identical deployments should use the same container with scope GLOBAL'() {
+        given:
+            CONTAINERS.clear()
+            def runner = new EmbeddedSpecRunner()
+            runner.configurationScript = {
+                'org.jboss.weld' {
+                    enabled true
+                    scope GLOBAL
+                }
+            }
+
+        when:
+            // the specifications run in a new context, i.e. the global extensions are stopped afterwards
+            def result = runner.runClasses([AnnotatedSpec, ConfiguredSpec, OtherDeploymentSpec])
+
+        then:
+            result.testsSucceededCount == 3
+            CONTAINERS.size() == 3
+            CONTAINERS[0].is(CONTAINERS[1])
+            !CONTAINERS[0].is(CONTAINERS[2])
+
+        and: 'all the containers are shut down at the end of the run'
+            CONTAINERS.every { !it.isRunning() }
+    }
+
+    def 'at most globalMaxIdle idle containers should be kept with scope GLOBAL'() {
+        given:
+            CONTAINERS.clear()
+            def runner = new EmbeddedSpecRunner()
+            runner.configurationScript = {
+                'org.jboss.weld' {
+                    enabled true
+                    scope GLOBAL
+                    globalMaxIdle 1
+                }
+            }
+
+        when:
+            def result = runner.runClasses([ConfiguredSpec, OtherDeploymentSpec, AnnotatedSpec])
+
+        then: 'the least recently used container was shut down'
+            result.testsSucceededCount == 3
+            CONTAINERS.size() == 3
+            !CONTAINERS[0].is(CONTAINERS[2])
+            CONTAINERS.every { !it.isRunning() }
+    }
+
+    def 'the container of an automagic specification should not be kept with scope GLOBAL'() {
+        given:
+            CONTAINERS.clear()
+            RUNNING.clear()
+            def runner = new EmbeddedSpecRunner()
+            runner.configurationScript = {
+                'org.jboss.weld' {
+                    enabled true
+                    scope GLOBAL
+                }
+            }
+
+        when:
+            def result = runner.runClasses([AutomagicSpec, ProbeSpec])
+
+        then:
+            result.testsSucceededCount == 2
+            CONTAINERS.size() == 1
+            RUNNING == [false]
+    }
+
+    def 'a released container should be kept idle until it is acquired again'() {
+        given:
+            def cache = new ContainerCache(1)
+            def first = WeldInitiator.of(PlainBean)
+            def second = WeldInitiator.of(PlainBean)
+
+        when:
+            def container = first.initWeld(this, cache)
+
+        then:
+            cache.size() == 0
+
+        when:
+            first.shutdownWeld()
+
+        then:
+            cache.size() == 1
+            container.isRunning()
+
+        when:
+            def reused = second.initWeld(this, cache)
+
+        then:
+            reused.is(container)
+            cache.size() == 0
+
+        cleanup:
+            second.shutdownWeld()
+            cache.close()
+    }
+
+    @EnableWeld(scope = GLOBAL)
+    static class AnnotatedSpec extends Specification {
+        @Shared
+        @WeldSetup
+        def initiator = WeldInitiator.of(PlainBean)
+
+        def 'record container'() {
+            expect:
+                CONTAINERS << initiator.container()
+        }
+    }
+
+    static class ConfiguredSpec extends Specification {
+        @Shared
+        @WeldSetup
+        def initiator = WeldInitiator.of(PlainBean)
+
+        def 'record container'() {
+            expect:
+                CONTAINERS << initiator.container()
+        }
+    }
+
+    static class OtherDeploymentSpec extends Specification {
+        @Shared
+        @WeldSetup
+        def initiator = WeldInitiator.of(PlainBean, GlobalWeldScopeTest)
+
+        def 'record container'() {
+            expect:
+                CONTAINERS << initiator.container()
+        }
+    }
+
+    @EnableWeld(automagic = true, scope = GLOBAL)
+    static class AutomagicSpec extends Specification {
+        @Shared
+        @Inject
+        BeanManager beanManager
+
+        def 'record container'() {
+            expect:
+                CONTAINERS << WeldContainer.instance(BeanManagerProxy.unwrap(beanManager).contextId)
+        }
+    }
+
+    static class ProbeSpec extends Specification {
+        @Shared
+        @WeldSetup
+        def initiator = WeldInitiator.of(PlainBean)
+
+        def 'record whether the previous containers are running'() {
+            expect:
+                RUNNING.addAll(CONTAINERS*.isRunning())
+        }
+    }
+}
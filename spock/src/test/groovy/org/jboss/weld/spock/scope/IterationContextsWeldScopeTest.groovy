@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.spock.scope
+
+import jakarta.enterprise.context.RequestScoped
+import jakarta.inject.Inject
+import org.jboss.weld.spock.EnableWeld
+import org.jboss.weld.spock.WeldInitiator
+import org.jboss.weld.spock.WeldSetup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import static org.jboss.weld.spock.EnableWeld.Scope.ITERATION_CONTEXTS
+
+class IterationContextsWeldScopeTest extends Specification {
+    @Shared
+    @WeldSetup
+    def initiator = WeldInitiator
+            .from(PlainBean, RequestScopedBean)
+            .activate(RequestScoped)
+            .build()
+
+    @Shared
+    def containerIds = [] as Set
+
+    @Shared
+    def requestScopedBeanIds = [] as Set
+
+    @Inject
+    RequestScopedBean requestScopedBean
+
+    @EnableWeld(scope = ITERATION_CONTEXTS)
+    def 'all iterations should use the same container but fresh contexts with scope ITERATION_CONTEXTS'() {
+        when:
+            containerIds << initiator.container().id
+            requestScopedBeanIds << requestScopedBean.id
+
+        then:
+            containerIds.size() == 1
+            requestScopedBeanIds.size() == i
+
+        where:
+            i << (1..3)
+    }
+}